@@ -0,0 +1,60 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.environment.Environment;
+import io.github.srcimon.screwbox.core.loop.Loop;
+
+import java.lang.reflect.Proxy;
+import java.util.Random;
+
+/**
+ * Utilities to create reproducible scenes for benchmarks. All scenes are created using a {@link Random} with a
+ * fixed seed, so every run measures the same scene.
+ */
+final class BenchmarkScenes {
+
+    static final long SEED = 4711;
+
+    private BenchmarkScenes() {
+    }
+
+    static Random random() {
+        return new Random(SEED);
+    }
+
+    static Bounds randomBounds(final Random random, final double areaSize, final double minSize, final double maxSize) {
+        return Bounds.atOrigin(
+                random.nextDouble() * areaSize,
+                random.nextDouble() * areaSize,
+                minSize + random.nextDouble() * (maxSize - minSize),
+                minSize + random.nextDouble() * (maxSize - minSize));
+    }
+
+    /**
+     * Creates an {@link Engine} that only provides the given {@link Environment} and a {@link Loop} with a constant
+     * delta. Allows running entity systems without opening a window.
+     */
+    static Engine engineWith(final Environment environment, final double delta) {
+        final Loop loop = proxy(Loop.class, method -> "delta".equals(method) ? delta : null);
+        return proxy(Engine.class, method -> switch (method) {
+            case "environment" -> environment;
+            case "loop" -> loop;
+            default -> null;
+        });
+    }
+
+    private interface Answer {
+        Object forMethod(String name);
+    }
+
+    private static <T> T proxy(final Class<T> type, final Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            final Object result = answer.forMethod(method.getName());
+            if (result == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + "() is not supported in benchmarks");
+            }
+            return result;
+        }));
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.EntityManager;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.environment.rendering.RenderComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EntityManagerBenchmark {
+
+    private static final Archetype PHYSICS = Archetype.ofSpacial(PhysicsComponent.class);
+    private static final Archetype RENDERED_COLLIDERS = Archetype.ofSpacial(ColliderComponent.class, RenderComponent.class);
+
+    @Param({"1000", "10000"})
+    int entityCount;
+
+    private EntityManager entityManager;
+    private List<Entity> changedEntities;
+
+    @Setup
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        entityManager = new EntityManager();
+        for (int i = 0; i < entityCount; i++) {
+            entityManager.addEntity(createEntity(random));
+        }
+        changedEntities = new ArrayList<>();
+        for (int i = 0; i < entityCount / 10; i++) {
+            changedEntities.add(createEntity(random));
+        }
+        entityManager.entitiesMatching(PHYSICS);
+        entityManager.entitiesMatching(RENDERED_COLLIDERS);
+    }
+
+    @Benchmark
+    public int entitiesMatching() {
+        return entityManager.entitiesMatching(PHYSICS).size() + entityManager.entitiesMatching(RENDERED_COLLIDERS).size();
+    }
+
+    @Benchmark
+    public int pickUpChanges() {
+        entityManager.delayChanges();
+        for (final var entity : changedEntities) {
+            entityManager.addEntity(entity);
+        }
+        entityManager.pickUpChanges();
+
+        entityManager.delayChanges();
+        for (final var entity : changedEntities) {
+            entityManager.removeEntity(entity);
+        }
+        entityManager.pickUpChanges();
+        return entityManager.allEntities().size();
+    }
+
+    private static Entity createEntity(final Random random) {
+        final Entity entity = new Entity().add(new TransformComponent(BenchmarkScenes.randomBounds(random, 4000, 8, 32)));
+        if (random.nextBoolean()) {
+            entity.add(new PhysicsComponent());
+        }
+        if (random.nextBoolean()) {
+            entity.add(new ColliderComponent());
+        }
+        if (random.nextBoolean()) {
+            entity.add(new RenderComponent());
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.physics.DijkstraAlgorithm;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+import io.github.srcimon.screwbox.core.physics.IndexedAStarAlgorithm;
+import io.github.srcimon.screwbox.core.physics.PathfindingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares searching a path per chaser with sampling a single {@link FlowField} shared by all chasers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class FlowFieldBenchmark {
+
+    private static final int GRID_SIZE = 256;
+
+    @Param({"10", "100"})
+    int chaserCount;
+
+    private final PathfindingAlgorithm pathfinding = new IndexedAStarAlgorithm();
+    private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+    private final List<Grid.Node> chasers = new ArrayList<>();
+    private Grid grid;
+    private Grid.Node target;
+
+    @Setup
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        grid = new Grid(Bounds.atOrigin(0, 0, GRID_SIZE * 16.0, GRID_SIZE * 16.0), 16);
+        for (int x = 0; x < GRID_SIZE; x++) {
+            for (int y = 0; y < GRID_SIZE; y++) {
+                if (random.nextDouble() < 0.2) {
+                    grid.block(x, y);
+                }
+            }
+        }
+        target = grid.nodeAt(GRID_SIZE / 2, GRID_SIZE / 2);
+        grid.freeArea(grid.worldArea(target));
+        final FlowField flowField = dijkstra.flowField(grid, target);
+        while (chasers.size() < chaserCount) {
+            final Grid.Node chaser = grid.nodeAt(random.nextInt(GRID_SIZE), random.nextInt(GRID_SIZE));
+            if (flowField.distanceMap().isReachable(chaser)) {
+                chasers.add(chaser);
+            }
+        }
+    }
+
+    @Benchmark
+    public void findPathPerChaser(final Blackhole blackhole) {
+        for (final var chaser : chasers) {
+            blackhole.consume(pathfinding.findPath(grid, chaser, target));
+        }
+    }
+
+    @Benchmark
+    public void sampleSharedFlowField(final Blackhole blackhole) {
+        final FlowField flowField = dijkstra.flowField(grid, target);
+        for (final var chaser : chasers) {
+            final Vector position = grid.worldPosition(chaser);
+            blackhole.consume(flowField.nextPosition(position));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.graphics.internal.LightPhysics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the calculation of light areas using raycasting and the angular sweep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LightPhysicsBenchmark {
+
+    private static final Bounds LIGHT_BOX = Bounds.atPosition(500, 500, 400, 400);
+
+    @Param({"10", "100", "1000"})
+    int shadowCasterCount;
+
+    private LightPhysics lightPhysics;
+
+    @Setup
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        lightPhysics = new LightPhysics();
+        for (int i = 0; i < shadowCasterCount; i++) {
+            lightPhysics.addShadowCaster(BenchmarkScenes.randomBounds(random, 1000, 8, 32));
+        }
+    }
+
+    @Benchmark
+    public List<?> raycast() {
+        return lightPhysics.calculateArea(LIGHT_BOX, 0, 360);
+    }
+
+    @Benchmark
+    public List<?> angularSweep() {
+        return lightPhysics.calculateVisibilityPolygon(LIGHT_BOX, 0, 360);
+    }
+
+    @Benchmark
+    public List<?> raycastCone() {
+        return lightPhysics.calculateArea(LIGHT_BOX, 45, 135);
+    }
+}
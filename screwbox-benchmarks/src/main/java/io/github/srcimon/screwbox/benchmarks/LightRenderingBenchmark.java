@@ -0,0 +1,99 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.internal.DefaultCamera;
+import io.github.srcimon.screwbox.core.graphics.internal.DefaultCanvas;
+import io.github.srcimon.screwbox.core.graphics.internal.DefaultLight;
+import io.github.srcimon.screwbox.core.graphics.internal.DefaultViewport;
+import io.github.srcimon.screwbox.core.graphics.internal.OffscreenSurface;
+import io.github.srcimon.screwbox.core.graphics.internal.ViewportManager;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks rendering all lights of a frame into the lightmap and onto the screen using either the AWT based or the
+ * raster lightmap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LightRenderingBenchmark {
+
+    private static final Size RESOLUTION = Size.of(1920, 1080);
+    private static final Bounds ORTHOGRAPHIC_WALL = Bounds.atOrigin(-560, -140, 200, 100);
+
+    @Param({"10", "100"})
+    int lightCount;
+
+    @Param({"false", "true"})
+    boolean useRasterLightmap;
+
+    private final OffscreenSurface surface = new OffscreenSurface(() -> RESOLUTION);
+    private final DefaultRenderer renderer = new DefaultRenderer();
+    private final List<Vector> positions = new ArrayList<>();
+    private final List<Integer> radiuses = new ArrayList<>();
+    private ExecutorService executor;
+    private DefaultLight light;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        final var canvas = new DefaultCanvas(renderer, new ScreenBounds(RESOLUTION));
+        final var viewportManager = new ViewportManager(new DefaultViewport(canvas, new DefaultCamera(canvas)), renderer);
+        final var configuration = new GraphicsConfiguration()
+                .setLightEnabled(true)
+                .setUseRasterLightmap(useRasterLightmap);
+        light = new DefaultLight(configuration, viewportManager, executor);
+
+        final Random random = BenchmarkScenes.random();
+        for (int i = 0; i < lightCount; i++) {
+            positions.add(Vector.of(
+                    random.nextInt(RESOLUTION.width()) - RESOLUTION.width() / 2.0,
+                    random.nextInt(RESOLUTION.height()) - RESOLUTION.height() / 2.0));
+            radiuses.add(40 + random.nextInt(160));
+        }
+    }
+
+    @Benchmark
+    public void renderFrame() {
+        renderer.updateContext(surface::nextFrameGraphics);
+        light.update();
+        for (int i = 0; i < lightCount; i++) {
+            light.addPointLight(positions.get(i), radiuses.get(i), Color.BLACK);
+            light.addSpotLight(positions.get(i), radiuses.get(i) / 2.0, Color.BLACK);
+        }
+        light.addOrthographicWall(ORTHOGRAPHIC_WALL);
+        light.render();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.internal.OffscreenSurface;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class OffscreenRenderingBenchmark {
+
+    private static final Size RESOLUTION = Size.of(1280, 720);
+    private static final ScreenBounds CLIP = new ScreenBounds(RESOLUTION);
+    private static final Sprite SPRITE = Sprite.placeholder(Color.RED, 16);
+
+    @Param({"1000", "10000"})
+    int spriteCount;
+
+    private final OffscreenSurface surface = new OffscreenSurface(() -> RESOLUTION);
+    private final DefaultRenderer renderer = new DefaultRenderer();
+    private Offset[] offsets;
+
+    @Setup
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        offsets = new Offset[spriteCount];
+        for (int i = 0; i < spriteCount; i++) {
+            offsets[i] = Offset.at(random.nextInt(RESOLUTION.width()), random.nextInt(RESOLUTION.height()));
+        }
+    }
+
+    @Benchmark
+    public void renderFrame() {
+        renderer.updateContext(surface::nextFrameGraphics);
+        renderer.drawRectangle(Offset.origin(), RESOLUTION, RectangleDrawOptions.filled(Color.BLACK), CLIP);
+        for (final Offset offset : offsets) {
+            renderer.drawSprite(SPRITE, offset, SpriteDrawOptions.originalSize(), CLIP);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.physics.AStarAlgorithm;
+import io.github.srcimon.screwbox.core.physics.DijkstraAlgorithm;
+import io.github.srcimon.screwbox.core.physics.HierarchicalPathfindingAlgorithm;
+import io.github.srcimon.screwbox.core.physics.IndexedAStarAlgorithm;
+import io.github.srcimon.screwbox.core.physics.JumpPointSearchAlgorithm;
+import io.github.srcimon.screwbox.core.physics.PathfindingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PathfindingBenchmark {
+
+    public enum Algorithm {
+        A_STAR,
+        INDEXED_A_STAR,
+        JUMP_POINT_SEARCH,
+        DIJKSTRA,
+        HIERARCHICAL
+    }
+
+    @Param({"32", "128", "512", "1000"})
+    int gridSize;
+
+    @Param({"0.05", "0.25"})
+    double blockedRatio;
+
+    @Param({"A_STAR", "INDEXED_A_STAR", "JUMP_POINT_SEARCH", "DIJKSTRA", "HIERARCHICAL"})
+    Algorithm algorithmType;
+
+    private PathfindingAlgorithm algorithm;
+    private Grid grid;
+    private Grid.Node start;
+    private Grid.Node end;
+
+    @Setup
+    public void setup() {
+        algorithm = switch (algorithmType) {
+            case A_STAR -> new AStarAlgorithm();
+            case INDEXED_A_STAR -> new IndexedAStarAlgorithm();
+            case JUMP_POINT_SEARCH -> new JumpPointSearchAlgorithm();
+            case DIJKSTRA -> new DijkstraAlgorithm();
+            case HIERARCHICAL -> new HierarchicalPathfindingAlgorithm();
+        };
+        final Random random = BenchmarkScenes.random();
+        grid = new Grid(Bounds.atOrigin(0, 0, gridSize * 16.0, gridSize * 16.0), 16);
+        for (int x = 0; x < gridSize; x++) {
+            for (int y = 0; y < gridSize; y++) {
+                if (random.nextDouble() < blockedRatio) {
+                    grid.block(x, y);
+                }
+            }
+        }
+        start = grid.nodeAt(0, 0);
+        end = grid.nodeAt(gridSize - 1, gridSize - 1);
+        // keep corners open, otherwise start or end might be enclosed and the search ends immediately
+        grid.freeArea(Bounds.atOrigin(0, 0, 48, 48));
+        grid.freeArea(Bounds.atOrigin((gridSize - 3) * 16.0, (gridSize - 3) * 16.0, 48, 48));
+        if (new IndexedAStarAlgorithm().findPath(grid, start, end).isEmpty()) {
+            throw new IllegalStateException("benchmark grid doesn't contain a path");
+        }
+    }
+
+    @Benchmark
+    public List<Grid.Node> findPath() {
+        return algorithm.findPath(grid, start, end);
+    }
+}
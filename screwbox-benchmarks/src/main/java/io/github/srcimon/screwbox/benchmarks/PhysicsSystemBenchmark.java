@@ -0,0 +1,71 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PhysicsSystemBenchmark {
+
+    private static final double DELTA = 1.0 / 60;
+
+    @Param({"100", "1000"})
+    int bodyCount;
+
+    @Param({"1000", "10000"})
+    int colliderCount;
+
+    private Engine engine;
+    private PhysicsSystem physicsSystem;
+
+    // scene is recreated on every iteration to prevent bodies from leaving the colliders
+    @Setup(Level.Iteration)
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        // systems are updated directly, so the environment doesn't need an engine
+        final DefaultEnvironment environment = new DefaultEnvironment(null);
+        engine = BenchmarkScenes.engineWith(environment, DELTA);
+        for (int i = 0; i < colliderCount; i++) {
+            environment.addEntity(new Entity()
+                    .add(new TransformComponent(BenchmarkScenes.randomBounds(random, 8000, 16, 64)))
+                    .add(new ColliderComponent()));
+        }
+        for (int i = 0; i < bodyCount; i++) {
+            final Vector momentum = Vector.of(random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100);
+            environment.addEntity(new Entity()
+                    .add(new TransformComponent(BenchmarkScenes.randomBounds(random, 8000, 8, 16)))
+                    .add(new PhysicsComponent(momentum)));
+        }
+        physicsSystem = new PhysicsSystem();
+    }
+
+    @Benchmark
+    public void update() {
+        physicsSystem.update(engine);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.SavegameManager;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SavegameBenchmark {
+
+    @Param({"100", "5000"})
+    int entityCount;
+
+    private final SavegameManager savegameManager = new SavegameManager();
+    private List<Entity> entities;
+    private Path savegame;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = BenchmarkScenes.random();
+        entities = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            entities.add(new Entity(i)
+                    .add(new TransformComponent(BenchmarkScenes.randomBounds(random, 4000, 8, 32)))
+                    .add(new PhysicsComponent())
+                    .add(new ColliderComponent()));
+        }
+        savegame = Files.createTempFile("screwbox-benchmark", ".sav");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savegame);
+    }
+
+    @Benchmark
+    public List<Entity> roundTrip() {
+        savegameManager.createSavegame(entities, savegame.toString());
+        return savegameManager.loadSavegame(savegame.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteAtlas;
+import io.github.srcimon.screwbox.core.graphics.SpriteBundle;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.internal.OffscreenSurface;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SpriteAtlasBenchmark {
+
+    private static final Size RESOLUTION = Size.of(1280, 720);
+    private static final ScreenBounds CLIP = new ScreenBounds(RESOLUTION);
+    private static final List<Sprite> SPRITES = List.of(
+            SpriteBundle.MAN_WALK_LEFT.get(), SpriteBundle.SLIME_MOVING.get(), SpriteBundle.FIRE.get(), SpriteBundle.EXPLOSION.get());
+
+    @Param({"1000", "10000"})
+    int spriteCount;
+
+    @Param({"false", "true"})
+    boolean packed;
+
+    private final OffscreenSurface surface = new OffscreenSurface(() -> RESOLUTION);
+    private final DefaultRenderer renderer = new DefaultRenderer();
+    private Offset[] offsets;
+    private Sprite[] sprites;
+
+    @Setup
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        final SpriteAtlas atlas = SpriteAtlas.pack(SPRITES);
+        offsets = new Offset[spriteCount];
+        sprites = new Sprite[spriteCount];
+        for (int i = 0; i < spriteCount; i++) {
+            offsets[i] = Offset.at(random.nextInt(RESOLUTION.width()), random.nextInt(RESOLUTION.height()));
+            final Sprite sprite = SPRITES.get(i % SPRITES.size());
+            sprites[i] = packed ? atlas.get(sprite) : sprite;
+        }
+    }
+
+    @Benchmark
+    public void renderFrame() {
+        renderer.updateContext(surface::nextFrameGraphics);
+        renderer.drawRectangle(Offset.origin(), RESOLUTION, RectangleDrawOptions.filled(Color.BLACK), CLIP);
+        for (int i = 0; i < spriteCount; i++) {
+            renderer.drawSprite(sprites[i], offsets[i], SpriteDrawOptions.scaled(2), CLIP);
+        }
+    }
+}
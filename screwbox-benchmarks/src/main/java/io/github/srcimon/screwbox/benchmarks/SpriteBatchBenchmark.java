@@ -0,0 +1,58 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SpriteBatchBenchmark {
+
+    private static final Sprite SPRITE = Sprite.placeholder(Color.RED, 16);
+
+    @Param({"1000", "10000"})
+    int entryCount;
+
+    private Offset[] offsets;
+    private int[] drawOrders;
+
+    @Setup
+    public void setup() {
+        final Random random = BenchmarkScenes.random();
+        offsets = new Offset[entryCount];
+        drawOrders = new int[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            offsets[i] = Offset.at(random.nextInt(1920), random.nextInt(1080));
+            drawOrders[i] = random.nextInt(10);
+        }
+    }
+
+    @Benchmark
+    public int entriesInOrder() {
+        final SpriteBatch spriteBatch = new SpriteBatch();
+        for (int i = 0; i < entryCount; i++) {
+            spriteBatch.add(SPRITE, offsets[i], SpriteDrawOptions.originalSize(), drawOrders[i]);
+        }
+        return spriteBatch.entriesInOrder().size();
+    }
+}
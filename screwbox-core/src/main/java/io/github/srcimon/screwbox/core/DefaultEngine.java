@@ -13,11 +13,14 @@ import io.github.srcimon.screwbox.core.audio.internal.AudioAdapter;
 import io.github.srcimon.screwbox.core.audio.internal.AudioLinePool;
 import io.github.srcimon.screwbox.core.audio.internal.DefaultAudio;
 import io.github.srcimon.screwbox.core.audio.internal.DynamicSoundSupport;
+import io.github.srcimon.screwbox.core.audio.internal.HeadlessAudio;
 import io.github.srcimon.screwbox.core.audio.internal.MicrophoneMonitor;
+import io.github.srcimon.screwbox.core.audio.internal.SoundMixer;
 import io.github.srcimon.screwbox.core.audio.internal.WarmupAudioTask;
 import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.graphics.Graphics;
 import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfigurationEvent;
 import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
 import io.github.srcimon.screwbox.core.graphics.internal.AttentionFocus;
@@ -27,6 +30,8 @@ import io.github.srcimon.screwbox.core.graphics.internal.DefaultGraphics;
 import io.github.srcimon.screwbox.core.graphics.internal.DefaultLight;
 import io.github.srcimon.screwbox.core.graphics.internal.DefaultScreen;
 import io.github.srcimon.screwbox.core.graphics.internal.DefaultViewport;
+import io.github.srcimon.screwbox.core.graphics.internal.FrameCapture;
+import io.github.srcimon.screwbox.core.graphics.internal.HeadlessSurface;
 import io.github.srcimon.screwbox.core.graphics.internal.ViewportManager;
 import io.github.srcimon.screwbox.core.graphics.internal.renderer.AsyncRenderer;
 import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
@@ -39,6 +44,9 @@ import io.github.srcimon.screwbox.core.log.Log;
 import io.github.srcimon.screwbox.core.log.internal.DefaultLog;
 import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.loop.internal.DefaultLoop;
+import io.github.srcimon.screwbox.core.loop.internal.DefaultProfiler;
+import io.github.srcimon.screwbox.core.loop.internal.SimulationTimestep;
+import io.github.srcimon.screwbox.core.loop.internal.Updatable;
 import io.github.srcimon.screwbox.core.mouse.Mouse;
 import io.github.srcimon.screwbox.core.mouse.internal.DefaultMouse;
 import io.github.srcimon.screwbox.core.particles.Particles;
@@ -52,6 +60,7 @@ import io.github.srcimon.screwbox.core.ui.internal.DefaultUi;
 import io.github.srcimon.screwbox.core.utils.internal.MacOsSupport;
 import io.github.srcimon.screwbox.core.window.Window;
 import io.github.srcimon.screwbox.core.window.internal.DefaultWindow;
+import io.github.srcimon.screwbox.core.window.internal.HeadlessWindow;
 import io.github.srcimon.screwbox.core.window.internal.InitializeFontDrawingTask;
 import io.github.srcimon.screwbox.core.window.internal.MacOsWindowFrame;
 import io.github.srcimon.screwbox.core.window.internal.WindowFrame;
@@ -69,18 +78,21 @@ import static java.util.Objects.nonNull;
 
 class DefaultEngine implements Engine {
 
+    private static final Updatable NO_UPDATE = () -> {
+    };
+
     private final DefaultLoop loop;
     private final DefaultGraphics graphics;
     private final DefaultKeyboard keyboard;
     private final DefaultScenes scenes;
-    private final DefaultAudio audio;
+    private final Audio audio;
     private final DefaultPhysics physics;
     private final DefaultMouse mouse;
     private final DefaultUi ui;
     private final DefaultLog log;
     private final DefaultAsync async;
     private final DefaultAssets assets;
-    private final DefaultWindow window;
+    private final Window window;
     private final DefaultParticles particles;
     private final DefaultAchievements achievements;
     private final WarmUpIndicator warmUpIndicator;
@@ -91,25 +103,20 @@ class DefaultEngine implements Engine {
     private boolean stopCalled = false;
 
     DefaultEngine(final String name) {
+        this(name, false);
+    }
+
+    DefaultEngine(final String name, final boolean isHeadless) {
         log = new DefaultLog(new ConsoleLoggingAdapter());
-        if (!ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-Dsun.java2d.opengl=true")) {
+        if (!isHeadless && !ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-Dsun.java2d.opengl=true")) {
             log.warn("Please run application with the following JVM option to avoid massive fps drop: -Dsun.java2d.opengl=true");
         }
-        if (MacOsSupport.isMacOs() && !MacOsSupport.jvmCanAccessMacOsSpecificCode()) {
+        if (!isHeadless && MacOsSupport.isMacOs() && !MacOsSupport.jvmCanAccessMacOsSpecificCode()) {
             log.warn("Please run application with the following JVM option to add full MacOs support: " + MacOsSupport.FULLSCREEN_JVM_OPTION);
         }
 
         final GraphicsConfiguration configuration = new GraphicsConfiguration();
-        final WindowFrame frame = MacOsSupport.isMacOs()
-                ? new MacOsWindowFrame(configuration.resolution())
-                : new WindowFrame(configuration.resolution());
-
-        frame.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                stop();
-            }
-        });
+        final WindowFrame frame = isHeadless ? null : createWindowFrame(configuration);
 
         executor = Executors.newCachedThreadPool(runnable -> {
             final Thread newThread = new Thread(runnable);
@@ -124,6 +131,11 @@ class DefaultEngine implements Engine {
 
         final var defaultRenderer = new DefaultRenderer();
         final var asyncRenderer = new AsyncRenderer(defaultRenderer, executor);
+        configuration.addListener(event -> {
+            if (GraphicsConfigurationEvent.ConfigurationProperty.TILED_RENDERING.equals(event.changedProperty())) {
+                asyncRenderer.setTiledRendering(configuration.isUseTiledRendering());
+            }
+        });
         final var firewallRenderer = new FirewallRenderer(asyncRenderer);
         final var standbyProxyRenderer = new StandbyProxyRenderer(firewallRenderer);
 
@@ -131,37 +143,61 @@ class DefaultEngine implements Engine {
         final DefaultCanvas screenCanvas = new DefaultCanvas(standbyProxyRenderer, clip);
         final DefaultCamera camera = new DefaultCamera(screenCanvas);
         final var viewportManager = new ViewportManager(new DefaultViewport(screenCanvas, camera), standbyProxyRenderer);
-        final DefaultScreen screen = new DefaultScreen(frame, standbyProxyRenderer, createRobot(), screenCanvas, viewportManager, configuration);
-        final var graphicsDevice = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
-        window = new DefaultWindow(frame, configuration, graphicsDevice, standbyProxyRenderer);
+        final var frameCapture = new FrameCapture(executor, log);
+        final DefaultScreen screen = isHeadless
+                ? new DefaultScreen(new HeadlessSurface(configuration), standbyProxyRenderer, null, screenCanvas, viewportManager, configuration, frameCapture)
+                : new DefaultScreen(frame, standbyProxyRenderer, createRobot(), screenCanvas, viewportManager, configuration, frameCapture);
+        final var graphicsDevice = isHeadless ? null : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+        final Updatable windowUpdate;
+        if (isHeadless) {
+            window = new HeadlessWindow(configuration, standbyProxyRenderer);
+            windowUpdate = NO_UPDATE;
+        } else {
+            final DefaultWindow defaultWindow = new DefaultWindow(frame, configuration, graphicsDevice, standbyProxyRenderer);
+            window = defaultWindow;
+            windowUpdate = defaultWindow;
+        }
         final DefaultLight light = new DefaultLight(configuration, viewportManager, executor);
         final AudioAdapter audioAdapter = new AudioAdapter();
         final AudioConfiguration audioConfiguration = new AudioConfiguration();
         final AudioLinePool audioLinePool = new AudioLinePool(audioAdapter, audioConfiguration);
         final MicrophoneMonitor microphoneMonitor = new MicrophoneMonitor(executor, audioAdapter, audioConfiguration);
-        scenes = new DefaultScenes(this, screenCanvas, executor);
+        final DefaultProfiler profiler = new DefaultProfiler();
+        final SimulationTimestep timestep = new SimulationTimestep();
+        scenes = new DefaultScenes(this, screenCanvas, executor, profiler, timestep);
         final AttentionFocus attentionFocus = new AttentionFocus(viewportManager);
         graphics = new DefaultGraphics(configuration, screen, light, graphicsDevice, asyncRenderer, viewportManager, attentionFocus);
-        particles = new DefaultParticles(scenes, attentionFocus);
+        particles = new DefaultParticles(this, scenes, attentionFocus);
         final DynamicSoundSupport dynamicSoundSupport = new DynamicSoundSupport(attentionFocus, audioConfiguration);
-        audio = new DefaultAudio(executor, audioConfiguration, dynamicSoundSupport, microphoneMonitor, audioLinePool);
+        final Updatable audioUpdate;
+        if (isHeadless) {
+            audio = new HeadlessAudio(audioConfiguration);
+            audioUpdate = NO_UPDATE;
+        } else {
+            final SoundMixer soundMixer = new SoundMixer(executor, audioAdapter);
+            final DefaultAudio defaultAudio = new DefaultAudio(executor, audioConfiguration, dynamicSoundSupport, microphoneMonitor, audioLinePool, soundMixer);
+            audio = defaultAudio;
+            audioUpdate = defaultAudio;
+        }
         ui = new DefaultUi(this, scenes, screenCanvas);
         keyboard = new DefaultKeyboard();
         mouse = new DefaultMouse(screen, viewportManager);
         achievements = new DefaultAchievements(this, new NotifyOnAchievementCompletion(ui));
-        loop = new DefaultLoop(List.of(achievements, keyboard, graphics, scenes, viewportManager, ui, mouse, window, camera, particles, audio, screen));
+        loop = new DefaultLoop(List.of(achievements, keyboard, graphics, scenes, viewportManager, ui, mouse, windowUpdate, camera, particles, audioUpdate, screen), profiler, timestep);
         warmUpIndicator = new WarmUpIndicator(loop, log);
         physics = new DefaultPhysics(this);
         async = new DefaultAsync(executor);
         assets = new DefaultAssets(async, log);
-        for (var component : List.of(frame, frame.getCanvas())) {
-            component.addMouseListener(mouse);
-            component.addMouseMotionListener(mouse);
-            component.addMouseWheelListener(mouse);
-            component.addKeyListener(keyboard);
+        if (!isHeadless) {
+            for (var component : List.of(frame, frame.getCanvas())) {
+                component.addMouseListener(mouse);
+                component.addMouseMotionListener(mouse);
+                component.addMouseWheelListener(mouse);
+                component.addKeyListener(keyboard);
+            }
+            executor.execute(new InitializeFontDrawingTask());
+            executor.execute(new WarmupAudioTask(audioLinePool));
         }
-        executor.execute(new InitializeFontDrawingTask());
-        executor.execute(new WarmupAudioTask(audioLinePool));
         this.name = name;
         this.version = detectVersion();
         window.setTitle(name);
@@ -308,6 +344,20 @@ class DefaultEngine implements Engine {
         }
     }
 
+    private WindowFrame createWindowFrame(final GraphicsConfiguration configuration) {
+        final WindowFrame frame = MacOsSupport.isMacOs()
+                ? new MacOsWindowFrame(configuration.resolution())
+                : new WindowFrame(configuration.resolution());
+
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stop();
+            }
+        });
+        return frame;
+    }
+
     private Robot createRobot() {
         try {
             return new Robot();
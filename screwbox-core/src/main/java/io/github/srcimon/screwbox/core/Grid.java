@@ -78,6 +78,7 @@ public class Grid implements Serializable {
     private final boolean useDiagonalSearch;
     private final Vector offset;
     private final Bounds area;
+    private int version;
 
     public Grid(final Bounds area, final int gridSize) {
         this(area, gridSize, true);
@@ -188,6 +189,7 @@ public class Grid implements Serializable {
     private void statusChange(final int x, final int y, final boolean status) {
         if (isInGrid(x, y)) {
             isBlocked.set(x * width + y, status);
+            version++;
         }
     }
 
@@ -211,6 +213,7 @@ public class Grid implements Serializable {
                 isBlocked.set(x * width + y, status);
             }
         }
+        version++;
     }
 
     public int width() {
@@ -221,6 +224,25 @@ public class Grid implements Serializable {
         return height;
     }
 
+    /**
+     * Returns a number that changes every time {@link Node}s are blocked or freed. Can be used to detect changes of
+     * the {@link Grid} without comparing all {@link Node}s.
+     *
+     * @since 2.15.0
+     */
+    public int version() {
+        return version;
+    }
+
+    /**
+     * Returns {@code true} if diagonal movement between {@link Node}s is allowed.
+     *
+     * @since 2.15.0
+     */
+    public boolean isUsingDiagonalSearch() {
+        return useDiagonalSearch;
+    }
+
     public List<Node> blockedNeighbors(final Node node) {
         final List<Node> neighbors = new ArrayList<>();
         for (final var neighbor : neighbors(node)) {
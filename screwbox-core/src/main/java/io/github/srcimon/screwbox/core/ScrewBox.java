@@ -1,5 +1,7 @@
 package io.github.srcimon.screwbox.core;
 
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.window.Window;
 
 /**
@@ -29,4 +31,29 @@ public final class ScrewBox {
         return new DefaultEngine(name);
     }
 
+    /**
+     * Creates a headless {@link Engine} instance that can be used to run simulations on servers or within tests.
+     * A headless {@link Engine} doesn't need a monitor, input devices or audio devices. It never opens a {@link Window}
+     * and doesn't play any sounds. Rendering only happens when
+     * {@link GraphicsConfiguration#setUseOffscreenRendering(boolean) offscreen rendering} is enabled. Uses "ScrewBox" as the {@link Engine#name()}.
+     *
+     * @since 2.15.0
+     */
+    public static Engine createHeadlessEngine() {
+        return createHeadlessEngine("ScrewBox");
+    }
+
+    /**
+     * Creates a headless {@link Engine} instance that can be used to run simulations on servers or within tests.
+     * A headless {@link Engine} doesn't need a monitor, input devices or audio devices. It never opens a {@link Window}
+     * and doesn't play any sounds. Rendering only happens when
+     * {@link GraphicsConfiguration#setUseOffscreenRendering(boolean) offscreen rendering} is enabled. Sets the {@link Engine#name()} to the given value.
+     * Use {@link Loop#unlockFps()} to run the simulation as fast as possible.
+     *
+     * @since 2.15.0
+     */
+    public static Engine createHeadlessEngine(final String name) {
+        return new DefaultEngine(name, true);
+    }
+
 }
@@ -22,6 +22,7 @@ public class AudioConfiguration {
     private double soundRange = 1024;
     private Duration microphoneIdleTimeout = Duration.ofSeconds(5);
     private int maxLines = 24;
+    private boolean isMixerModeEnabled = false;
 
     private final List<AudioConfigurationListener> listeners = new ArrayList<>();
 
@@ -42,6 +43,29 @@ public class AudioConfiguration {
         return maxLines;
     }
 
+    /**
+     * Enables or disables the mixer mode. In mixer mode all {@link Sound sounds} are decoded once and mixed by a single
+     * thread into one audio line. This reduces the number of threads and audio lines and lowers the latency when
+     * playing many sounds. Playbacks that have already started are not affected.
+     *
+     * @since 2.15.0
+     */
+    public AudioConfiguration setMixerModeEnabled(final boolean isMixerModeEnabled) {
+        this.isMixerModeEnabled = isMixerModeEnabled;
+        notifyListeners(ConfigurationProperty.MIXER_MODE);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if new playbacks are mixed into a single audio line.
+     *
+     * @see #setMixerModeEnabled(boolean)
+     * @since 2.15.0
+     */
+    public boolean isMixerModeEnabled() {
+        return isMixerModeEnabled;
+    }
+
     /**
      * Sets the sound range that is used to determine {@link SoundOptions#pan()} and {@link SoundOptions#volume()}
      * when {@link Sound} is played based on {@link SoundOptions#position()}.
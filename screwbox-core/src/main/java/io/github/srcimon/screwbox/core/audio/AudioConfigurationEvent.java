@@ -37,7 +37,14 @@ public class AudioConfigurationEvent extends EventObject {
         /**
          * {@link AudioConfiguration#microphoneIdleTimeout()} has been changed.
          */
-        MICROPHONE_TIMEOUT
+        MICROPHONE_TIMEOUT,
+
+        /**
+         * {@link AudioConfiguration#isMixerModeEnabled()} has been changed.
+         *
+         * @since 2.15.0
+         */
+        MIXER_MODE
     }
     public AudioConfigurationEvent(final Object source, final ConfigurationProperty changedProperty) {
         super(source);
@@ -1,5 +1,6 @@
 package io.github.srcimon.screwbox.core.audio.internal;
 
+import io.github.srcimon.screwbox.core.Percent;
 import io.github.srcimon.screwbox.core.audio.Playback;
 import io.github.srcimon.screwbox.core.audio.Sound;
 import io.github.srcimon.screwbox.core.audio.SoundOptions;
@@ -13,6 +14,8 @@ class ActivePlayback {
     private final Sound sound;
     private SoundOptions options;
     private SourceDataLine line;
+    private volatile double volume = 1;
+    private volatile double pan = 0;
 
     public ActivePlayback(final Sound sound, final SoundOptions options) {
         this.id = UUID.randomUUID();
@@ -28,6 +31,22 @@ class ActivePlayback {
         this.line = line;
     }
 
+    public void setVolume(final Percent volume) {
+        this.volume = volume.value();
+    }
+
+    public void setPan(final double pan) {
+        this.pan = Math.clamp(pan, -1, 1);
+    }
+
+    public double volume() {
+        return volume;
+    }
+
+    public double pan() {
+        return pan;
+    }
+
     public Sound sound() {
         return sound;
     }
@@ -50,10 +50,14 @@ public class AudioAdapter {
     }
 
     public SourceDataLine createSourceLine(final AudioFormat format) {
+        return createSourceLine(format, AudioSystem.NOT_SPECIFIED);
+    }
+
+    public SourceDataLine createSourceLine(final AudioFormat format, final int bufferSize) {
         try {
             final var info = new DataLine.Info(SourceDataLine.class, format);
             final var sourceDataLine = (SourceDataLine) AudioSystem.getLine(info);
-            sourceDataLine.open(format);
+            sourceDataLine.open(format, bufferSize);
             sourceDataLine.start();
             return sourceDataLine;
         } catch (LineUnavailableException e) {
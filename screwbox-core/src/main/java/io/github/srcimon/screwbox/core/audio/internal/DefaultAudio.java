@@ -29,25 +29,43 @@ public class DefaultAudio implements Audio, Updatable {
     private final MicrophoneMonitor microphoneMonitor;
     private final AudioLinePool audioLinePool;
     private final DynamicSoundSupport dynamicSoundSupport;
+    private final SoundMixer soundMixer;
     private final Map<UUID, ActivePlayback> activePlaybacks = new ConcurrentHashMap<>();
     private final AtomicInteger soundsPlayedCount = new AtomicInteger();
     private final AtomicInteger completedPlaybackCount = new AtomicInteger();
 
+    private final SoundMixer.Listener mixerListener = new SoundMixer.Listener() {
+
+        @Override
+        public void soundPlayed(final ActivePlayback playback) {
+            soundsPlayedCount.incrementAndGet();
+        }
+
+        @Override
+        public void playbackCompleted(final ActivePlayback playback) {
+            activePlaybacks.remove(playback.id());
+            completedPlaybackCount.incrementAndGet();
+        }
+    };
+
     public DefaultAudio(final ExecutorService executor,
                         final AudioConfiguration configuration,
                         final DynamicSoundSupport dynamicSoundSupport,
                         final MicrophoneMonitor microphoneMonitor,
-                        final AudioLinePool audioLinePool) {
+                        final AudioLinePool audioLinePool,
+                        final SoundMixer soundMixer) {
         this.executor = executor;
         this.dynamicSoundSupport = dynamicSoundSupport;
         this.microphoneMonitor = microphoneMonitor;
         this.audioLinePool = audioLinePool;
+        this.soundMixer = soundMixer;
         this.configuration = configuration;
     }
 
     @Override
     public Audio stopAllPlaybacks() {
         activePlaybacks.clear();
+        soundMixer.stopAll();
         for (final var line : audioLinePool.lines()) {
             line.flush();
         }
@@ -71,6 +89,7 @@ public class DefaultAudio implements Audio, Updatable {
             if (nonNull(activePlayback.line())) {
                 activePlayback.line().flush();
             }
+            soundMixer.stop(activePlayback);
             activePlaybacks.remove(playback.id());
         }
         return this;
@@ -78,7 +97,7 @@ public class DefaultAudio implements Audio, Updatable {
 
     @Override
     public int lineCount() {
-        return audioLinePool.size();
+        return audioLinePool.size() + soundMixer.lineCount();
     }
 
     @Override
@@ -107,7 +126,12 @@ public class DefaultAudio implements Audio, Updatable {
 
         ActivePlayback activePlayback = new ActivePlayback(sound, options);
         activePlaybacks.put(activePlayback.id(), activePlayback);
-        executor.execute(() -> play(activePlayback));
+        if (configuration.isMixerModeEnabled()) {
+            refreshSettingsOfPlayback(activePlayback);
+            soundMixer.play(activePlayback, mixerListener);
+        } else {
+            executor.execute(() -> play(activePlayback));
+        }
         return activePlayback.toPlayback();
     }
 
@@ -141,7 +165,7 @@ public class DefaultAudio implements Audio, Updatable {
         final var speedFormat = getFormatMatching(playback);
 
         playback.setLine(audioLinePool.aquireLine(speedFormat));
-        refreshLineSettingsOfPlayback(playback);
+        refreshSettingsOfPlayback(playback);
 
         do {
             writePlaybackDateToAudioLine(playback);
@@ -183,6 +207,7 @@ public class DefaultAudio implements Audio, Updatable {
     public Audio stopAllPlaybacks(final Sound sound) {
         requireNonNull(sound, "sound must not be null");
         for (final var activePlayback : fetchPlaybacks(sound)) {
+            soundMixer.stop(activePlayback);
             activePlaybacks.remove(activePlayback.id());
         }
         return this;
@@ -217,15 +242,19 @@ public class DefaultAudio implements Audio, Updatable {
     @Override
     public void update() {
         for (var activePlayback : allActivePlaybacks()) {
-            if (nonNull(activePlayback.line())) {
-                refreshLineSettingsOfPlayback(activePlayback);
-            }
+            refreshSettingsOfPlayback(activePlayback);
         }
     }
 
-    private void refreshLineSettingsOfPlayback(ActivePlayback activePlayback) {
-        AudioAdapter.setVolume(activePlayback.line(), dynamicSoundSupport.currentVolume(activePlayback.options()));
-        AudioAdapter.setPan(activePlayback.line(), dynamicSoundSupport.currentPan(activePlayback.options()));
+    private void refreshSettingsOfPlayback(ActivePlayback activePlayback) {
+        final Percent volume = dynamicSoundSupport.currentVolume(activePlayback.options());
+        final double pan = dynamicSoundSupport.currentPan(activePlayback.options());
+        activePlayback.setVolume(volume);
+        activePlayback.setPan(pan);
+        if (nonNull(activePlayback.line())) {
+            AudioAdapter.setVolume(activePlayback.line(), volume);
+            AudioAdapter.setPan(activePlayback.line(), pan);
+        }
     }
 
     private List<ActivePlayback> allActivePlaybacks() {
@@ -0,0 +1,114 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import io.github.srcimon.screwbox.core.Percent;
+import io.github.srcimon.screwbox.core.audio.Audio;
+import io.github.srcimon.screwbox.core.audio.AudioConfiguration;
+import io.github.srcimon.screwbox.core.audio.Playback;
+import io.github.srcimon.screwbox.core.audio.Sound;
+import io.github.srcimon.screwbox.core.audio.SoundOptions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Audio} used by headless engines. Doesn't use any audio lines. Every {@link Sound} is treated as played
+ * silently and completed immediately.
+ */
+public class HeadlessAudio implements Audio {
+
+    private final AudioConfiguration configuration;
+    private final AtomicInteger soundsPlayedCount = new AtomicInteger(0);
+    private final AtomicInteger completedPlaybackCount = new AtomicInteger(0);
+
+    public HeadlessAudio(final AudioConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public int lineCount() {
+        return 0;
+    }
+
+    @Override
+    public Percent microphoneLevel() {
+        return Percent.zero();
+    }
+
+    @Override
+    public boolean isMicrophoneActive() {
+        return false;
+    }
+
+    @Override
+    public List<Playback> activePlaybacks() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Playback playSound(final Sound sound, final SoundOptions options) {
+        requireNonNull(sound, "sound must not be null");
+        requireNonNull(options, "options must not be null");
+        soundsPlayedCount.incrementAndGet();
+        completedPlaybackCount.incrementAndGet();
+        return new Playback(UUID.randomUUID(), sound, options);
+    }
+
+    @Override
+    public Audio stopPlayback(final Playback playback) {
+        return this;
+    }
+
+    @Override
+    public boolean playbackIsActive(final Playback playback) {
+        return false;
+    }
+
+    @Override
+    public boolean updatePlaybackOptions(final Playback playback, final SoundOptions options) {
+        return false;
+    }
+
+    @Override
+    public Audio stopAllPlaybacks(final Sound sound) {
+        return this;
+    }
+
+    @Override
+    public Audio stopAllPlaybacks() {
+        return this;
+    }
+
+    @Override
+    public int completedPlaybackCount() {
+        return completedPlaybackCount.get();
+    }
+
+    @Override
+    public int soundsPlayedCount() {
+        return soundsPlayedCount.get();
+    }
+
+    @Override
+    public int activePlaybackCount(final Sound sound) {
+        return 0;
+    }
+
+    @Override
+    public boolean hasActivePlaybacks(final Sound sound) {
+        return false;
+    }
+
+    @Override
+    public int activePlaybackCount() {
+        return 0;
+    }
+
+    @Override
+    public AudioConfiguration configuration() {
+        return configuration;
+    }
+}
@@ -0,0 +1,301 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import io.github.srcimon.screwbox.core.audio.Sound;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Mixes all playbacks into a single stereo {@link SourceDataLine}. {@link Sound Sounds} are decoded to PCM once using
+ * the {@link Executor} and summed up by one mixing thread that is only running while there are playbacks. The
+ * {@link SourceDataLine} is closed when there are no more playbacks. Volume and pan are taken from the
+ * {@link ActivePlayback} for every buffer, so changes are applied with the latency of a single buffer.
+ */
+public class SoundMixer {
+
+    static final AudioFormat MIX_FORMAT = new AudioFormat(44100, 16, 2, true, false);
+    static final int FRAMES_PER_BUFFER = 256;
+    private static final int BYTES_PER_BUFFER = FRAMES_PER_BUFFER * MIX_FORMAT.getFrameSize();
+    private static final int LINE_BUFFER_SIZE = BYTES_PER_BUFFER * 4;
+
+    /**
+     * Gets notified about the progress of playbacks that were added via {@link #play(ActivePlayback, Listener)}.
+     * Notifications are sent from the mixing thread.
+     */
+    interface Listener {
+
+        void soundPlayed(ActivePlayback playback);
+
+        void playbackCompleted(ActivePlayback playback);
+    }
+
+    private record DecodedSound(short[] samples, int channels, float sampleRate) {
+
+        int frameCount() {
+            return samples.length / channels;
+        }
+
+        double sample(final int frame, final int channel) {
+            return samples[frame * channels + Math.min(channel, channels - 1)];
+        }
+    }
+
+    private static final class Voice {
+
+        private final ActivePlayback playback;
+        private final Listener listener;
+        private DecodedSound sound;
+        private double step;
+        private double position = 0;
+        private int timesPlayed = 0;
+        private volatile boolean isStopped = false;
+
+        private Voice(final ActivePlayback playback, final Listener listener) {
+            this.playback = playback;
+            this.listener = listener;
+        }
+
+        private void setSound(final DecodedSound sound) {
+            this.sound = sound;
+            this.step = sound.sampleRate() * playback.options().speed() / MIX_FORMAT.getSampleRate();
+        }
+    }
+
+    private final Executor executor;
+    private final AudioAdapter audioAdapter;
+    private final Map<Sound, DecodedSound> decodedSounds = Collections.synchronizedMap(new WeakHashMap<>());
+    private final List<Voice> voices = new CopyOnWriteArrayList<>();
+    private final List<Voice> decodingVoices = new CopyOnWriteArrayList<>();
+    private final double[] mixBuffer = new double[FRAMES_PER_BUFFER * 2];
+    private final byte[] outputBuffer = new byte[BYTES_PER_BUFFER];
+    private SourceDataLine line;
+    private boolean isRunning = false;
+
+    public SoundMixer(final Executor executor, final AudioAdapter audioAdapter) {
+        this.executor = executor;
+        this.audioAdapter = audioAdapter;
+    }
+
+    /**
+     * Adds the {@link ActivePlayback} to the mix. Starts the mixing thread if it isn't running. {@link Sound Sounds}
+     * that haven't been played before are decoded using the {@link Executor} and added to the mix once decoding has
+     * finished.
+     */
+    void play(final ActivePlayback playback, final Listener listener) {
+        final Voice voice = new Voice(playback, listener);
+        final DecodedSound sound = decodedSounds.get(playback.sound());
+        if (isNull(sound)) {
+            decodingVoices.add(voice);
+            executor.execute(() -> decodeAndMix(voice));
+        } else {
+            mix(voice, sound);
+        }
+    }
+
+    /**
+     * Decodes the {@link Sound} on the calling thread, so the first playback of the {@link Sound} starts without
+     * decoding.
+     */
+    void prepare(final Sound sound) {
+        decoded(sound);
+    }
+
+    /**
+     * Removes the {@link ActivePlayback} from the mix.
+     */
+    void stop(final ActivePlayback playback) {
+        for (final var voice : allVoices()) {
+            if (voice.playback.id().equals(playback.id())) {
+                voice.isStopped = true;
+            }
+        }
+    }
+
+    /**
+     * Removes all playbacks from the mix.
+     */
+    void stopAll() {
+        for (final var voice : allVoices()) {
+            voice.isStopped = true;
+        }
+    }
+
+    /**
+     * Returns the number of audio lines used by the mixer.
+     */
+    synchronized int lineCount() {
+        return isNull(line) ? 0 : 1;
+    }
+
+    /**
+     * Returns the number of playbacks that are currently mixed.
+     */
+    int voiceCount() {
+        return voices.size();
+    }
+
+    /**
+     * Mixes the next buffer of all playbacks and returns it using the {@link #MIX_FORMAT}. Removes playbacks that have
+     * been stopped or completed.
+     */
+    byte[] mixNextBuffer() {
+        final List<Voice> completed = new ArrayList<>();
+        Arrays.fill(mixBuffer, 0);
+        for (final var voice : voices) {
+            if (voice.isStopped || !mixVoice(voice)) {
+                completed.add(voice);
+            }
+        }
+        voices.removeAll(completed);
+        for (final var voice : completed) {
+            voice.listener.playbackCompleted(voice.playback);
+        }
+        for (int index = 0; index < mixBuffer.length; index++) {
+            final int sample = Math.clamp(Math.round(mixBuffer[index]), Short.MIN_VALUE, Short.MAX_VALUE);
+            outputBuffer[index * 2] = (byte) sample;
+            outputBuffer[index * 2 + 1] = (byte) (sample >> 8);
+        }
+        return outputBuffer;
+    }
+
+    private boolean mixVoice(final Voice voice) {
+        final DecodedSound sound = voice.sound;
+        final int frameCount = sound.frameCount();
+        final double volume = voice.playback.volume();
+        final double pan = voice.playback.pan();
+        final double leftGain = volume * (pan > 0 ? 1 - pan : 1);
+        final double rightGain = volume * (pan < 0 ? 1 + pan : 1);
+        for (int frame = 0; frame < FRAMES_PER_BUFFER; frame++) {
+            if (voice.position >= frameCount) {
+                voice.timesPlayed++;
+                voice.listener.soundPlayed(voice.playback);
+                if (voice.timesPlayed >= voice.playback.options().times() || frameCount == 0) {
+                    return false;
+                }
+                voice.position -= frameCount;
+            }
+            final int index = (int) voice.position;
+            final int next = index + 1 < frameCount ? index + 1 : index;
+            final double fraction = voice.position - index;
+            final double left = sound.sample(index, 0) + (sound.sample(next, 0) - sound.sample(index, 0)) * fraction;
+            final double right = sound.sample(index, 1) + (sound.sample(next, 1) - sound.sample(index, 1)) * fraction;
+            mixBuffer[frame * 2] += left * leftGain;
+            mixBuffer[frame * 2 + 1] += right * rightGain;
+            voice.position += voice.step;
+        }
+        return true;
+    }
+
+    private List<Voice> allVoices() {
+        final List<Voice> allVoices = new ArrayList<>(voices);
+        allVoices.addAll(decodingVoices);
+        return allVoices;
+    }
+
+    private void decodeAndMix(final Voice voice) {
+        try {
+            mix(voice, decoded(voice.playback.sound()));
+        } catch (final RuntimeException e) {
+            voice.listener.playbackCompleted(voice.playback);
+            throw e;
+        } finally {
+            decodingVoices.remove(voice);
+        }
+    }
+
+    private DecodedSound decoded(final Sound sound) {
+        return decodedSounds.computeIfAbsent(sound, SoundMixer::decode);
+    }
+
+    private void mix(final Voice voice, final DecodedSound sound) {
+        voice.setSound(sound);
+        voices.add(voice);
+        synchronized (this) {
+            if (!isRunning) {
+                isRunning = true;
+                executor.execute(this::mixWhilePlaying);
+            }
+        }
+    }
+
+    private void mixWhilePlaying() {
+        SourceDataLine currentLine = null;
+        try {
+            while (true) {
+                synchronized (this) {
+                    if (voices.isEmpty()) {
+                        return;
+                    }
+                    if (isNull(line)) {
+                        line = audioAdapter.createSourceLine(MIX_FORMAT, LINE_BUFFER_SIZE);
+                    }
+                    currentLine = line;
+                }
+                final byte[] buffer = mixNextBuffer();
+                currentLine.write(buffer, 0, buffer.length);
+            }
+        } catch (final RuntimeException e) {
+            // playbacks would never complete without a running mixing thread
+            completeAll();
+            throw e;
+        } finally {
+            stopMixing();
+        }
+    }
+
+    private void completeAll() {
+        for (final var voice : voices) {
+            voices.remove(voice);
+            voice.listener.playbackCompleted(voice.playback);
+        }
+    }
+
+    private void stopMixing() {
+        final SourceDataLine lineToClose;
+        synchronized (this) {
+            isRunning = false;
+            lineToClose = line;
+            line = null;
+            // voices might have been added after the mixing thread decided to stop
+            if (!voices.isEmpty()) {
+                isRunning = true;
+                executor.execute(this::mixWhilePlaying);
+            }
+        }
+        if (nonNull(lineToClose)) {
+            lineToClose.drain();
+            lineToClose.close();
+        }
+    }
+
+    private static DecodedSound decode(final Sound sound) {
+        try (final var source = AudioAdapter.getAudioInputStream(sound.content())) {
+            final AudioFormat sourceFormat = source.getFormat();
+            final AudioFormat pcmFormat = new AudioFormat(sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(), true, false);
+            try (final AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                final byte[] bytes = pcm.readAllBytes();
+                final short[] samples = new short[bytes.length / 2];
+                for (int index = 0; index < samples.length; index++) {
+                    samples[index] = (short) ((bytes[index * 2] & 0xff) | (bytes[index * 2 + 1] << 8));
+                }
+                return new DecodedSound(samples, Math.max(1, pcmFormat.getChannels()), pcmFormat.getSampleRate());
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not decode sound", e);
+        }
+    }
+}
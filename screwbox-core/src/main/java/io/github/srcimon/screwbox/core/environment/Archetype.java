@@ -10,6 +10,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import static java.util.Objects.isNull;
+
 /**
  * Describes a specific type of {@link Entity} by its {@link Component}s. E.g. an {@link Entity} containing {@link ReflectionComponent} and {@link TransformComponent}
  * could be named 'water'. Used to search for specific {@link Entity} e.g. via {@link Environment#fetchAll(Archetype)}.
@@ -21,6 +23,7 @@ public class Archetype implements Serializable {
 
     private final Collection<Class<? extends Component>> componentClasses;
     private final int hash;
+    private transient volatile long[] mask;
 
     /**
      * Creates a new {@link Archetype}. Quite expensive. {@link Archetype}s should be stored in constants.
@@ -82,7 +85,7 @@ public class Archetype implements Serializable {
      * Returns true if the given {@link Entity} contains all {@link Component}s of the {@link Archetype}.
      */
     public boolean matches(final Entity entity) {
-        return entity.getComponentClasses().containsAll(componentClasses);
+        return entity.containsAll(mask());
     }
 
     /**
@@ -92,6 +95,20 @@ public class Archetype implements Serializable {
         return componentClasses.contains(componentClass);
     }
 
+    private long[] mask() {
+        // mask is not serialized because component ids are only valid within the current jvm
+        // volatile because archetype constants are shared by parallel system worker threads
+        long[] current = mask;
+        if (isNull(current)) {
+            current = new long[1];
+            for (final var componentClass : componentClasses) {
+                current = ComponentMask.set(current, componentClass);
+            }
+            mask = current;
+        }
+        return current;
+    }
+
     @Override
     public String toString() {
         return "Archetype [componentClasses=" + componentClasses + "]";
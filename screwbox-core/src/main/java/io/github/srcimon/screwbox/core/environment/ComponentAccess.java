@@ -0,0 +1,34 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares the {@link Component components} an {@link EntitySystem} reads and writes. When parallel system updates
+ * are enabled via {@link Environment#setParallelSystemUpdatesEnabled(boolean)}, {@link EntitySystem systems} sharing
+ * the same {@link Order.SystemOrder} that don't write {@link Component components} used by each other will be
+ * updated concurrently. {@link EntitySystem Systems} without this annotation are never updated concurrently.
+ * <p>
+ * Annotated {@link EntitySystem systems} must not access any {@link Component} that is not declared and must not
+ * add or remove {@link Component components} from existing {@link Entity entities}.
+ * Adding and removing {@link Entity entities} is allowed.
+ *
+ * @since 2.15.0
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ComponentAccess {
+
+    /**
+     * {@link Component Components} that are only read by the {@link EntitySystem}.
+     */
+    Class<? extends Component>[] reads() default {};
+
+    /**
+     * {@link Component Components} that are modified by the {@link EntitySystem}.
+     */
+    Class<? extends Component>[] writes() default {};
+}
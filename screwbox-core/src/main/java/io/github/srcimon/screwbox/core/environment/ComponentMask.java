@@ -0,0 +1,53 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns a dense id to every {@link Component} class and provides bit operations on masks using these ids.
+ * Ids are only valid within the current JVM and must never be serialized.
+ */
+final class ComponentMask {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private static final ClassValue<Integer> IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return NEXT_ID.getAndIncrement();
+        }
+    };
+
+    private ComponentMask() {
+    }
+
+    static int idOf(final Class<? extends Component> componentClass) {
+        return IDS.get(componentClass);
+    }
+
+    static long[] set(final long[] mask, final Class<? extends Component> componentClass) {
+        final int id = idOf(componentClass);
+        final int index = id >>> 6;
+        final long[] result = index < mask.length ? mask : Arrays.copyOf(mask, index + 1);
+        result[index] |= 1L << id;
+        return result;
+    }
+
+    static void clear(final long[] mask, final Class<? extends Component> componentClass) {
+        final int id = idOf(componentClass);
+        final int index = id >>> 6;
+        if (index < mask.length) {
+            mask[index] &= ~(1L << id);
+        }
+    }
+
+    static boolean containsAll(final long[] mask, final long[] required) {
+        for (int index = 0; index < required.length; index++) {
+            final long requiredBits = required[index];
+            if (requiredBits != 0 && (index >= mask.length || (mask[index] & requiredBits) != requiredBits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
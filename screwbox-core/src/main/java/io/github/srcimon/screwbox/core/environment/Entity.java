@@ -25,6 +25,7 @@ public final class Entity implements Serializable {
     private final Map<Class<? extends Component>, Component> components = new HashMap<>();
     private final Integer id;
     private transient List<EntityListener> listeners;
+    private transient volatile long[] signature;
     private String name;
     private TransformComponent transform;
 
@@ -111,6 +112,7 @@ public final class Entity implements Serializable {
             throw new IllegalArgumentException("component already present: " + componentClass.getSimpleName());
         }
         components.put(componentClass, component);
+        signature = ComponentMask.set(signature(), componentClass);
         if (component instanceof TransformComponent transformComponent) {
             transform = transformComponent;
         }
@@ -177,6 +179,7 @@ public final class Entity implements Serializable {
      */
     public void remove(final Class<? extends Component> componentClass) {
         components.remove(componentClass);
+        ComponentMask.clear(signature(), componentClass);
         if (TransformComponent.class.equals(componentClass)) {
             transform = null;
         }
@@ -260,6 +263,27 @@ public final class Entity implements Serializable {
         }
     }
 
+    /**
+     * Returns {@code true} if all bits of the given {@link ComponentMask} are contained in this {@link Entity}.
+     */
+    boolean containsAll(final long[] mask) {
+        return ComponentMask.containsAll(signature(), mask);
+    }
+
+    private long[] signature() {
+        // signature is not serialized because component ids are only valid within the current jvm
+        // volatile so signatures built lazily are safely published to parallel system worker threads
+        long[] current = signature;
+        if (isNull(current)) {
+            current = new long[1];
+            for (final var componentClass : components.keySet()) {
+                current = ComponentMask.set(current, componentClass);
+            }
+            signature = current;
+        }
+        return current;
+    }
+
     private List<EntityListener> getListeners() {
         if (isNull(listeners)) {
             listeners = new ArrayList<>();
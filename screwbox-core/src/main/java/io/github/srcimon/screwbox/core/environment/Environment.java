@@ -36,6 +36,7 @@ import io.github.srcimon.screwbox.core.scenes.Scene;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * The {@link Environment} manages all {@link #entities()} and all {@link #systems()} that are contained in a {@link Scene}.
@@ -154,6 +155,36 @@ public interface Environment {
 
     List<Entity> fetchAll(Archetype archetype);
 
+    /**
+     * Applies the given action on all {@link Entity entities} matching the specified {@link Archetype}. When there
+     * are more {@link Entity entities} than {@link #minimumChunkSize()} the {@link Entity entities} will be split into
+     * chunks that are processed concurrently. Changes to the {@link Environment} made by the action will be delayed
+     * like changes made by any {@link EntitySystem}.
+     * <p>
+     * The action must only modify the {@link Entity} it receives and must be thread safe.
+     *
+     * @see #setMinimumChunkSize(int)
+     * @since 2.15.0
+     */
+    void forEachParallel(Archetype archetype, Consumer<Entity> action);
+
+    /**
+     * Sets the minimum count of {@link Entity entities} processed on a single thread by
+     * {@link #forEachParallel(Archetype, Consumer)}. Default is 512.
+     *
+     * @since 2.15.0
+     */
+    Environment setMinimumChunkSize(int minimumChunkSize);
+
+    /**
+     * Returns the minimum count of {@link Entity entities} processed on a single thread by
+     * {@link #forEachParallel(Archetype, Consumer)}.
+     *
+     * @see #setMinimumChunkSize(int)
+     * @since 2.15.0
+     */
+    int minimumChunkSize();
+
     default List<Entity> fetchAllHaving(Class<? extends Component> component) {
         return fetchAll(Archetype.of(component));
     }
@@ -406,4 +437,22 @@ public interface Environment {
      * @since 2.13.0
      */
     Environment addSystemsFromPackage(String packageName);
+
+    /**
+     * Enables or disables concurrent updates of {@link EntitySystem entity systems} annotated with
+     * {@link ComponentAccess}. {@link EntitySystem Systems} sharing the same {@link Order.SystemOrder} will be updated
+     * concurrently when they don't write {@link Component components} used by each other. Default is {@code false}.
+     *
+     * @see ComponentAccess
+     * @since 2.15.0
+     */
+    Environment setParallelSystemUpdatesEnabled(boolean enabled);
+
+    /**
+     * Returns {@code true} if concurrent updates of {@link EntitySystem entity systems} are enabled.
+     *
+     * @see #setParallelSystemUpdatesEnabled(boolean)
+     * @since 2.15.0
+     */
+    boolean isParallelSystemUpdatesEnabled();
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package io.github.srcimon.screwbox.core.environment.ai;
 
+import io.github.srcimon.screwbox.core.Grid;
 import io.github.srcimon.screwbox.core.Path;
+import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Component;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+import io.github.srcimon.screwbox.core.physics.Physics;
 
 import java.io.Serial;
 
 /**
- * Moves an {@link Entity} along a {@link Path}.
+ * Moves an {@link Entity} along a {@link Path}. Alternatively moves the {@link Entity} towards the
+ * {@link #flowFieldTarget} using a {@link FlowField}.
  */
 public class PathMovementComponent implements Component {
 
@@ -18,6 +23,23 @@ public class PathMovementComponent implements Component {
     public double acceleration;
     public Path path;
 
+    /**
+     * Follows the {@link FlowField} to this position instead of the {@link #path} when set. All entities chasing the
+     * same target share a single {@link FlowField}. Requires a {@link Grid}.
+     *
+     * @see Physics#flowField(Vector)
+     * @since 2.15.0
+     */
+    public Vector flowFieldTarget;
+
+    /**
+     * Calculates missing {@link FlowField flow fields} asynchronously instead of blocking the update.
+     *
+     * @see Physics#flowFieldAsync(Vector)
+     * @since 2.15.0
+     */
+    public boolean useAsyncFlowField;
+
     public PathMovementComponent(final double speed, final double acceleration) {
         this.speed = speed;
         this.acceleration = acceleration;
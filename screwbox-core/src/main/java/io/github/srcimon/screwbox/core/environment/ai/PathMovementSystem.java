@@ -7,11 +7,15 @@ import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+
+import java.util.Optional;
 
 import static java.util.Objects.nonNull;
 
 /**
- * Moves {@link Entity entities} containing {@link PathMovementComponent} along the {@link Path}.
+ * Moves {@link Entity entities} containing {@link PathMovementComponent} along the {@link Path} or the
+ * {@link FlowField} to the {@link PathMovementComponent#flowFieldTarget}.
  */
 public class PathMovementSystem implements EntitySystem {
 
@@ -21,7 +25,9 @@ public class PathMovementSystem implements EntitySystem {
     public void update(final Engine engine) {
         for (final Entity mover : engine.environment().fetchAll(AUTO_MOVERS)) {
             final var automovement = mover.get(PathMovementComponent.class);
-            if (nonNull(automovement.path)) {
+            if (nonNull(automovement.flowFieldTarget)) {
+                followFlowField(engine, mover, automovement);
+            } else if (nonNull(automovement.path)) {
                 if (mover.position().distanceTo(automovement.path.lastNode()) < 1) {
                     mover.get(PhysicsComponent.class).momentum = Vector.zero();
                     mover.remove(TargetMovementComponent.class);
@@ -38,4 +44,29 @@ public class PathMovementSystem implements EntitySystem {
             }
         }
     }
+
+    private static void followFlowField(final Engine engine, final Entity mover, final PathMovementComponent automovement) {
+        final Vector target = automovement.flowFieldTarget;
+        if (mover.position().distanceTo(target) < 1) {
+            mover.get(PhysicsComponent.class).momentum = Vector.zero();
+            mover.remove(TargetMovementComponent.class);
+            return;
+        }
+        if (engine.physics().grid().isEmpty()) {
+            return;
+        }
+        final Optional<FlowField> flowField = automovement.useAsyncFlowField
+                ? engine.physics().flowFieldAsync(target)
+                : Optional.of(engine.physics().flowField(target));
+        flowField.flatMap(field -> field.isAtTarget(mover.position())
+                        ? Optional.of(target)
+                        : field.nextPosition(mover.position()))
+                .ifPresent(nextPosition -> {
+                    mover.remove(TargetMovementComponent.class);
+                    mover.add(new TargetMovementComponent(nextPosition), targetMovement -> {
+                        targetMovement.acceleration = automovement.acceleration;
+                        targetMovement.maxSpeed = automovement.speed;
+                    });
+                });
+    }
 }
@@ -1,13 +1,16 @@
 package io.github.srcimon.screwbox.core.environment.ai;
 
+import io.github.srcimon.screwbox.core.Grid;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+import io.github.srcimon.screwbox.core.physics.Physics;
 
 import java.io.Serial;
 
 /**
- * Moves the entity towards the specified position. Does not avoid obstacles. Use {@link PathMovementComponent} instead
- * when more intelligent pathfinding is needed.
+ * Moves the entity towards the specified position. Does not avoid obstacles unless {@link #avoidObstacles} is set. Use
+ * {@link PathMovementComponent} instead when more intelligent pathfinding is needed.
  */
 public class TargetMovementComponent implements Component {
 
@@ -18,6 +21,15 @@ public class TargetMovementComponent implements Component {
     public double maxSpeed;
     public double acceleration;
 
+    /**
+     * Moves around obstacles using the {@link FlowField} to the {@link #position}. Requires a {@link Grid}. All
+     * entities moving towards the same position share a single {@link FlowField}.
+     *
+     * @see Physics#flowField(Vector)
+     * @since 2.15.0
+     */
+    public boolean avoidObstacles;
+
     public TargetMovementComponent(final Vector position) {
         this(position, 100);
     }
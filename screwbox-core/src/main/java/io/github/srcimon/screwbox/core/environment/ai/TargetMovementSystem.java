@@ -3,8 +3,10 @@ package io.github.srcimon.screwbox.core.environment.ai;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.physics.FlowField;
 
 /**
  * Moves entities having {@link TargetMovementComponent} towards the specified position.
@@ -18,7 +20,7 @@ public class TargetMovementSystem implements EntitySystem {
         for (final var entity : engine.environment().fetchAll(TARGETS)) {
             final var physics = entity.get(PhysicsComponent.class);
             final var target = entity.get(TargetMovementComponent.class);
-            var destinationVector = target.position.substract(entity.position());
+            var destinationVector = destination(engine, entity, target).substract(entity.position());
             double deltaAcceleration = engine.loop().delta() * target.acceleration;
             Vector speedChange = destinationVector.length(deltaAcceleration);
 
@@ -29,4 +31,14 @@ public class TargetMovementSystem implements EntitySystem {
             physics.momentum = newMomentum.length(Math.min(newMomentum.length(), target.maxSpeed));
         }
     }
+
+    private static Vector destination(final Engine engine, final Entity entity, final TargetMovementComponent target) {
+        if (!target.avoidObstacles || engine.physics().grid().isEmpty()) {
+            return target.position;
+        }
+        final FlowField flowField = engine.physics().flowField(target.position);
+        return flowField.isAtTarget(entity.position())
+                ? target.position
+                : flowField.nextPosition(entity.position()).orElse(target.position);
+    }
 }
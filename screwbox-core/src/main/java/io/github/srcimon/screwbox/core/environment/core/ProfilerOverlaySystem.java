@@ -0,0 +1,82 @@
+package io.github.srcimon.screwbox.core.environment.core;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.graphics.Canvas;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SystemTextDrawOptions;
+import io.github.srcimon.screwbox.core.loop.PhaseTiming;
+import io.github.srcimon.screwbox.core.loop.Profiler;
+import io.github.srcimon.screwbox.core.utils.Scheduler;
+import io.github.srcimon.screwbox.core.utils.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shows the slowest phases of the frame measured by the {@link Profiler} on the screen. Enables the {@link Profiler}
+ * when added to the environment.
+ *
+ * @since 2.15.0
+ */
+@Order(Order.SystemOrder.PRESENTATION_OVERLAY)
+public class ProfilerOverlaySystem implements EntitySystem {
+
+    private static final SystemTextDrawOptions TEXT_OPTIONS = SystemTextDrawOptions.systemFont("Monospaced", 12).color(Color.WHITE);
+    private static final RectangleDrawOptions BACKGROUND = RectangleDrawOptions.filled(Color.BLACK.opacity(0.6));
+    private static final int LINE_HEIGHT = 14;
+    private static final int PADDING = 8;
+
+    private final int maxPhases;
+    private final Scheduler scheduler = Scheduler.withInterval(Duration.ofMillis(500));
+    private List<String> lines = new ArrayList<>();
+
+    public ProfilerOverlaySystem() {
+        this(12);
+    }
+
+    /**
+     * Creates a new instance showing the specified number of phases.
+     */
+    public ProfilerOverlaySystem(final int maxPhases) {
+        Validate.positive(maxPhases, "max phases must be positive");
+        this.maxPhases = maxPhases;
+    }
+
+    @Override
+    public void update(final Engine engine) {
+        final Profiler profiler = engine.loop().profiler();
+        if (!profiler.isEnabled()) {
+            profiler.enable();
+        }
+        if (scheduler.isTick(engine.loop().time())) {
+            lines = createLines(profiler.timings());
+        }
+        final Canvas canvas = engine.graphics().canvas();
+        canvas.drawRectangle(Offset.origin(), Size.of(360, lines.size() * LINE_HEIGHT + PADDING * 2), BACKGROUND);
+        int y = PADDING;
+        for (final var line : lines) {
+            canvas.drawText(Offset.at(PADDING, y), line, TEXT_OPTIONS);
+            y += LINE_HEIGHT;
+        }
+    }
+
+    private List<String> createLines(final List<PhaseTiming> timings) {
+        final List<String> newLines = new ArrayList<>();
+        newLines.add("%-24s %7s %7s %7s".formatted("phase (ms)", "p50", "p95", "p99"));
+        for (final var timing : timings.subList(0, Math.min(maxPhases, timings.size()))) {
+            newLines.add("%-24.24s %7.2f %7.2f %7.2f".formatted(timing.phase(),
+                    millis(timing.p50()), millis(timing.p95()), millis(timing.p99())));
+        }
+        return newLines;
+    }
+
+    private static double millis(final Duration duration) {
+        return duration.nanos() / 1_000_000.0;
+    }
+}
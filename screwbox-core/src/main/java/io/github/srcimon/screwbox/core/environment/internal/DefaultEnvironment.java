@@ -8,12 +8,16 @@ import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.Order;
 import io.github.srcimon.screwbox.core.environment.SourceImport;
+import io.github.srcimon.screwbox.core.loop.internal.DefaultProfiler;
+import io.github.srcimon.screwbox.core.loop.internal.SimulationTimestep;
 import io.github.srcimon.screwbox.core.utils.Reflections;
 import io.github.srcimon.screwbox.core.utils.Validate;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
@@ -23,9 +27,14 @@ public class DefaultEnvironment implements Environment {
     private final EntityManager entityManager = new EntityManager();
     private final SavegameManager savegameManager = new SavegameManager();
     private final SystemManager systemManager;
+    private int minimumChunkSize = 512;
 
     public DefaultEnvironment(final Engine engine) {
-        this.systemManager = new SystemManager(engine, entityManager);
+        this(engine, new DefaultProfiler(), new SimulationTimestep());
+    }
+
+    public DefaultEnvironment(final Engine engine, final DefaultProfiler profiler, final SimulationTimestep timestep) {
+        this.systemManager = new SystemManager(engine, entityManager, profiler, timestep);
     }
 
     @Override
@@ -128,6 +137,33 @@ public class DefaultEnvironment implements Environment {
         return entityManager.entitiesMatching(archetype);
     }
 
+    @Override
+    public void forEachParallel(final Archetype archetype, final Consumer<Entity> action) {
+        requireNonNull(action, "action must not be null");
+        final List<Entity> entities = fetchAll(archetype);
+        entityManager.runWithDelayedChanges(() -> {
+            if (entities.size() <= minimumChunkSize) {
+                for (final var entity : entities) {
+                    action.accept(entity);
+                }
+            } else {
+                ForkJoinPool.commonPool().invoke(new EntityChunkAction(entities, 0, entities.size(), minimumChunkSize, action));
+            }
+        });
+    }
+
+    @Override
+    public Environment setMinimumChunkSize(final int minimumChunkSize) {
+        Validate.positive(minimumChunkSize, "minimum chunk size must be positive");
+        this.minimumChunkSize = minimumChunkSize;
+        return this;
+    }
+
+    @Override
+    public int minimumChunkSize() {
+        return minimumChunkSize;
+    }
+
     @Override
     public Environment remove(final Entity entity) {
         entityManager.removeEntity(entity);
@@ -349,6 +385,17 @@ public class DefaultEnvironment implements Environment {
         return this;
     }
 
+    @Override
+    public Environment setParallelSystemUpdatesEnabled(final boolean enabled) {
+        systemManager.setParallelUpdates(enabled);
+        return this;
+    }
+
+    @Override
+    public boolean isParallelSystemUpdatesEnabled() {
+        return systemManager.isParallelUpdates();
+    }
+
     private Environment enableFeature(final Feature feature) {
         for (final var system : feature.systems) {
             addOrReplaceSystem(system);
@@ -0,0 +1,46 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Applies an action on a range of {@link Entity entities}. Splits the range in halves until the chunks are not
+ * larger than the minimum chunk size.
+ */
+class EntityChunkAction extends RecursiveAction {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Entity> entities;
+    private final transient Consumer<Entity> action;
+    private final int from;
+    private final int to;
+    private final int minimumChunkSize;
+
+    EntityChunkAction(final List<Entity> entities, final int from, final int to, final int minimumChunkSize, final Consumer<Entity> action) {
+        this.entities = entities;
+        this.from = from;
+        this.to = to;
+        this.minimumChunkSize = minimumChunkSize;
+        this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= minimumChunkSize * 2) {
+            for (int index = from; index < to; index++) {
+                action.accept(entities.get(index));
+            }
+        } else {
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                    new EntityChunkAction(entities, from, middle, minimumChunkSize, action),
+                    new EntityChunkAction(entities, middle, to, minimumChunkSize, action));
+        }
+    }
+}
@@ -6,24 +6,59 @@ import io.github.srcimon.screwbox.core.environment.EntityEvent;
 import io.github.srcimon.screwbox.core.environment.EntityListener;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 public class EntityManager implements EntityListener {
 
+    private static final class ArchetypeCache {
+        private final int id;
+        private final Archetype archetype;
+        private final List<Entity> entities = new ArrayList<>();
+
+        private ArchetypeCache(final int id, final Archetype archetype) {
+            this.id = id;
+            this.archetype = archetype;
+        }
+    }
+
+    /**
+     * Stores the position of an {@link Entity} within every {@link ArchetypeCache} to allow removal in constant time.
+     */
+    private static final class EntityRecord {
+        // position + 1 within the archetype cache, 0 means not contained
+        private int[] slots = new int[0];
+
+        private int slotIn(final ArchetypeCache cache) {
+            return cache.id < slots.length ? slots[cache.id] - 1 : -1;
+        }
+
+        private void updateSlotIn(final ArchetypeCache cache, final int slot) {
+            if (cache.id >= slots.length) {
+                slots = Arrays.copyOf(slots, cache.id + 1);
+            }
+            slots[cache.id] = slot + 1;
+        }
+    }
+
     private final List<Entity> entities = new ArrayList<>();
     private final Map<Integer, Entity> entitiesById = new HashMap<>();
-    private final Map<Archetype, List<Entity>> archetypeCache = new HashMap<>();
+    private final Map<Entity, EntityRecord> records = new HashMap<>();
+    private final Map<Archetype, ArchetypeCache> archetypeCache = new ConcurrentHashMap<>();
+    private final List<ArchetypeCache> archetypeCaches = new ArrayList<>();
     private final List<Entity> pendingNewEntities = new ArrayList<>();
     private final List<Entity> pendingEntityDeletions = new ArrayList<>();
     private final List<Entity> pendingEntityCachesToRefresh = new ArrayList<>();
     private boolean delayChanges = false;
 
-    public void addEntity(final Entity entity) {
+    public synchronized void addEntity(final Entity entity) {
         if (delayChanges) {
             pendingNewEntities.add(entity);
         } else {
@@ -32,6 +67,9 @@ public class EntityManager implements EntityListener {
                     throw new IllegalStateException("duplicate entity id detected: " + id);
                 }
             });
+            if (nonNull(records.putIfAbsent(entity, new EntityRecord()))) {
+                throw new IllegalStateException("entity already added: " + entity);
+            }
             entity.registerListener(this);
             refreshCachedArchetypes(entity);
             this.entities.add(entity);
@@ -44,39 +82,82 @@ public class EntityManager implements EntityListener {
 
     public List<Entity> entitiesMatching(final Archetype archetype) {
         Objects.requireNonNull(archetype, "archetype must not be null");
-        final List<Entity> cacheResult = archetypeCache.get(archetype);
-        if (nonNull(cacheResult)) {
-            return cacheResult;
+        final ArchetypeCache cacheResult = archetypeCache.get(archetype);
+        return nonNull(cacheResult)
+                ? cacheResult.entities
+                : createArchetypeCache(archetype);
+    }
+
+    // synchronized because systems might request new archetypes while being updated concurrently
+    private synchronized List<Entity> createArchetypeCache(final Archetype archetype) {
+        final ArchetypeCache existingCache = archetypeCache.get(archetype);
+        if (nonNull(existingCache)) {
+            return existingCache.entities;
         }
-        final List<Entity> calculatedResult = new ArrayList<>();
+        final ArchetypeCache cache = new ArchetypeCache(archetypeCaches.size(), archetype);
         for (final var entity : entities) {
             if (archetype.matches(entity)) {
-                calculatedResult.add(entity);
+                addToCache(cache, entity, records.get(entity));
             }
         }
-        archetypeCache.put(archetype, calculatedResult);
-        return calculatedResult;
+        archetypeCaches.add(cache);
+        archetypeCache.put(archetype, cache);
+        return cache.entities;
     }
 
     private void refreshCachedArchetypes(final Entity entity) {
-        for (final var cacheSet : archetypeCache.entrySet()) {
-            final Archetype archetype = cacheSet.getKey();
-            final var cacheEntities = cacheSet.getValue();
-            if (archetype.matches(entity)) {
-                if (!cacheEntities.contains(entity)) {
-                    cacheEntities.add(entity);
+        final EntityRecord record = records.get(entity);
+        if (isNull(record)) {
+            return; // entity is not managed (anymore)
+        }
+        for (final var cache : archetypeCaches) {
+            final boolean isCached = record.slotIn(cache) != -1;
+            if (cache.archetype.matches(entity)) {
+                if (!isCached) {
+                    addToCache(cache, entity, record);
                 }
-            } else {
-                cacheEntities.remove(entity);
+            } else if (isCached) {
+                removeFromCache(cache, record);
             }
         }
     }
 
+    private void addToCache(final ArchetypeCache cache, final Entity entity, final EntityRecord record) {
+        record.updateSlotIn(cache, cache.entities.size());
+        cache.entities.add(entity);
+    }
+
+    private void removeFromCache(final ArchetypeCache cache, final EntityRecord record) {
+        final int slot = record.slotIn(cache);
+        final Entity last = cache.entities.removeLast();
+        if (slot < cache.entities.size()) {
+            cache.entities.set(slot, last);
+            records.get(last).updateSlotIn(cache, slot);
+        }
+        record.updateSlotIn(cache, -1);
+    }
+
     public void delayChanges() {
         this.delayChanges = true;
     }
 
-    public void pickUpChanges() {
+    /**
+     * Runs the task while changes are delayed. Will pick up changes afterwards if changes haven't been delayed before.
+     */
+    public void runWithDelayedChanges(final Runnable task) {
+        if (delayChanges) {
+            task.run();
+        } else {
+            delayChanges();
+            try {
+                task.run();
+            } finally {
+                pickUpChanges();
+            }
+        }
+    }
+
+    public synchronized void pickUpChanges() {
         this.delayChanges = false;
 
         for (final Entity entity : pendingEntityDeletions) {
@@ -96,16 +177,22 @@ public class EntityManager implements EntityListener {
     }
 
     @Override
-    public void componentAdded(final EntityEvent event) {
+    public synchronized void componentAdded(final EntityEvent event) {
         pendingEntityCachesToRefresh.add(event.entity());
     }
 
-    public void removeEntity(final Entity entity) {
+    public synchronized void removeEntity(final Entity entity) {
         if (delayChanges) {
             pendingEntityDeletions.add(entity);
         } else {
-            for (final var cacheEntry : archetypeCache.values()) {
-                cacheEntry.remove(entity);
+            final EntityRecord record = records.remove(entity);
+            if (isNull(record)) {
+                return;
+            }
+            for (final var cache : archetypeCaches) {
+                if (record.slotIn(cache) != -1) {
+                    removeFromCache(cache, record);
+                }
             }
             this.entities.remove(entity);
             entity.id().ifPresent(entitiesById::remove);
@@ -113,7 +200,7 @@ public class EntityManager implements EntityListener {
     }
 
     @Override
-    public void componentRemoved(final EntityEvent event) {
+    public synchronized void componentRemoved(final EntityEvent event) {
         if (event.entity().isEmpty()) {
             pendingEntityDeletions.add(event.entity());
         } else {
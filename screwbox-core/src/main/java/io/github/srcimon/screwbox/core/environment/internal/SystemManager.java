@@ -3,11 +3,14 @@ package io.github.srcimon.screwbox.core.environment.internal;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.loop.internal.DefaultProfiler;
+import io.github.srcimon.screwbox.core.loop.internal.SimulationTimestep;
 import io.github.srcimon.screwbox.core.utils.Cache;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 import static java.util.Objects.isNull;
 
@@ -18,17 +21,24 @@ public class SystemManager {
     private final List<EntitySystem> systems = new ArrayList<>();
     private final EntityManager entityManager;
     private final Engine engine;
+    private final DefaultProfiler profiler;
+    private final SimulationTimestep timestep;
     private boolean delayChanges = false;
+    private boolean parallelUpdates = false;
+    private List<List<EntitySystem>> waves;
 
     private final List<EntitySystem> pendingSystemsToAdd = new ArrayList<>();
     private final List<Class<? extends EntitySystem>> pendingSystemsToRemove = new ArrayList<>();
 
-    public SystemManager(final Engine engine, final EntityManager entityManager) {
+    public SystemManager(final Engine engine, final EntityManager entityManager, final DefaultProfiler profiler,
+                         final SimulationTimestep timestep) {
         this.engine = engine;
         this.entityManager = entityManager;
+        this.profiler = profiler;
+        this.timestep = timestep;
     }
 
-    public void addSystem(final EntitySystem system) {
+    public synchronized void addSystem(final EntitySystem system) {
         if(isSystemPresent(system.getClass())) {
             throw new IllegalStateException("%s already present".formatted(system.getClass().getSimpleName()));
         }
@@ -37,6 +47,7 @@ public class SystemManager {
         } else {
             systems.add(system);
             systems.sort(SYSTEM_COMPARATOR);
+            waves = null;
         }
     }
 
@@ -56,18 +67,97 @@ public class SystemManager {
         return systems;
     }
 
+    public void setParallelUpdates(final boolean parallelUpdates) {
+        this.parallelUpdates = parallelUpdates;
+    }
+
+    public boolean isParallelUpdates() {
+        return parallelUpdates;
+    }
+
     public void updateAllSystems() {
         entityManager.pickUpChanges();
         delayChanges();
-        for (final EntitySystem entitySystem : systems) {
-            entityManager.delayChanges();
-            entitySystem.update(engine);
-            entityManager.pickUpChanges();
+        if (parallelUpdates) {
+            updateSystemsInWaves();
+        } else {
+            updateSystemsInOrder();
         }
         pickUpChanges();
         entityManager.delayChanges();
     }
 
+    private void updateSystemsInOrder() {
+        timestep.setSimulating(true);
+        for (int step = 0; step < timestep.simulationSteps(); step++) {
+            for (final EntitySystem entitySystem : systems) {
+                if (isSimulation(entitySystem)) {
+                    updateWithDelayedChanges(entitySystem);
+                }
+            }
+        }
+        timestep.setSimulating(false);
+        for (final EntitySystem entitySystem : systems) {
+            if (!isSimulation(entitySystem)) {
+                updateWithDelayedChanges(entitySystem);
+            }
+        }
+    }
+
+    private void updateWithDelayedChanges(final EntitySystem entitySystem) {
+        entityManager.delayChanges();
+        update(entitySystem);
+        entityManager.pickUpChanges();
+    }
+
+    private void updateSystemsInWaves() {
+        if (isNull(waves)) {
+            waves = SystemSchedule.createWaves(systems, SystemManager::orderOf);
+        }
+        timestep.setSimulating(true);
+        for (int step = 0; step < timestep.simulationSteps(); step++) {
+            for (final var wave : waves) {
+                if (isSimulation(wave.getFirst())) {
+                    updateWave(wave);
+                }
+            }
+        }
+        timestep.setSimulating(false);
+        for (final var wave : waves) {
+            if (!isSimulation(wave.getFirst())) {
+                updateWave(wave);
+            }
+        }
+    }
+
+    private void updateWave(final List<EntitySystem> wave) {
+        entityManager.delayChanges();
+        if (wave.size() == 1) {
+            update(wave.getFirst());
+        } else {
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(wave.size());
+            for (final var system : wave) {
+                tasks.add(ForkJoinTask.adapt(() -> update(system)));
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+        entityManager.pickUpChanges();
+    }
+
+    private static boolean isSimulation(final EntitySystem system) {
+        return orderOf(system).ordinal() < Order.SystemOrder.PRESENTATION_PREPARE.ordinal();
+    }
+
+    private void update(final EntitySystem system) {
+        if (profiler.isEnabled()) {
+            final long before = System.nanoTime();
+            system.update(engine);
+            profiler.record(system.getClass().getSimpleName(), System.nanoTime() - before);
+        } else {
+            system.update(engine);
+        }
+    }
+
     private void delayChanges() {
         delayChanges = true;
     }
@@ -87,13 +177,14 @@ public class SystemManager {
         pendingSystemsToAdd.clear();
     }
 
-    public void removeSystem(final Class<? extends EntitySystem> systemType) {
+    public synchronized void removeSystem(final Class<? extends EntitySystem> systemType) {
         if (delayChanges) {
             pendingSystemsToRemove.add(systemType);
         } else {
             for (final var system : systemsOfType(systemType)) {
                 systems.remove(system);
             }
+            waves = null;
         }
     }
 
@@ -0,0 +1,90 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.Order;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Splits the {@link EntitySystem systems} of every {@link Order.SystemOrder} into waves of {@link EntitySystem systems}
+ * that can be updated concurrently. An {@link EntitySystem} is placed in the first wave after all previous
+ * {@link EntitySystem systems} of the same {@link Order.SystemOrder} it conflicts with.
+ *
+ * @see ComponentAccess
+ */
+final class SystemSchedule {
+
+    private record Access(Set<Class<? extends Component>> reads, Set<Class<? extends Component>> writes) {
+
+        private static final Access EXCLUSIVE = new Access(null, null);
+
+        private static Access of(final EntitySystem system) {
+            final var componentAccess = system.getClass().getAnnotation(ComponentAccess.class);
+            return isNull(componentAccess)
+                    ? EXCLUSIVE
+                    : new Access(Set.of(componentAccess.reads()), Set.of(componentAccess.writes()));
+        }
+
+        private boolean conflictsWith(final Access other) {
+            if (this == EXCLUSIVE || other == EXCLUSIVE) {
+                return true;
+            }
+            return !Collections.disjoint(writes, other.writes)
+                    || !Collections.disjoint(writes, other.reads)
+                    || !Collections.disjoint(reads, other.writes);
+        }
+    }
+
+    private SystemSchedule() {
+    }
+
+    /**
+     * Creates the waves for all {@link EntitySystem systems}. The {@link EntitySystem systems} must already be sorted
+     * by their {@link Order.SystemOrder}.
+     */
+    static List<List<EntitySystem>> createWaves(final List<EntitySystem> systems,
+                                                final Function<EntitySystem, Order.SystemOrder> orderOf) {
+        final List<List<EntitySystem>> waves = new ArrayList<>();
+        int index = 0;
+        while (index < systems.size()) {
+            final Order.SystemOrder order = orderOf.apply(systems.get(index));
+            final List<EntitySystem> stage = new ArrayList<>();
+            while (index < systems.size() && orderOf.apply(systems.get(index)) == order) {
+                stage.add(systems.get(index));
+                index++;
+            }
+            waves.addAll(createStageWaves(stage));
+        }
+        return waves;
+    }
+
+    private static List<List<EntitySystem>> createStageWaves(final List<EntitySystem> stage) {
+        final List<Access> accesses = new ArrayList<>();
+        final int[] waveOfSystem = new int[stage.size()];
+        final List<List<EntitySystem>> waves = new ArrayList<>();
+        for (int current = 0; current < stage.size(); current++) {
+            final Access access = Access.of(stage.get(current));
+            int wave = 0;
+            for (int previous = 0; previous < current; previous++) {
+                if (access.conflictsWith(accesses.get(previous))) {
+                    wave = Math.max(wave, waveOfSystem[previous] + 1);
+                }
+            }
+            accesses.add(access);
+            waveOfSystem[current] = wave;
+            if (wave == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(wave).add(stage.get(current));
+        }
+        return waves;
+    }
+}
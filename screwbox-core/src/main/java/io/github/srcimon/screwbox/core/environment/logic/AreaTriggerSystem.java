@@ -5,23 +5,37 @@ import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.physics.internal.Broadphase;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 public class AreaTriggerSystem implements EntitySystem {
 
     private static final Archetype TRIGGER_AREAS = Archetype.of(
             TransformComponent.class, TriggerAreaComponent.class);
 
+    private final Map<Archetype, Broadphase> broadphases = new HashMap<>();
+
     @Override
     public void update(Engine engine) {
+        final Set<Archetype> syncedArchetypes = new HashSet<>();
         for (final Entity entity : engine.environment().fetchAll(TRIGGER_AREAS)) {
             final TriggerAreaComponent trigger = entity.get(TriggerAreaComponent.class);
-            trigger.isTriggered = isTriggerd(entity, trigger.triggeredBy, engine);
+            final Broadphase broadphase = broadphases.computeIfAbsent(trigger.triggeredBy, archetype -> new Broadphase());
+            if (syncedArchetypes.add(trigger.triggeredBy)) {
+                broadphase.sync(engine.environment().fetchAll(trigger.triggeredBy));
+            }
+            trigger.isTriggered = isTriggerd(entity, broadphase);
         }
+        broadphases.keySet().retainAll(syncedArchetypes);
     }
 
-    private boolean isTriggerd(final Entity entity, final Archetype triggeredBy, final Engine engine) {
+    private boolean isTriggerd(final Entity entity, final Broadphase broadphase) {
         final var areaBounds = entity.bounds();
-        for (var trigger : engine.environment().fetchAll(triggeredBy)) {
+        for (var trigger : broadphase.candidates(areaBounds)) {
             if (trigger.bounds().touches(areaBounds)) {
                 return true;
             }
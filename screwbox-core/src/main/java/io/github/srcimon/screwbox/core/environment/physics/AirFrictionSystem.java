@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.physics;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 
@@ -13,6 +14,7 @@ import static io.github.srcimon.screwbox.core.utils.MathUtil.modifier;
  * @see AirFrictionComponent
  * @since 2.11.0
  */
+@ComponentAccess(reads = AirFrictionComponent.class, writes = PhysicsComponent.class)
 public class AirFrictionSystem implements EntitySystem {
 
     private static final Archetype PHYSICS = Archetype.of(PhysicsComponent.class, AirFrictionComponent.class);
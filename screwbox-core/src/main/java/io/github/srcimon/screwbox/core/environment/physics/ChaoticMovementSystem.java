@@ -1,8 +1,10 @@
 package io.github.srcimon.screwbox.core.environment.physics;
 
 import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 
@@ -11,24 +13,26 @@ import static io.github.srcimon.screwbox.core.Vector.$;
 /**
  * Enables chaotic movement behaviour for all {@link Entity}s having {@link PhysicsComponent} and {@link ChaoticMovementComponent}.
  */
+@ComponentAccess(reads = ChaoticMovementComponent.class, writes = PhysicsComponent.class)
 public class ChaoticMovementSystem implements EntitySystem {
 
     private static final Archetype MOVING_ENTITIES = Archetype.of(PhysicsComponent.class, ChaoticMovementComponent.class);
 
     @Override
     public void update(final Engine engine) {
-        for (final var entity : engine.environment().fetchAll(MOVING_ENTITIES)) {
+        final Time time = engine.loop().time();
+        final double delta = engine.loop().delta();
+        engine.environment().forEachParallel(MOVING_ENTITIES, entity -> {
             final var movement = entity.get(ChaoticMovementComponent.class);
             final Vector targetMovement = $(
-                    movement.xModifier.value(engine.loop().time()),
-                    movement.yModifier.value(engine.loop().time()))
+                    movement.xModifier.value(time),
+                    movement.yModifier.value(time))
                     .multiply(movement.speed).add(movement.baseSpeed);
             final var physicsComponent = entity.get(PhysicsComponent.class);
             final Vector deltaMovement = targetMovement.substract(physicsComponent.momentum)
-                    .multiply(engine.loop().delta() * 1000.0 / movement.interval.milliseconds());
+                    .multiply(delta * 1000.0 / movement.interval.milliseconds());
 
-            physicsComponent.momentum =  physicsComponent.momentum.add(deltaMovement);
-
-        }
+            physicsComponent.momentum = physicsComponent.momentum.add(deltaMovement);
+        });
     }
 }
@@ -5,6 +5,7 @@ import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.physics.internal.Broadphase;
 import io.github.srcimon.screwbox.core.physics.internal.CollisionCheck;
 
 /**
@@ -18,15 +19,17 @@ public class CollisionSensorSystem implements EntitySystem {
     private static final Archetype SENSORS = Archetype.ofSpacial(CollisionSensorComponent.class);
     private static final Archetype COLLIDERS = Archetype.ofSpacial(ColliderComponent.class);
 
+    private final Broadphase broadphase = new Broadphase();
+
     @Override
     public void update(final Engine engine) {
-        final var colliders = engine.environment().fetchAll(COLLIDERS);
+        broadphase.sync(engine.environment().fetchAll(COLLIDERS));
         for (final var sensorEntity : engine.environment().fetchAll(SENSORS)) {
             final var collidedEntities = sensorEntity.get(CollisionSensorComponent.class).collidedEntities;
             collidedEntities.clear();
 
             final Bounds sensorBounds = sensorEntity.bounds().expand(0.001);
-            for (final var collider : colliders) {
+            for (final var collider : broadphase.candidates(sensorBounds)) {
                 if (sensorEntity != collider && sensorBounds.intersects(collider.bounds())
                         && new CollisionCheck(sensorEntity, collider).isNoOneWayFalsePositive()) {
                     collidedEntities.add(collider);
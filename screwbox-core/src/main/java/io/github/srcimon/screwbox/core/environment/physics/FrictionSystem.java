@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment.physics;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 
@@ -15,6 +16,7 @@ import static java.lang.Math.min;
  * Applies friction on all {@link Entity entities} having a {@link PhysicsComponent}. Slows down entities by there specified
  * {@link PhysicsComponent#friction}. May also used to speed up when using negative values.
  */
+@ComponentAccess(writes = PhysicsComponent.class)
 public class FrictionSystem implements EntitySystem {
 
     private static final Archetype PHYSICS = Archetype.of(PhysicsComponent.class);
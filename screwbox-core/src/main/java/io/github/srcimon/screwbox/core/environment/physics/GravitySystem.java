@@ -3,9 +3,11 @@ package io.github.srcimon.screwbox.core.environment.physics;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
 
+@ComponentAccess(reads = GravityComponent.class, writes = PhysicsComponent.class)
 @Order(Order.SystemOrder.SIMULATION_EARLY)
 public class GravitySystem implements EntitySystem {
 
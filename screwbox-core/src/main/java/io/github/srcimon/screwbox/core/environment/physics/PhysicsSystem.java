@@ -5,6 +5,7 @@ import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.physics.internal.Broadphase;
 import io.github.srcimon.screwbox.core.physics.internal.CollisionCheck;
 import io.github.srcimon.screwbox.core.physics.internal.CollisionResolver;
 
@@ -18,27 +19,44 @@ public class PhysicsSystem implements EntitySystem {
     private static final Archetype PHYSICS = Archetype.ofSpacial(PhysicsComponent.class);
     private static final Archetype COLLIDERS = Archetype.ofSpacial(ColliderComponent.class);
 
+    private final Broadphase broadphase = new Broadphase();
+
     @Override
     public void update(final Engine engine) {
         final double delta = engine.loop().delta();
-        final var colliders = engine.environment().fetchAll(COLLIDERS);
-        for (final Entity entity : engine.environment().fetchAll(PHYSICS)) {
+        final var environment = engine.environment();
+        // bodies are moved in parallel before any collision is resolved only when there are enough bodies
+        final boolean isMovedInParallel = environment.fetchAll(PHYSICS).size() > environment.minimumChunkSize();
+        if (isMovedInParallel) {
+            environment.forEachParallel(PHYSICS, entity -> move(entity, delta));
+        }
+
+        broadphase.sync(environment.fetchAll(COLLIDERS));
+        for (final Entity entity : environment.fetchAll(PHYSICS)) {
             final var physicsBody = entity.get(PhysicsComponent.class);
-            entity.moveBy(physicsBody.momentum.multiply(delta));
+            if (!isMovedInParallel) {
+                move(entity, delta);
+            }
 
             if (!physicsBody.ignoreCollisions) {
-                for (final var collisionCheck : fetchOrderedCollisionChecks(entity, colliders)) {
+                for (final var collisionCheck : fetchOrderedCollisionChecks(entity)) {
                     if (collisionCheck.bodiesIntersect()) {
                         CollisionResolver.resolveCollision(collisionCheck, delta);
                     }
                 }
             }
+            // physics bodies may be colliders themselves
+            broadphase.refresh(entity);
         }
     }
 
-    private List<CollisionCheck> fetchOrderedCollisionChecks(final Entity entity, final List<Entity> colliders) {
+    private static void move(final Entity entity, final double delta) {
+        entity.moveBy(entity.get(PhysicsComponent.class).momentum.multiply(delta));
+    }
+
+    private List<CollisionCheck> fetchOrderedCollisionChecks(final Entity entity) {
         final List<CollisionCheck> collisionChecks = new ArrayList<>();
-        for (final var collider : colliders) {
+        for (final var collider : broadphase.candidates(entity.bounds())) {
             if (entity != collider && entity.bounds().intersects(collider.bounds())) {
                 final CollisionCheck check = new CollisionCheck(entity, collider);
                 if (check.isNoOneWayFalsePositive()) {
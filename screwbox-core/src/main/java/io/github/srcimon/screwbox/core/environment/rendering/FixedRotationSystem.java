@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment.rendering;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Rotation;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
@@ -10,6 +11,7 @@ import io.github.srcimon.screwbox.core.graphics.Sprite;
 /**
  * Rotates {@link Sprite sprites} of {@link Entity entities} having {@link RenderComponent} and {@link FixedRotationComponent}.
  */
+@ComponentAccess(reads = FixedRotationComponent.class, writes = RenderComponent.class)
 public class FixedRotationSystem implements EntitySystem {
 
     private static final Archetype ROTATING = Archetype.of(RenderComponent.class, FixedRotationComponent.class);
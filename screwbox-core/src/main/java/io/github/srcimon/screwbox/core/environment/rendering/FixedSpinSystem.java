@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.rendering;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
@@ -9,6 +10,7 @@ import io.github.srcimon.screwbox.core.graphics.Sprite;
 /**
  * Spins {@link Sprite sprites} of {@link Entity entities} having {@link RenderComponent} and {@link FixedSpinComponent}.
  */
+@ComponentAccess(reads = FixedSpinComponent.class, writes = RenderComponent.class)
 public class FixedSpinSystem implements EntitySystem {
 
     private static final Archetype SPINNING = Archetype.of(RenderComponent.class, FixedSpinComponent.class);
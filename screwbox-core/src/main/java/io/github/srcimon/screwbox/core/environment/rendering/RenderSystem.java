@@ -17,6 +17,7 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
 import io.github.srcimon.screwbox.core.graphics.internal.ImageUtil;
 import io.github.srcimon.screwbox.core.graphics.internal.ReflectionImage;
 import io.github.srcimon.screwbox.core.graphics.internal.filter.WaterDistortionImageFilter;
+import io.github.srcimon.screwbox.core.particles.internal.BatchedParticles;
 import io.github.srcimon.screwbox.core.utils.Pixelperfect;
 
 import java.awt.image.BufferedImage;
@@ -29,7 +30,8 @@ import static java.lang.Math.ceil;
 
 /**
  * Renders {@link Entity entities} having a {@link RenderComponent} and also adds refections for {@link Entity entities}
- * having a {@link ReflectionComponent}.
+ * having a {@link ReflectionComponent}. Also renders particles spawned in
+ * {@link io.github.srcimon.screwbox.core.particles.Particles#setBatchedMode(boolean) batched mode}.
  */
 @Order(PRESENTATION_WORLD)
 public class RenderSystem implements EntitySystem {
@@ -42,6 +44,9 @@ public class RenderSystem implements EntitySystem {
         final List<Entity> entities = fetchRenderEntities(engine);
         for (final var viewport : engine.graphics().viewports()) {
             final SpriteBatch spriteBatch = renderEntitiesOnViewport(viewport, entities, render -> !render.renderOverLight);
+            if (engine.particles() instanceof BatchedParticles batchedParticles) {
+                batchedParticles.addBatchedParticles(viewport, spriteBatch);
+            }
             addReflectionsToBatch(engine, viewport, spriteBatch);
             viewport.canvas().drawSpriteBatch(spriteBatch);
         }
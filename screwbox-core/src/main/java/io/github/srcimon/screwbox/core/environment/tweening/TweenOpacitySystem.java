@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment.tweening;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Percent;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
@@ -13,6 +14,7 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
  * Updates the {@link SpriteDrawOptions#opacity()} of all {@link Entity entities} that use tweening and have an
  * {@link TweenOpacityComponent}.
  */
+@ComponentAccess(reads = {TweenComponent.class, TweenOpacityComponent.class}, writes = RenderComponent.class)
 @Order(Order.SystemOrder.PRESENTATION_PREPARE)
 public class TweenOpacitySystem implements EntitySystem {
 
@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.tweening;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
@@ -11,6 +12,7 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
 /**
  * Updates the {@link SpriteDrawOptions#scale()} of all {@link Entity}s that use tweening and have an {@link TweenScaleComponent}.
  */
+@ComponentAccess(reads = {TweenComponent.class, TweenScaleComponent.class}, writes = RenderComponent.class)
 @Order(Order.SystemOrder.PRESENTATION_PREPARE)
 public class TweenScaleSystem implements EntitySystem {
 
@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.tweening;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
@@ -12,6 +13,7 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
  * Updates the {@link SpriteDrawOptions#spin()} and {@link SpriteDrawOptions#isSpinHorizontal()} of all
  * {@link Entity entities} that use tweening and have an {@link TweenOpacityComponent}.
  */
+@ComponentAccess(reads = {TweenComponent.class, TweenSpinComponent.class}, writes = RenderComponent.class)
 @Order(Order.SystemOrder.PRESENTATION_PREPARE)
 public class TweenSpinSystem implements EntitySystem {
 
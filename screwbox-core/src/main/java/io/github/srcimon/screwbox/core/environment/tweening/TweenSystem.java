@@ -5,6 +5,7 @@ import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Percent;
 import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Environment;
 
@@ -18,20 +19,22 @@ public class TweenSystem implements EntitySystem {
     @Override
     public void update(final Engine engine) {
         final Time now = engine.loop().time();
-        for (final var tweenEntity : engine.environment().fetchAll(TWEENS)) {
-            final var tween = tweenEntity.get(TweenComponent.class);
-            tween.progress = calculateProgressOfTween(now, tween);
-            tween.value = tween.mode.applyOn(tween.progress);
-
-            if (tweenHasReachedEnd(tween)) {
-                if (tween.isLooped) {
-                    tween.startTime = now;
-                    if (tween.usePingPong) {
-                        tween.reverse = !tween.reverse;
-                    }
-                } else {
-                    tweenEntity.remove(TweenComponent.class);
+        engine.environment().forEachParallel(TWEENS, tweenEntity -> updateTween(tweenEntity, now));
+    }
+
+    private void updateTween(final Entity tweenEntity, final Time now) {
+        final var tween = tweenEntity.get(TweenComponent.class);
+        tween.progress = calculateProgressOfTween(now, tween);
+        tween.value = tween.mode.applyOn(tween.progress);
+
+        if (tweenHasReachedEnd(tween)) {
+            if (tween.isLooped) {
+                tween.startTime = now;
+                if (tween.usePingPong) {
+                    tween.reverse = !tween.reverse;
                 }
+            } else {
+                tweenEntity.remove(TweenComponent.class);
             }
         }
     }
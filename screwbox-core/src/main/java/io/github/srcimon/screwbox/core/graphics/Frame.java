@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -36,6 +37,7 @@ public final class Frame implements Serializable, Sizeable {
 
     private final Duration duration;
     private final ImageIcon imageStorage;
+    private final transient SpriteAtlas.Region atlasRegion;
 
     /**
      * Returns an invisible {@link Frame}.
@@ -72,8 +74,13 @@ public final class Frame implements Serializable, Sizeable {
     }
 
     public Frame(final Image image, final Duration duration) {
+        this(image, duration, null);
+    }
+
+    Frame(final Image image, final Duration duration, final SpriteAtlas.Region atlasRegion) {
         this.imageStorage = new ImageIcon(image);
         this.duration = duration;
+        this.atlasRegion = atlasRegion;
     }
 
     /**
@@ -99,6 +106,17 @@ public final class Frame implements Serializable, Sizeable {
         return duration;
     }
 
+    /**
+     * Returns the area of the {@link SpriteAtlas} containing the {@link #image()} of this {@link Frame}. Will be
+     * empty if the {@link Frame} hasn't been packed into a {@link SpriteAtlas}.
+     *
+     * @see SpriteAtlas
+     * @since 2.15.0
+     */
+    public Optional<SpriteAtlas.Region> atlasRegion() {
+        return Optional.ofNullable(atlasRegion);
+    }
+
     /**
      * Returns the size of the frames {@link #image()}.
      */
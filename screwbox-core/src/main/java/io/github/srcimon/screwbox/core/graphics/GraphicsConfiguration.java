@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.graphics;
 import io.github.srcimon.screwbox.core.Percent;
 import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.utils.Validate;
+import io.github.srcimon.screwbox.core.window.Window;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +27,10 @@ public class GraphicsConfiguration {
     private int lightmapScale = 4;
     private Percent lightFalloff = Percent.max();
     private Color backgroundColor = Color.BLACK;
+    private LightAreaAlgorithm lightAreaAlgorithm = LightAreaAlgorithm.RAYCAST;
+    private boolean useRasterLightmap = false;
+    private boolean useOffscreenRendering = false;
+    private boolean useTiledRendering = false;
 
     /**
      * When turned on any interaction with {@link Light} will automatically enable {@link Light} rendering.
@@ -249,6 +254,97 @@ public class GraphicsConfiguration {
         return backgroundColor;
     }
 
+    /**
+     * Sets the {@link LightAreaAlgorithm} used to calculate the area lit by point lights and cone lights.
+     * Default value is {@link LightAreaAlgorithm#RAYCAST}.
+     *
+     * @since 2.15.0
+     */
+    public GraphicsConfiguration setLightAreaAlgorithm(final LightAreaAlgorithm lightAreaAlgorithm) {
+        this.lightAreaAlgorithm = requireNonNull(lightAreaAlgorithm, "light area algorithm must not be null");
+        notifyListeners(GraphicsConfigurationEvent.ConfigurationProperty.LIGHT_AREA_ALGORITHM);
+        return this;
+    }
+
+    /**
+     * Returns the {@link LightAreaAlgorithm} used to calculate the area lit by point lights and cone lights.
+     *
+     * @since 2.15.0
+     */
+    public LightAreaAlgorithm lightAreaAlgorithm() {
+        return lightAreaAlgorithm;
+    }
+
+    /**
+     * Renders the lightmap directly into reused pixel buffers instead of using {@link java.awt.Graphics2D}.
+     * Avoids creating new images every frame and speeds up the blur. The result may differ slightly from the
+     * default lightmap rendering.
+     *
+     * @since 2.15.0
+     */
+    public GraphicsConfiguration setUseRasterLightmap(final boolean useRasterLightmap) {
+        this.useRasterLightmap = useRasterLightmap;
+        notifyListeners(GraphicsConfigurationEvent.ConfigurationProperty.RASTER_LIGHTMAP);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the lightmap is rendered directly into reused pixel buffers.
+     *
+     * @see #setUseRasterLightmap(boolean)
+     * @since 2.15.0
+     */
+    public boolean isUseRasterLightmap() {
+        return useRasterLightmap;
+    }
+
+    /**
+     * Renders into an image in memory instead of the {@link Window}. Frames rendered offscreen are not shown but can
+     * be captured via {@link Screen#takeScreenshot()}. Enables rendering within headless engines, e.g. to benchmark
+     * rendering on a server.
+     *
+     * @since 2.15.0
+     */
+    public GraphicsConfiguration setUseOffscreenRendering(final boolean useOffscreenRendering) {
+        this.useOffscreenRendering = useOffscreenRendering;
+        notifyListeners(GraphicsConfigurationEvent.ConfigurationProperty.OFFSCREEN_RENDERING);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if rendering happens into an image in memory instead of the {@link Window}.
+     *
+     * @see #setUseOffscreenRendering(boolean)
+     * @since 2.15.0
+     */
+    public boolean isUseOffscreenRendering() {
+        return useOffscreenRendering;
+    }
+
+    /**
+     * Splits the screen into tiles that are rendered on multiple threads. Speeds up rendering of scenes with lots of
+     * sprites on machines with multiple cores. Rendering happens in memory before the frame is copied to the
+     * {@link Window}. This may be slower than the default rendering on hardware accelerated graphics pipelines when
+     * there is only little to draw.
+     *
+     * @since 2.15.0
+     */
+    public GraphicsConfiguration setUseTiledRendering(final boolean useTiledRendering) {
+        this.useTiledRendering = useTiledRendering;
+        notifyListeners(GraphicsConfigurationEvent.ConfigurationProperty.TILED_RENDERING);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the screen is rendered in tiles on multiple threads.
+     *
+     * @see #setUseTiledRendering(boolean)
+     * @since 2.15.0
+     */
+    public boolean isUseTiledRendering() {
+        return useTiledRendering;
+    }
+
     private void notifyListeners(final GraphicsConfigurationEvent.ConfigurationProperty changedProperty) {
         GraphicsConfigurationEvent event = new GraphicsConfigurationEvent(this, changedProperty);
         for (final var listener : listeners) {
@@ -18,7 +18,11 @@ public class GraphicsConfigurationEvent extends EventObject {
         LIGHT_FALLOFF,
         AUTO_ENABLE_LIGHT,
         LIGHT_ENABLED,
-        BACKGROUND_COLOR
+        BACKGROUND_COLOR,
+        LIGHT_AREA_ALGORITHM,
+        RASTER_LIGHTMAP,
+        OFFSCREEN_RENDERING,
+        TILED_RENDERING
     }
 
     public GraphicsConfigurationEvent(final Object source, final ConfigurationProperty changedProperty) {
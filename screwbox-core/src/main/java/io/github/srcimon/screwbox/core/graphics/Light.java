@@ -114,4 +114,20 @@ public interface Light {
      */
     Light render();
 
+    /**
+     * Returns the count of point lights and cone lights that reused the area calculated in the previous frame
+     * because neither the light nor any nearby shadow caster has changed.
+     *
+     * @see #lightAreaCacheMisses()
+     * @since 2.15.0
+     */
+    long lightAreaCacheHits();
+
+    /**
+     * Returns the count of point lights and cone lights that needed to calculate their area from scratch.
+     *
+     * @see #lightAreaCacheHits()
+     * @since 2.15.0
+     */
+    long lightAreaCacheMisses();
 }
@@ -0,0 +1,22 @@
+package io.github.srcimon.screwbox.core.graphics;
+
+/**
+ * Algorithms used to calculate the area lit by point lights and cone lights that is not covered by shadow casters.
+ *
+ * @see GraphicsConfiguration#setLightAreaAlgorithm(LightAreaAlgorithm)
+ * @since 2.15.0
+ */
+public enum LightAreaAlgorithm {
+
+    /**
+     * Casts one ray per degree and checks every ray against every edge of all nearby shadow casters. Shadows
+     * of small shadow casters may be slightly inaccurate.
+     */
+    RAYCAST,
+
+    /**
+     * Sorts the edges of all nearby shadow casters by their angle to the light and sweeps once around the light.
+     * Creates exact shadows and is much faster when there are many shadow casters nearby.
+     */
+    ANGULAR_SWEEP
+}
@@ -4,7 +4,9 @@ import io.github.srcimon.screwbox.core.Rotation;
 import io.github.srcimon.screwbox.core.graphics.drawoptions.CameraShakeOptions;
 import io.github.srcimon.screwbox.core.window.Window;
 
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Access drawing operations on the game {@link Screen}.
@@ -73,10 +75,46 @@ public interface Screen extends Sizeable {
 
     /**
      * Takes a screenshot of the whole {@link Screen}. This operation is very slow and will probably cause a small lag.
-     * The screenshot may also include other applications that are in front of your game screen.
+     * The screenshot may also include other applications that are in front of your game screen. Prefer
+     * {@link #requestScreenshot(Consumer)} which captures the rendered frame without these drawbacks.
      */
     Sprite takeScreenshot();
 
+    /**
+     * Captures the next rendered frame as screenshot. The callback is invoked as soon as the frame has been rendered.
+     * In contrast to {@link #takeScreenshot()} the screenshot is taken from the rendered frame, so it will never
+     * include other applications and won't cause a lag. The screenshot will also be available via
+     * {@link #lastScreenshot()}.
+     *
+     * @since 2.15.0
+     */
+    Screen requestScreenshot(Consumer<Sprite> callback);
+
+    /**
+     * Starts writing every rendered frame as numbered PNG file into the specified directory. Files are written by a
+     * background thread. Frames will be dropped if writing can't keep up with the frame rate.
+     *
+     * @see #stopRecording()
+     * @since 2.15.0
+     */
+    Screen startRecording(Path directory);
+
+    /**
+     * Stops the recording started by {@link #startRecording(Path)}. Frames that were already captured will still be
+     * written. Has no effect if there is no recording.
+     *
+     * @since 2.15.0
+     */
+    Screen stopRecording();
+
+    /**
+     * Returns {@code true} if rendered frames are recorded. Recording stops automatically when a frame could not be
+     * written. The reason is added to the {@link io.github.srcimon.screwbox.core.log.Log}.
+     *
+     * @since 2.15.0
+     */
+    boolean isRecording();
+
     /**
      * Returns the last taken screenshot. Will be empty if no screenshot has been taken.
      */
@@ -0,0 +1,212 @@
+package io.github.srcimon.screwbox.core.graphics;
+
+import io.github.srcimon.screwbox.core.assets.AssetBundle;
+import io.github.srcimon.screwbox.core.utils.Validate;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Packs the {@link Frame frames} of multiple {@link Sprite sprites} into few large shared images, the so called
+ * pages. Drawing {@link Sprite sprites} from a {@link SpriteAtlas} only uses areas of the shared images. This allows
+ * the graphics pipeline to keep few images in video memory and reduces the overhead of drawing lots of
+ * {@link Sprite sprites}. Packing should happen while preparing assets. {@link Frame Frames} that don't fit on a
+ * single page are not packed.
+ *
+ * <pre>{@code
+ * SpriteAtlas atlas = SpriteAtlas.pack(SpriteBundle.values());
+ * Sprite sprite = atlas.get(SpriteBundle.SLIME_MOVING);
+ * }</pre>
+ *
+ * @since 2.15.0
+ */
+public final class SpriteAtlas {
+
+    /**
+     * Default maximum size of a single page of the {@link SpriteAtlas}.
+     */
+    public static final Size DEFAULT_PAGE_SIZE = Size.square(2048);
+
+    /**
+     * Empty space between packed {@link Frame frames} preventing neighbours from bleeding into each other when
+     * drawing scaled {@link Sprite sprites}.
+     */
+    private static final int PADDING = 1;
+
+    /**
+     * Area of a page of the {@link SpriteAtlas} containing the image of a {@link Frame}.
+     *
+     * @param page   the shared page image
+     * @param offset position of the area on the page
+     * @param size   size of the area
+     */
+    public record Region(Image page, Offset offset, Size size) {
+    }
+
+    private record Placement(Frame frame, int page, int x, int y) {
+    }
+
+    private final Map<Sprite, Sprite> packedSprites = new IdentityHashMap<>();
+    private final List<BufferedImage> pages = new ArrayList<>();
+
+    /**
+     * Packs the {@link Sprite sprites} of the specified {@link AssetBundle asset bundles} into a new
+     * {@link SpriteAtlas}. This will load the {@link Sprite sprites} if they haven't been loaded already.
+     */
+    @SafeVarargs
+    public static SpriteAtlas pack(final AssetBundle<Sprite>... bundles) {
+        requireNonNull(bundles, "bundles must not be null");
+        final List<Sprite> sprites = new ArrayList<>();
+        for (final var bundle : bundles) {
+            sprites.add(bundle.get());
+        }
+        return pack(sprites);
+    }
+
+    /**
+     * Packs the specified {@link Sprite sprites} into a new {@link SpriteAtlas} using the {@link #DEFAULT_PAGE_SIZE}.
+     */
+    public static SpriteAtlas pack(final List<Sprite> sprites) {
+        return pack(sprites, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Packs the specified {@link Sprite sprites} into a new {@link SpriteAtlas} using pages of the specified maximum
+     * size.
+     */
+    public static SpriteAtlas pack(final List<Sprite> sprites, final Size maxPageSize) {
+        requireNonNull(sprites, "sprites must not be null");
+        requireNonNull(maxPageSize, "max page size must not be null");
+        Validate.isTrue(maxPageSize::isValid, "max page size must be valid");
+        return new SpriteAtlas(sprites, maxPageSize);
+    }
+
+    private SpriteAtlas(final List<Sprite> sprites, final Size maxPageSize) {
+        final Map<Frame, Frame> packedFrames = packFrames(uniqueFrames(sprites), maxPageSize);
+        for (final var sprite : sprites) {
+            final List<Frame> frames = new ArrayList<>();
+            for (final var frame : sprite.allFrames()) {
+                frames.add(packedFrames.getOrDefault(frame, frame));
+            }
+            packedSprites.put(sprite, new Sprite(frames));
+        }
+    }
+
+    /**
+     * Returns the packed version of the specified {@link Sprite}.
+     *
+     * @throws IllegalArgumentException if the {@link Sprite} is not part of this {@link SpriteAtlas}
+     */
+    public Sprite get(final Sprite sprite) {
+        final Sprite packed = packedSprites.get(sprite);
+        if (isNull(packed)) {
+            throw new IllegalArgumentException("sprite is not part of the sprite atlas");
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the packed version of the {@link Sprite} of the specified {@link AssetBundle}.
+     *
+     * @throws IllegalArgumentException if the {@link Sprite} is not part of this {@link SpriteAtlas}
+     */
+    public Sprite get(final AssetBundle<Sprite> bundle) {
+        return get(bundle.get());
+    }
+
+    /**
+     * Returns the number of shared images used to store the {@link Frame frames}.
+     */
+    public int pageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Returns the size of the specified page.
+     */
+    public Size pageSize(final int page) {
+        final BufferedImage image = pages.get(page);
+        return Size.of(image.getWidth(), image.getHeight());
+    }
+
+    private static List<Frame> uniqueFrames(final List<Sprite> sprites) {
+        final Map<Frame, Boolean> frames = new IdentityHashMap<>();
+        final List<Frame> uniqueFrames = new ArrayList<>();
+        for (final var sprite : sprites) {
+            for (final var frame : sprite.allFrames()) {
+                if (isNull(frames.put(frame, true))) {
+                    uniqueFrames.add(frame);
+                }
+            }
+        }
+        return uniqueFrames;
+    }
+
+    private Map<Frame, Frame> packFrames(final List<Frame> frames, final Size maxPageSize) {
+        final List<Frame> sortedFrames = new ArrayList<>(frames);
+        sortedFrames.sort(Comparator.comparingInt((Frame frame) -> frame.size().height()).reversed());
+
+        // shelf packing: frames are placed in rows, the highest frame of a row determines the height of the row
+        final List<Placement> placements = new ArrayList<>();
+        final List<Size> pageSizes = new ArrayList<>();
+        int page = -1;
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        int pageWidth = 0;
+        for (final var frame : sortedFrames) {
+            final int width = frame.size().width() + PADDING;
+            final int height = frame.size().height() + PADDING;
+            if (width > maxPageSize.width() || height > maxPageSize.height()) {
+                continue;
+            }
+            if (page >= 0 && x + width > maxPageSize.width()) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            if (page < 0 || y + height > maxPageSize.height()) {
+                if (page >= 0) {
+                    pageSizes.add(Size.of(pageWidth, y + rowHeight));
+                }
+                page++;
+                x = 0;
+                y = 0;
+                rowHeight = 0;
+                pageWidth = 0;
+            }
+            placements.add(new Placement(frame, page, x, y));
+            x += width;
+            rowHeight = Math.max(rowHeight, height);
+            pageWidth = Math.max(pageWidth, x);
+        }
+        if (page >= 0) {
+            pageSizes.add(Size.of(pageWidth, y + rowHeight));
+        }
+
+        for (final var pageSize : pageSizes) {
+            pages.add(new BufferedImage(pageSize.width(), pageSize.height(), BufferedImage.TYPE_INT_ARGB));
+        }
+        final Map<Frame, Frame> packedFrames = new IdentityHashMap<>();
+        for (final var placement : placements) {
+            final Frame frame = placement.frame();
+            final BufferedImage pageImage = pages.get(placement.page());
+            final Graphics2D graphics = pageImage.createGraphics();
+            graphics.drawImage(frame.image(), placement.x(), placement.y(), null);
+            graphics.dispose();
+            final Size size = frame.size();
+            final Image image = pageImage.getSubimage(placement.x(), placement.y(), size.width(), size.height());
+            final Region region = new Region(pageImage, Offset.at(placement.x(), placement.y()), size);
+            packedFrames.put(frame, new Frame(image, frame.duration(), region));
+        }
+        return packedFrames;
+    }
+}
@@ -23,7 +23,9 @@ import static java.util.Objects.requireNonNull;
 
 public class DefaultLight implements Light {
 
-    private final LightPhysics lightPhysics = new LightPhysics();
+    private final LightAreaCache lightAreaCache = new LightAreaCache();
+    private final LightPhysics lightPhysics = new LightPhysics(lightAreaCache);
+    private final LightmapBufferPool lightmapBufferPool = new LightmapBufferPool();
     private final ViewportManager viewportManager;
     private final ExecutorService executor;
     private final List<LightRenderer> lightRenderers = new ArrayList<>();
@@ -152,11 +154,23 @@ public class DefaultLight implements Light {
         return this;
     }
 
+    @Override
+    public long lightAreaCacheHits() {
+        return lightAreaCache.hits();
+    }
+
+    @Override
+    public long lightAreaCacheMisses() {
+        return lightAreaCache.misses();
+    }
+
     public void update() {
         lightPhysics.clear();
+        lightAreaCache.nextFrame();
+        lightmapBufferPool.nextFrame();
         lightRenderers.clear();
         for (final var viewport : viewportManager.viewports()) {
-            final LightRenderer viewportLight = new LightRenderer(lightPhysics, configuration, executor, viewport, postFilter);
+            final LightRenderer viewportLight = new LightRenderer(lightPhysics, configuration, executor, viewport, postFilter, lightmapBufferPool);
             lightRenderers.add(viewportLight);
         }
     }
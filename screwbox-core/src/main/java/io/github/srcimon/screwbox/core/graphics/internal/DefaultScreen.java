@@ -9,11 +9,12 @@ import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
 import io.github.srcimon.screwbox.core.graphics.Size;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
 import io.github.srcimon.screwbox.core.loop.internal.Updatable;
-import io.github.srcimon.screwbox.core.window.internal.WindowFrame;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static java.awt.RenderingHints.*;
@@ -24,10 +25,12 @@ import static java.util.Objects.requireNonNull;
 public class DefaultScreen implements Screen, Updatable {
 
     private final Renderer renderer;
-    private final WindowFrame frame;
+    private final ScreenSurface surface;
+    private final OffscreenSurface offscreenSurface;
     private final Robot robot;
     private final ViewportManager viewportManager;
     private final GraphicsConfiguration configuration;
+    private final FrameCapture frameCapture;
     private Graphics2D lastGraphics;
     private Sprite lastScreenshot;
     private Rotation rotation = Rotation.none();
@@ -35,43 +38,57 @@ public class DefaultScreen implements Screen, Updatable {
     private final DefaultCanvas canvas;
     private ScreenBounds canvasBounds;
 
-    public DefaultScreen(final WindowFrame frame, final Renderer renderer, final Robot robot, final DefaultCanvas canvas, final ViewportManager viewportManager, final GraphicsConfiguration configuration) {
+    public DefaultScreen(final ScreenSurface surface, final Renderer renderer, final Robot robot, final DefaultCanvas canvas, final ViewportManager viewportManager, final GraphicsConfiguration configuration, final FrameCapture frameCapture) {
         this.renderer = renderer;
-        this.frame = frame;
+        this.surface = surface;
         this.robot = robot;
         this.canvas = canvas;
         this.viewportManager = viewportManager;
         this.configuration = configuration;
+        this.frameCapture = frameCapture;
+        this.offscreenSurface = new OffscreenSurface(configuration::resolution);
     }
 
     public void updateScreen(final boolean antialiased) {
         final Supplier<Graphics2D> graphicsSupplier = () -> {
-            frame.getCanvas().getBufferStrategy().show();
+            // previous frame has been rendered completely when the next graphics are requested
+            if (nonNull(lastGraphics)) {
+                frameCapture.completeFrame(lastGraphics);
+            }
             final Graphics2D graphics = getDrawGraphics();
             if (nonNull(lastGraphics)) {
                 lastGraphics.dispose();
             }
-            graphics.setRenderingHint(KEY_DITHERING, VALUE_DITHER_DISABLE);
-            graphics.setRenderingHint(KEY_RENDERING, VALUE_RENDER_SPEED);
-            graphics.setRenderingHint(KEY_COLOR_RENDERING, VALUE_COLOR_RENDER_SPEED);
-            graphics.setRenderingHint(KEY_ALPHA_INTERPOLATION, VALUE_ALPHA_INTERPOLATION_SPEED);
-            if (antialiased) {
-                graphics.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
-                graphics.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_ON);
-            }
+            applyRenderingHints(graphics, antialiased);
             lastGraphics = graphics;
-            return graphics;
+            final Graphics2D captureGraphics = frameCapture.beginFrame(surface().getCanvasSize());
+            if (isNull(captureGraphics)) {
+                return graphics;
+            }
+            applyRenderingHints(captureGraphics, antialiased);
+            return captureGraphics;
         };
         renderer.updateContext(graphicsSupplier);
         final var color = configuration.backgroundColor();
-        renderer.rotate(absoluteRotation(), new ScreenBounds(frame.getCanvasSize()), color);
-        renderer.fillWith(color, new ScreenBounds(frame.getCanvasSize()));
+        renderer.rotate(absoluteRotation(), new ScreenBounds(surface().getCanvasSize()), color);
+        renderer.fillWith(color, new ScreenBounds(surface().getCanvasSize()));
         canvas.updateClip(canvasBounds());
     }
 
+    private static void applyRenderingHints(final Graphics2D graphics, final boolean antialiased) {
+        graphics.setRenderingHint(KEY_DITHERING, VALUE_DITHER_DISABLE);
+        graphics.setRenderingHint(KEY_RENDERING, VALUE_RENDER_SPEED);
+        graphics.setRenderingHint(KEY_COLOR_RENDERING, VALUE_COLOR_RENDER_SPEED);
+        graphics.setRenderingHint(KEY_ALPHA_INTERPOLATION, VALUE_ALPHA_INTERPOLATION_SPEED);
+        if (antialiased) {
+            graphics.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_ON);
+        }
+    }
+
     private Graphics2D getDrawGraphics() {
         try {
-            return (Graphics2D) frame.getCanvas().getBufferStrategy().getDrawGraphics();
+            return surface().nextFrameGraphics();
             // avoid Component must have a valid peer while closing the Window
         } catch (IllegalStateException ignored) {
             return lastGraphics;
@@ -80,22 +97,51 @@ public class DefaultScreen implements Screen, Updatable {
 
     @Override
     public Sprite takeScreenshot() {
-        if (!frame.isVisible()) {
+        if (configuration.isUseOffscreenRendering()) {
+            final BufferedImage lastFrame = offscreenSurface.lastFrame()
+                    .orElseThrow(() -> new IllegalStateException("no frame has been rendered yet"));
+            lastScreenshot = Sprite.fromImage(ImageUtil.copy(lastFrame));
+            return lastScreenshot;
+        }
+        if (!surface.isVisible()) {
             throw new IllegalStateException("window must be opened first to create screenshot");
         }
-        final int menuBarHeight = frame.getJMenuBar() == null ? 0 : frame.getJMenuBar().getHeight();
-        final Rectangle rectangle = new Rectangle(frame.getX(),
-                frame.getY() + frame.getInsets().top + menuBarHeight,
-                width(), height());
-
-        final BufferedImage screenCapture = robot.createScreenCapture(rectangle);
+        final BufferedImage screenCapture = robot.createScreenCapture(surface.captureArea());
         lastScreenshot = Sprite.fromImage(screenCapture);
         return lastScreenshot;
     }
 
+    @Override
+    public Screen requestScreenshot(final Consumer<Sprite> callback) {
+        requireNonNull(callback, "callback must not be null");
+        frameCapture.requestScreenshot(screenshot -> {
+            lastScreenshot = screenshot;
+            callback.accept(screenshot);
+        });
+        return this;
+    }
+
+    @Override
+    public Screen startRecording(final Path directory) {
+        requireNonNull(directory, "directory must not be null");
+        frameCapture.startRecording(directory);
+        return this;
+    }
+
+    @Override
+    public Screen stopRecording() {
+        frameCapture.stopRecording();
+        return this;
+    }
+
+    @Override
+    public boolean isRecording() {
+        return frameCapture.isRecording();
+    }
+
     @Override
     public Size size() {
-        return frame.getCanvasSize();
+        return surface().getCanvasSize();
     }
 
     @Override
@@ -105,8 +151,7 @@ public class DefaultScreen implements Screen, Updatable {
 
     @Override
     public Offset position() {
-        final var bounds = frame.getBounds();
-        return Offset.at(bounds.x, bounds.y - frame.canvasHeight() + bounds.height);
+        return surface.canvasPosition();
     }
 
     @Override
@@ -153,13 +198,17 @@ public class DefaultScreen implements Screen, Updatable {
         this.shake = Rotation.degrees(degrees);
     }
 
+    private ScreenSurface surface() {
+        return configuration.isUseOffscreenRendering() ? offscreenSurface : surface;
+    }
+
     private ScreenBounds canvasBounds() {
-        return isNull(canvasBounds) ? new ScreenBounds(frame.getCanvasSize()) : canvasBounds;
+        return isNull(canvasBounds) ? new ScreenBounds(surface().getCanvasSize()) : canvasBounds;
     }
 
     private void validateCanvasBounds(final ScreenBounds canvasBounds) {
         requireNonNull(canvasBounds, "bounds must not be null");
-        if (!new ScreenBounds(frame.getCanvasSize()).intersects(canvasBounds)) {
+        if (!new ScreenBounds(surface().getCanvasSize()).intersects(canvasBounds)) {
             throw new IllegalArgumentException("bounds must be on screen");
         }
     }
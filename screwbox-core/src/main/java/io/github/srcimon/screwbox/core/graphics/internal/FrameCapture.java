@@ -0,0 +1,117 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.log.Log;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Captures frames directly from the rendering instead of the monitor. A captured frame is rendered into an image
+ * that is drawn onto the actual frame as soon as rendering has finished. So captures always match the rendered frame
+ * and don't include other windows. All methods must be called from the game loop.
+ */
+public class FrameCapture {
+
+    private final Executor executor;
+    private final Log log;
+    private final List<Consumer<Sprite>> screenshotRequests = new ArrayList<>();
+    private FrameRecorder recorder;
+
+    private BufferedImage image;
+    private Graphics2D imageGraphics;
+    private FrameRecorder recorderOfFrame;
+    private List<Consumer<Sprite>> screenshotRequestsOfFrame = new ArrayList<>();
+
+    public FrameCapture(final Executor executor, final Log log) {
+        this.executor = executor;
+        this.log = log;
+    }
+
+    /**
+     * Captures the next frame as screenshot. The callback is invoked as soon as the frame has been rendered.
+     */
+    void requestScreenshot(final Consumer<Sprite> callback) {
+        screenshotRequests.add(callback);
+    }
+
+    /**
+     * Starts writing every rendered frame into the given directory.
+     */
+    void startRecording(final Path directory) {
+        if (isRecording()) {
+            throw new IllegalStateException("recording has already been started");
+        }
+        recorder = new FrameRecorder(directory, executor, log);
+    }
+
+    /**
+     * Stops writing frames after the frames captured so far have been written.
+     */
+    void stopRecording() {
+        if (nonNull(recorder)) {
+            recorder.stop();
+            recorder = null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if frames are recorded. Will be {@code false} as soon as writing a frame failed.
+     */
+    boolean isRecording() {
+        return nonNull(recorder) && !recorder.hasFailed();
+    }
+
+    /**
+     * Starts rendering a new frame. Returns the {@link Graphics2D} of the image the frame should be rendered into
+     * or {@code null} if the frame is not captured.
+     */
+    Graphics2D beginFrame(final Size size) {
+        if (screenshotRequests.isEmpty() && !isRecording()) {
+            return null;
+        }
+        recorderOfFrame = isRecording() ? recorder : null;
+        image = isNull(recorderOfFrame) ? null : recorderOfFrame.borrowImage(size);
+        if (isNull(image)) {
+            recorderOfFrame = null;
+            if (screenshotRequests.isEmpty()) {
+                return null;
+            }
+            image = new BufferedImage(size.width(), size.height(), BufferedImage.TYPE_INT_RGB);
+        }
+        screenshotRequestsOfFrame.addAll(screenshotRequests);
+        screenshotRequests.clear();
+        imageGraphics = image.createGraphics();
+        return imageGraphics;
+    }
+
+    /**
+     * Must be called when the frame has been rendered completely. Draws the captured image onto the actual frame.
+     */
+    void completeFrame(final Graphics2D frameGraphics) {
+        if (isNull(image)) {
+            return;
+        }
+        imageGraphics.dispose();
+        frameGraphics.drawImage(image, 0, 0, null);
+        for (final var request : screenshotRequestsOfFrame) {
+            request.accept(Sprite.fromImage(isNull(recorderOfFrame) ? image : ImageUtil.copy(image)));
+        }
+        screenshotRequestsOfFrame.clear();
+        if (nonNull(recorderOfFrame)) {
+            recorderOfFrame.submit(image);
+        }
+        image = null;
+        imageGraphics = null;
+        recorderOfFrame = null;
+    }
+}
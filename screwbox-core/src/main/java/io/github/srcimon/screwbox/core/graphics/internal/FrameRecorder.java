@@ -0,0 +1,120 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.log.Log;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Writes frames as PNG sequence into a directory using a background thread. Frames are rendered into a small pool of
+ * reused images. When all images are still waiting to be written, frames are dropped instead of stalling the game loop.
+ * The recording stops when a frame could not be written.
+ */
+class FrameRecorder {
+
+    static final int IMAGE_POOL_SIZE = 4;
+
+    private static final BufferedImage END_OF_RECORDING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+
+    private final Path directory;
+    private final Log log;
+    private final BlockingQueue<BufferedImage> freeImages = new ArrayBlockingQueue<>(IMAGE_POOL_SIZE);
+    private final BlockingQueue<BufferedImage> pendingImages = new LinkedBlockingQueue<>();
+    private int createdImages = 0;
+    private int droppedFrames = 0;
+    private volatile int writtenFrames = 0;
+    private boolean isStopped = false;
+    private volatile boolean hasFailed = false;
+
+    FrameRecorder(final Path directory, final Executor executor, final Log log) {
+        this.directory = directory;
+        this.log = log;
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("could not create directory for recording: " + directory, e);
+        }
+        executor.execute(this::writeFrames);
+    }
+
+    /**
+     * Returns an image from the pool to render the next frame into. Returns {@code null} if there is no image
+     * available because the background thread cannot keep up.
+     */
+    BufferedImage borrowImage(final Size size) {
+        BufferedImage image = freeImages.poll();
+        if (isNull(image) && createdImages < IMAGE_POOL_SIZE) {
+            createdImages++;
+            image = createImage(size);
+        }
+        if (isNull(image)) {
+            droppedFrames++;
+            return null;
+        }
+        return image.getWidth() == size.width() && image.getHeight() == size.height() ? image : createImage(size);
+    }
+
+    /**
+     * Hands a completely rendered image to the background thread.
+     */
+    void submit(final BufferedImage image) {
+        if (!isStopped && !hasFailed) {
+            pendingImages.add(image);
+        }
+    }
+
+    /**
+     * Stops the recording after all submitted frames have been written.
+     */
+    void stop() {
+        isStopped = true;
+        pendingImages.add(END_OF_RECORDING);
+    }
+
+    /**
+     * Returns {@code true} if writing a frame failed. No further frames will be written.
+     */
+    boolean hasFailed() {
+        return hasFailed;
+    }
+
+    int droppedFrames() {
+        return droppedFrames;
+    }
+
+    int writtenFrames() {
+        return writtenFrames;
+    }
+
+    private void writeFrames() {
+        try {
+            BufferedImage image;
+            while ((image = pendingImages.take()) != END_OF_RECORDING) {
+                final Path file = directory.resolve("frame-%06d.png".formatted(writtenFrames + 1));
+                ImageIO.write(image, "png", file.toFile());
+                writtenFrames++;
+                freeImages.offer(image);
+            }
+        } catch (final IOException e) {
+            hasFailed = true;
+            pendingImages.clear();
+            log.error("recording stopped because frame %d could not be written: %s".formatted(writtenFrames + 1, e.getMessage()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static BufferedImage createImage(final Size size) {
+        return new BufferedImage(size.width(), size.height(), BufferedImage.TYPE_INT_RGB);
+    }
+}
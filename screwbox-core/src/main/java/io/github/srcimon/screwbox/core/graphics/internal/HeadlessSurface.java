@@ -0,0 +1,45 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+
+import java.awt.*;
+
+/**
+ * {@link ScreenSurface} used by headless engines. Has the size of the configured resolution but is never shown.
+ */
+public class HeadlessSurface implements ScreenSurface {
+
+    private final GraphicsConfiguration configuration;
+
+    public HeadlessSurface(final GraphicsConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Size getCanvasSize() {
+        return configuration.resolution();
+    }
+
+    @Override
+    public Offset canvasPosition() {
+        return Offset.origin();
+    }
+
+    @Override
+    public Rectangle captureArea() {
+        final Size size = getCanvasSize();
+        return new Rectangle(0, 0, size.width(), size.height());
+    }
+
+    @Override
+    public boolean isVisible() {
+        return false;
+    }
+
+    @Override
+    public Graphics2D nextFrameGraphics() {
+        throw new IllegalStateException("headless surface cannot be drawn on");
+    }
+}
@@ -26,6 +26,14 @@ public final class ImageUtil {
         return bufferedImage;
     }
 
+    public static BufferedImage copy(final BufferedImage image) {
+        final var copy = new BufferedImage(image.getWidth(), image.getHeight(), image.getType());
+        final Graphics graphics = copy.getGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return copy;
+    }
+
     public static BufferedImage applyFilter(final Image image, final ImageFilter filter) {
         final ImageProducer imageProducer = new FilteredImageSource(image.getSource(), filter);
         final Image newImage = TOOLKIT.createImage(imageProducer);
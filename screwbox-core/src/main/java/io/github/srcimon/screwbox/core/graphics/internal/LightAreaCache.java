@@ -0,0 +1,65 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.graphics.LightAreaAlgorithm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Reuses the areas of lights that haven't changed since the last frame. An area is reused when the light box,
+ * the angle range and all shadow casters intersecting the light box are equal. Areas not used within the last frame
+ * are dropped on {@link #nextFrame()}.
+ */
+class LightAreaCache {
+
+    record Key(Bounds lightBox, double minAngle, double maxAngle, LightAreaAlgorithm algorithm,
+               List<Bounds> shadowCasters, List<Bounds> noSelfShadowShadowCasters) {
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private Map<Key, List<Vector>> currentFrame = new ConcurrentHashMap<>();
+    private Map<Key, List<Vector>> lastFrame = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached area for the given {@link Key} or calculates a new area if there is none.
+     */
+    List<Vector> getOrCalculate(final Key key, final Supplier<List<Vector>> calculation) {
+        final var current = currentFrame.get(key);
+        if (current != null) {
+            hits.incrementAndGet();
+            return current;
+        }
+        final var last = lastFrame.get(key);
+        if (last != null) {
+            hits.incrementAndGet();
+            currentFrame.put(key, last);
+            return last;
+        }
+        misses.incrementAndGet();
+        final List<Vector> area = List.copyOf(calculation.get());
+        currentFrame.put(key, area);
+        return area;
+    }
+
+    /**
+     * Drops all areas that haven't been used since the last call.
+     */
+    void nextFrame() {
+        lastFrame = currentFrame;
+        currentFrame = new ConcurrentHashMap<>();
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+}
@@ -4,6 +4,7 @@ import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Line;
 import io.github.srcimon.screwbox.core.Rotation;
 import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.graphics.LightAreaAlgorithm;
 import io.github.srcimon.screwbox.core.physics.Borders;
 
 import java.util.ArrayList;
@@ -17,6 +18,15 @@ public class LightPhysics {
 
     private final List<Bounds> shadowCasters = new ArrayList<>();
     private final List<Bounds> noSelfShadowShadowCasters = new ArrayList<>();
+    private final LightAreaCache areaCache;
+
+    public LightPhysics() {
+        this(new LightAreaCache());
+    }
+
+    LightPhysics(final LightAreaCache areaCache) {
+        this.areaCache = requireNonNull(areaCache, "area cache must not be null");
+    }
 
     public void addShadowCaster(final Bounds shadowCaster) {
         requireNonNull(shadowCaster, "shadowCaster must not be null");
@@ -48,12 +58,9 @@ public class LightPhysics {
     }
 
     public List<Vector> calculateArea(final Bounds lightBox, double minAngle, double maxAngle) {
-        final var relevantShadowCasters = lightBox.allIntersecting(shadowCasters);
-        final var relevantNoSelfShadowCasters = lightBox.allIntersecting(noSelfShadowShadowCasters);
         final List<Vector> area = new ArrayList<>();
         final Line normal = Line.normal(lightBox.position(), -lightBox.height() / 2.0);
-        final List<Line> shadowCasterLines = extractLines(relevantShadowCasters);
-        shadowCasterLines.addAll(extractFarDistanceLines(relevantNoSelfShadowCasters, lightBox.position()));
+        final List<Line> shadowCasterLines = extractRelevantLines(lightBox);
         if (minAngle != 0 || maxAngle != 360) {
             area.add(lightBox.position());
         }
@@ -74,6 +81,35 @@ public class LightPhysics {
         return area;
     }
 
+    /**
+     * Returns the area of the light using the specified {@link LightAreaAlgorithm}. Reuses the area calculated
+     * within the last frame when neither the light nor the shadow casters intersecting the light box have changed.
+     */
+    public List<Vector> calculateArea(final Bounds lightBox, double minAngle, double maxAngle, final LightAreaAlgorithm algorithm) {
+        final var key = new LightAreaCache.Key(lightBox, minAngle, maxAngle, algorithm,
+                lightBox.allIntersecting(shadowCasters),
+                lightBox.allIntersecting(noSelfShadowShadowCasters));
+        return areaCache.getOrCalculate(key, () -> algorithm == LightAreaAlgorithm.ANGULAR_SWEEP
+                ? calculateVisibilityPolygon(lightBox, minAngle, maxAngle)
+                : calculateArea(lightBox, minAngle, maxAngle));
+    }
+
+    /**
+     * Alternative to {@link #calculateArea(Bounds, double, double)} that calculates the exact visible area using a
+     * single sweep over the angles of the edges of all relevant shadow casters. The area is limited by the light box.
+     */
+    public List<Vector> calculateVisibilityPolygon(final Bounds lightBox, double minAngle, double maxAngle) {
+        return VisibilityPolygon.calculate(lightBox, extractRelevantLines(lightBox), minAngle, maxAngle);
+    }
+
+    private List<Line> extractRelevantLines(final Bounds lightBox) {
+        final var relevantShadowCasters = lightBox.allIntersecting(shadowCasters);
+        final var relevantNoSelfShadowCasters = lightBox.allIntersecting(noSelfShadowShadowCasters);
+        final List<Line> shadowCasterLines = extractLines(relevantShadowCasters);
+        shadowCasterLines.addAll(extractFarDistanceLines(relevantNoSelfShadowCasters, lightBox.position()));
+        return shadowCasterLines;
+    }
+
     private List<Line> extractFarDistanceLines(final List<Bounds> allBounds, final Vector position) {
         final List<Line> allLines = new ArrayList<>();
         for (final var bounds : allBounds) {
@@ -16,9 +16,12 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.CircleDrawOptions;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public class LightRenderer {
 
@@ -28,16 +31,21 @@ public class LightRenderer {
     private final Viewport viewport;
     private final LightPhysics lightPhysics;
     private final UnaryOperator<BufferedImage> postFilter;
+    private final LightmapBufferPool bufferPool;
     private Lightmap lightmap;
+    private UnaryOperator<BufferedImage> lightmapFilter;
 
-    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Supplier<Lightmap.PointLight>> pointLightTasks = new ArrayList<>();
+    private final List<Supplier<Lightmap.SpotLight>> spotLightTasks = new ArrayList<>();
 
     public LightRenderer(final LightPhysics lightPhysics,
                          final GraphicsConfiguration configuration,
                          final ExecutorService executor,
                          final Viewport viewport,
-                         final UnaryOperator<BufferedImage> postFilter) {
+                         final UnaryOperator<BufferedImage> postFilter,
+                         final LightmapBufferPool bufferPool) {
         this.executor = executor;
+        this.bufferPool = bufferPool;
         this.lightPhysics = lightPhysics;
         this.configuration = configuration;
         this.viewport = viewport;
@@ -70,29 +78,31 @@ public class LightRenderer {
     }
 
     private void addPointLight(final Vector position, final double radius, final Color color, final double minAngle, final double maxAngle) {
-        tasks.add(() -> {
+        pointLightTasks.add(() -> {
             final Bounds lightBox = createLightbox(position, radius);
-            if (isVisible(lightBox)) {
-                final List<Offset> area = new ArrayList<>();
-                final List<Vector> worldArea = lightPhysics.calculateArea(lightBox, minAngle, maxAngle);
-                for (final var vector : worldArea) {
-                    area.add(viewport.toCanvas(vector));
-                }
-                final Offset offset = viewport.toCanvas(position);
-                final int screenRadius = viewport.toCanvas(radius);
-                lightmap.addPointLight(new Lightmap.PointLight(offset, screenRadius, area, color));
+            if (!isVisible(lightBox)) {
+                return null;
             }
+            final List<Offset> area = new ArrayList<>();
+            final List<Vector> worldArea = lightPhysics.calculateArea(lightBox, minAngle, maxAngle, configuration.lightAreaAlgorithm());
+            for (final var vector : worldArea) {
+                area.add(viewport.toCanvas(vector));
+            }
+            final Offset offset = viewport.toCanvas(position);
+            final int screenRadius = viewport.toCanvas(radius);
+            return new Lightmap.PointLight(offset, screenRadius, area, color);
         });
     }
 
     public void addSpotLight(final Vector position, final double radius, final Color color) {
-        tasks.add(() -> {
+        spotLightTasks.add(() -> {
             final Bounds lightBox = createLightbox(position, radius);
-            if (isVisible(lightBox)) {
-                final Offset offset = viewport.toCanvas(position);
-                final int distance = viewport.toCanvas(radius);
-                lightmap.addSpotlight(new Lightmap.SpotLight(offset, distance, color));
+            if (!isVisible(lightBox)) {
+                return null;
             }
+            final Offset offset = viewport.toCanvas(position);
+            final int distance = viewport.toCanvas(radius);
+            return new Lightmap.SpotLight(offset, distance, color);
         });
     }
 
@@ -114,13 +124,21 @@ public class LightRenderer {
         }
     }
 
+    /**
+     * Calculates the areas of all lights using multiple threads and renders the lightmap asynchronously. Lights are
+     * added to the lightmap in the order they have been added to the {@link LightRenderer}, so the result doesn't
+     * depend on thread scheduling.
+     */
     public Asset<Sprite> renderLight() {
-        for (final var task : tasks) {
-            task.run();
+        for (final var pointLight : calculateAll(pointLightTasks)) {
+            lightmap.addPointLight(pointLight);
+        }
+        for (final var spotLight : calculateAll(spotLightTasks)) {
+            lightmap.addSpotlight(spotLight);
         }
         final var spriteFuture = executor.submit(() -> {
             final BufferedImage image = lightmap.createImage();
-            final var filtered = postFilter.apply(image);
+            final var filtered = lightmapFilter.apply(image);
             return Sprite.fromImage(filtered);
         });
         return Asset.asset(() -> {
@@ -133,12 +151,24 @@ public class LightRenderer {
         });
     }
 
+    private static <T> List<T> calculateAll(final List<Supplier<T>> tasks) {
+        final Stream<Supplier<T>> stream = tasks.size() > 1 ? tasks.parallelStream() : tasks.stream();
+        return stream.map(Supplier::get).filter(Objects::nonNull).toList();
+    }
+
     private boolean isVisible(final Bounds lightBox) {
         return canvas().isVisible(viewport.toCanvas(lightBox));
     }
 
     private void initLightmap() {
-        lightmap = new Lightmap(canvas().size(), configuration.lightmapScale(), configuration.lightFalloff());
+        if (configuration.isUseRasterLightmap()) {
+            // raster lightmap already applies blur and overdraw border
+            lightmap = new RasterLightmap(canvas().size(), configuration.lightmapScale(), configuration.lightFalloff(), configuration.lightmapBlur(), bufferPool);
+            lightmapFilter = UnaryOperator.identity();
+        } else {
+            lightmap = new AwtLightmap(canvas().size(), configuration.lightmapScale(), configuration.lightFalloff());
+            lightmapFilter = postFilter;
+        }
     }
 
     private Bounds createLightbox(final Vector position, final double radius) {
@@ -0,0 +1,66 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reuses the pixel buffers of {@link RasterLightmap lightmaps} between frames. Lightmaps are still drawn by the
+ * renderer while the lightmap of the next frame is created, so buffers are only handed out again when they haven't
+ * been used within the last {@link #FRAMES_IN_USE} frames. Buffers not used for a longer time are dropped.
+ */
+class LightmapBufferPool {
+
+    private static final int FRAMES_IN_USE = 3;
+    private static final int FRAMES_UNTIL_DROPPED = 60;
+
+    private static final class Buffer {
+
+        private final BufferedImage image;
+        private long lastUsedFrame;
+
+        private Buffer(final int width, final int height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+    }
+
+    private final List<Buffer> buffers = new ArrayList<>();
+    private long frame = FRAMES_IN_USE;
+
+    /**
+     * Returns an image of the specified size that is not in use. The content of the image is undefined.
+     */
+    synchronized BufferedImage acquire(final int width, final int height) {
+        for (final var buffer : buffers) {
+            if (frame - buffer.lastUsedFrame >= FRAMES_IN_USE
+                    && buffer.image.getWidth() == width && buffer.image.getHeight() == height) {
+                buffer.lastUsedFrame = frame;
+                return buffer.image;
+            }
+        }
+        final var buffer = new Buffer(width, height);
+        buffer.lastUsedFrame = frame;
+        buffers.add(buffer);
+        return buffer.image;
+    }
+
+    /**
+     * Starts a new frame. Drops buffers that haven't been used for a long time.
+     */
+    synchronized void nextFrame() {
+        frame++;
+        buffers.removeIf(buffer -> frame - buffer.lastUsedFrame > FRAMES_UNTIL_DROPPED);
+    }
+
+    synchronized int size() {
+        return buffers.size();
+    }
+
+    /**
+     * Returns the pixels of an image acquired from this pool.
+     */
+    static int[] pixelsOf(final BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
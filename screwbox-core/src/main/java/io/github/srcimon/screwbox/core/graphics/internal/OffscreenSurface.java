@@ -0,0 +1,66 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link ScreenSurface} backed by two {@link BufferedImage images} in memory. One image is drawn on while the other
+ * one contains the last completed frame. Images are reused as long as the {@link Size} doesn't change.
+ */
+public class OffscreenSurface implements ScreenSurface {
+
+    private final Supplier<Size> size;
+    private BufferedImage frontBuffer;
+    private BufferedImage backBuffer;
+
+    public OffscreenSurface(final Supplier<Size> size) {
+        this.size = size;
+    }
+
+    @Override
+    public Size getCanvasSize() {
+        return size.get();
+    }
+
+    @Override
+    public Offset canvasPosition() {
+        return Offset.origin();
+    }
+
+    @Override
+    public Rectangle captureArea() {
+        final Size canvasSize = getCanvasSize();
+        return new Rectangle(0, 0, canvasSize.width(), canvasSize.height());
+    }
+
+    @Override
+    public boolean isVisible() {
+        return true;
+    }
+
+    @Override
+    public Graphics2D nextFrameGraphics() {
+        final BufferedImage completedFrame = backBuffer;
+        backBuffer = frontBuffer;
+        frontBuffer = completedFrame;
+        final Size canvasSize = getCanvasSize();
+        if (isNull(backBuffer) || backBuffer.getWidth() != canvasSize.width() || backBuffer.getHeight() != canvasSize.height()) {
+            backBuffer = new BufferedImage(canvasSize.width(), canvasSize.height(), BufferedImage.TYPE_INT_RGB);
+        }
+        return backBuffer.createGraphics();
+    }
+
+    /**
+     * Returns the last completed frame. Is empty until the first frame has been completed.
+     */
+    public Optional<BufferedImage> lastFrame() {
+        return Optional.ofNullable(frontBuffer);
+    }
+}
@@ -0,0 +1,298 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.Percent;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.srcimon.screwbox.core.graphics.internal.LightmapBufferPool.pixelsOf;
+
+/**
+ * {@link Lightmap} that renders all lights directly into the pixels of images taken from a {@link LightmapBufferPool}.
+ * Also applies the inversion, the overdraw border and the blur in place, so no images are created per frame.
+ */
+class RasterLightmap implements Lightmap {
+
+    private static final int MIN_OPACITY = 10;
+    private static final int OPAQUE_BLACK = 0xFF000000;
+
+    private final int width;
+    private final int height;
+    private final int resolution;
+    private final int padding;
+    private final int blur;
+    private final double falloff;
+    private final int[] lightPixels;
+    private final BufferedImage image;
+    private final int[] imagePixels;
+    private final int[] blurPixels;
+
+    private final List<PointLight> pointLights = new ArrayList<>();
+    private final List<SpotLight> spotLights = new ArrayList<>();
+    private final List<ScreenBounds> fullBrigthnessAreas = new ArrayList<>();
+    private final List<ScreenBounds> orthographicWalls = new ArrayList<>();
+
+    private int[] polygonX = new int[64];
+    private int[] polygonY = new int[64];
+    private double[] crossings = new double[64];
+
+    RasterLightmap(final Size size, final int resolution, final Percent lightFade, final int blur, final LightmapBufferPool bufferPool) {
+        this.width = Math.max(1, size.width() / resolution);
+        this.height = Math.max(1, size.height() / resolution);
+        this.resolution = resolution;
+        this.blur = blur;
+        this.padding = Math.max(1, blur);
+        this.falloff = Math.clamp(lightFade.invert().value(), 0.1, 0.99);
+        this.lightPixels = pixelsOf(bufferPool.acquire(width, height));
+        this.image = bufferPool.acquire(width + padding * 2, height + padding * 2);
+        this.imagePixels = pixelsOf(image);
+        this.blurPixels = blur > 0 ? pixelsOf(bufferPool.acquire(width + padding * 2, height + padding * 2)) : null;
+    }
+
+    @Override
+    public void addOrthographicWall(final ScreenBounds screenBounds) {
+        orthographicWalls.add(screenBounds);
+    }
+
+    @Override
+    public void addFullBrightnessArea(final ScreenBounds fullBrightnessArea) {
+        fullBrigthnessAreas.add(fullBrightnessArea);
+    }
+
+    @Override
+    public void addPointLight(final PointLight pointLight) {
+        pointLights.add(pointLight);
+    }
+
+    @Override
+    public void addSpotlight(final SpotLight spotLight) {
+        spotLights.add(spotLight);
+    }
+
+    @Override
+    public BufferedImage createImage() {
+        Arrays.fill(lightPixels, 0);
+        for (final var pointLight : pointLights) {
+            renderPointLight(pointLight, 0, 0, width, height);
+        }
+        for (final var spotLight : spotLights) {
+            renderSpotLight(spotLight, 0, 0, width, height);
+        }
+        for (final var orthographicWall : orthographicWalls) {
+            renderOrthographicWall(orthographicWall);
+        }
+        for (final var fullBrightnessArea : fullBrigthnessAreas) {
+            fillRect(fullBrightnessArea, OPAQUE_BLACK);
+        }
+        invertIntoImage();
+        if (blur > 0) {
+            blurImage();
+        }
+        return image;
+    }
+
+    private void renderOrthographicWall(final ScreenBounds orthographicWall) {
+        fillRect(orthographicWall, 0);
+        final int minX = Math.max(0, orthographicWall.offset().x() / resolution);
+        final int minY = Math.max(0, orthographicWall.offset().y() / resolution);
+        final int maxX = Math.min(width, orthographicWall.offset().x() / resolution + orthographicWall.width() / resolution);
+        final int maxY = Math.min(height, orthographicWall.offset().y() / resolution + orthographicWall.height() / resolution);
+        final int wallMaxY = orthographicWall.offset().y() / resolution + orthographicWall.height() / resolution;
+        for (final var pointLight : pointLights) {
+            if (pointLight.position().y() / resolution >= wallMaxY && createLightBox(pointLight.position(), pointLight.radius()).intersects(orthographicWall)) {
+                renderPointLight(pointLight, minX, minY, maxX, maxY);
+            }
+        }
+        for (final var spotLight : spotLights) {
+            if (spotLight.position().y() / resolution >= wallMaxY && createLightBox(spotLight.position(), spotLight.radius()).intersects(orthographicWall)) {
+                renderSpotLight(spotLight, minX, minY, maxX, maxY);
+            }
+        }
+    }
+
+    private void renderPointLight(final PointLight pointLight, final int clipMinX, final int clipMinY, final int clipMaxX, final int clipMaxY) {
+        final int nodeCount = pointLight.area().size();
+        if (nodeCount < 3) {
+            return;
+        }
+        if (polygonX.length < nodeCount) {
+            polygonX = new int[nodeCount * 2];
+            polygonY = new int[nodeCount * 2];
+            crossings = new double[nodeCount * 2];
+        }
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int index = 0; index < nodeCount; index++) {
+            final Offset node = pointLight.area().get(index);
+            polygonX[index] = node.x() / resolution;
+            polygonY[index] = node.y() / resolution;
+            minY = Math.min(minY, polygonY[index]);
+            maxY = Math.max(maxY, polygonY[index]);
+        }
+        final LightShading shading = new LightShading(pointLight.position(), pointLight.radius(), pointLight.color());
+        for (int y = Math.max(minY, clipMinY); y < Math.min(maxY + 1, clipMaxY); y++) {
+            final double sampleY = y + 0.5;
+            int crossingCount = 0;
+            for (int index = 0, previous = nodeCount - 1; index < nodeCount; previous = index++) {
+                final int fromY = polygonY[previous];
+                final int toY = polygonY[index];
+                if ((fromY <= sampleY) != (toY <= sampleY)) {
+                    crossings[crossingCount++] = polygonX[previous] + (sampleY - fromY) * (polygonX[index] - polygonX[previous]) / (toY - fromY);
+                }
+            }
+            Arrays.sort(crossings, 0, crossingCount);
+            for (int index = 0; index + 1 < crossingCount; index += 2) {
+                final int fromX = Math.max(clipMinX, (int) Math.ceil(crossings[index] - 0.5));
+                final int toX = Math.min(clipMaxX, (int) Math.ceil(crossings[index + 1] - 0.5));
+                for (int x = fromX; x < toX; x++) {
+                    shading.apply(x, y);
+                }
+            }
+        }
+    }
+
+    private void renderSpotLight(final SpotLight spotLight, final int clipMinX, final int clipMinY, final int clipMaxX, final int clipMaxY) {
+        final int centerX = spotLight.position().x() / resolution;
+        final int centerY = spotLight.position().y() / resolution;
+        final int radius = spotLight.radius() / resolution;
+        final LightShading shading = new LightShading(spotLight.position(), spotLight.radius(), spotLight.color());
+        for (int y = Math.max(centerY - radius, clipMinY); y < Math.min(centerY + radius, clipMaxY); y++) {
+            final double deltaY = y + 0.5 - centerY;
+            for (int x = Math.max(centerX - radius, clipMinX); x < Math.min(centerX + radius, clipMaxX); x++) {
+                final double deltaX = x + 0.5 - centerX;
+                if (deltaX * deltaX + deltaY * deltaY <= radius * radius) {
+                    shading.apply(x, y);
+                }
+            }
+        }
+    }
+
+    private void fillRect(final ScreenBounds bounds, final int argb) {
+        final int x = bounds.offset().x() / resolution;
+        final int y = bounds.offset().y() / resolution;
+        final int minX = Math.max(0, x);
+        final int maxX = Math.min(width, x + bounds.width() / resolution);
+        for (int row = Math.max(0, y); row < Math.min(height, y + bounds.height() / resolution); row++) {
+            if (minX < maxX) {
+                Arrays.fill(lightPixels, row * width + minX, row * width + maxX, argb);
+            }
+        }
+    }
+
+    private void invertIntoImage() {
+        final int imageWidth = width + padding * 2;
+        final int imageHeight = height + padding * 2;
+        for (int y = 0; y < imageHeight; y++) {
+            final int sourceRow = Math.clamp(y - padding, 0, height - 1) * width;
+            final int targetRow = y * imageWidth;
+            for (int x = 0; x < imageWidth; x++) {
+                final int argb = lightPixels[sourceRow + Math.clamp(x - padding, 0, width - 1)];
+                final int alpha = Math.max(255 - (argb >>> 24), MIN_OPACITY);
+                imagePixels[targetRow + x] = (alpha << 24) | (argb & 0xFFFFFF);
+            }
+        }
+    }
+
+    private void blurImage() {
+        final int imageWidth = width + padding * 2;
+        final int imageHeight = height + padding * 2;
+        final int origin = (blur - 1) / 2;
+        for (int y = 0; y < imageHeight; y++) {
+            final int row = y * imageWidth;
+            for (int x = 0; x < imageWidth; x++) {
+                int alpha = 0;
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                for (int offset = 0; offset < blur; offset++) {
+                    final int argb = imagePixels[row + Math.clamp(x - origin + offset, 0, imageWidth - 1)];
+                    alpha += argb >>> 24;
+                    red += (argb >> 16) & 0xFF;
+                    green += (argb >> 8) & 0xFF;
+                    blue += argb & 0xFF;
+                }
+                blurPixels[row + x] = average(alpha, red, green, blue);
+            }
+        }
+        for (int y = 0; y < imageHeight; y++) {
+            for (int x = 0; x < imageWidth; x++) {
+                int alpha = 0;
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                for (int offset = 0; offset < blur; offset++) {
+                    final int argb = blurPixels[Math.clamp(y - origin + offset, 0, imageHeight - 1) * imageWidth + x];
+                    alpha += argb >>> 24;
+                    red += (argb >> 16) & 0xFF;
+                    green += (argb >> 8) & 0xFF;
+                    blue += argb & 0xFF;
+                }
+                imagePixels[y * imageWidth + x] = average(alpha, red, green, blue);
+            }
+        }
+    }
+
+    private int average(final int alpha, final int red, final int green, final int blue) {
+        final int half = blur / 2;
+        return ((alpha + half) / blur) << 24
+                | ((red + half) / blur) << 16
+                | ((green + half) / blur) << 8
+                | (blue + half) / blur;
+    }
+
+    private ScreenBounds createLightBox(final Offset position, final int radius) {
+        return new ScreenBounds(position.x() - radius, position.y() - radius, radius * 2, radius * 2);
+    }
+
+    /**
+     * Blends the radial falloff of a single light into the lightmap pixels, matching the gradient used by
+     * {@link AwtLightmap}.
+     */
+    private final class LightShading {
+
+        private final double centerX;
+        private final double centerY;
+        private final double radius;
+        private final int red;
+        private final int green;
+        private final int blue;
+        private final double opacity;
+
+        private LightShading(final Offset position, final int radius, final Color color) {
+            this.centerX = position.x() / (double) resolution;
+            this.centerY = position.y() / (double) resolution;
+            this.radius = Math.max(radius, resolution) / (double) resolution;
+            this.red = color.r();
+            this.green = color.g();
+            this.blue = color.b();
+            this.opacity = color.opacity().value();
+        }
+
+        private void apply(final int x, final int y) {
+            final double distance = Math.hypot(x + 0.5 - centerX, y + 0.5 - centerY) / radius;
+            if (distance >= 1) {
+                return;
+            }
+            final double strength = distance <= falloff ? 1 : 1 - (distance - falloff) / (1 - falloff);
+            final double sourceAlpha = strength * opacity;
+            if (sourceAlpha <= 0) {
+                return;
+            }
+            final int index = y * width + x;
+            final int target = lightPixels[index];
+            final double targetAlpha = (target >>> 24) / 255.0;
+            final double remainingAlpha = targetAlpha * (1 - sourceAlpha);
+            final double resultAlpha = sourceAlpha + remainingAlpha;
+            final int resultRed = (int) Math.round((red * strength * sourceAlpha + ((target >> 16) & 0xFF) * remainingAlpha) / resultAlpha);
+            final int resultGreen = (int) Math.round((green * strength * sourceAlpha + ((target >> 8) & 0xFF) * remainingAlpha) / resultAlpha);
+            final int resultBlue = (int) Math.round((blue * strength * sourceAlpha + (target & 0xFF) * remainingAlpha) / resultAlpha);
+            lightPixels[index] = (int) Math.round(resultAlpha * 255) << 24 | resultRed << 16 | resultGreen << 8 | resultBlue;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+
+import java.awt.*;
+
+/**
+ * The surface the {@link DefaultScreen} is shown on.
+ */
+public interface ScreenSurface {
+
+    /**
+     * Returns the {@link Size} of the area that can be drawn on.
+     */
+    Size getCanvasSize();
+
+    /**
+     * Returns the position of the area that can be drawn on relative to the monitor.
+     */
+    Offset canvasPosition();
+
+    /**
+     * Returns the area of the monitor that shows the area that can be drawn on. Used to create screenshots.
+     */
+    Rectangle captureArea();
+
+    /**
+     * Returns {@code true} if the surface is currently shown.
+     */
+    boolean isVisible();
+
+    /**
+     * Shows the last frame and returns the {@link Graphics2D} that is used to draw the next frame.
+     *
+     * @throws IllegalStateException when the surface is currently not drawable
+     */
+    Graphics2D nextFrameGraphics();
+}
@@ -0,0 +1,494 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * Calculates the area visible from a single position by sorting the endpoints of all edges by their angle and sweeping
+ * once around the position. Angles are measured in degrees clockwise starting at the top, like
+ * {@link io.github.srcimon.screwbox.core.Rotation}.
+ * <p>
+ * The edges spanning the current angle are kept in a tree ordered by their distance along the ray at the current
+ * angle, so the nearest edge is always the first one. This order only stays valid when no two edges cross each other.
+ * Therefore all edges are clipped to the light box and split at their crossings before sweeping. Crossings of axis
+ * aligned edges, which are the only edges created by shadow casters, are found by a sweep as well. Edges that are not
+ * axis aligned are checked against all other edges. For e axis aligned edges with k crossings the whole calculation
+ * takes O((e + k) log (e + k)).
+ */
+final class VisibilityPolygon {
+
+    private static final double EPSILON = 1e-9;
+    private static final double COLLINEARITY_TOLERANCE = 1e-6;
+    private static final int NONE = -1;
+
+    private record Event(double angle, int edge, boolean isOpening) {
+    }
+
+    private record CrossingEvent(double x, int order, int edge) {
+
+        private static final int START = 0;
+        private static final int VERTICAL = 1;
+        private static final int END = 2;
+    }
+
+    private static final class Edges {
+
+        private double[] coordinates;
+        private int count = 0;
+
+        private Edges(final int capacity) {
+            coordinates = new double[Math.max(1, capacity) * 4];
+        }
+
+        private void add(final double fromX, final double fromY, final double toX, final double toY) {
+            if (count * 4 == coordinates.length) {
+                coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+            }
+            final int offset = count * 4;
+            coordinates[offset] = fromX;
+            coordinates[offset + 1] = fromY;
+            coordinates[offset + 2] = toX;
+            coordinates[offset + 3] = toY;
+            count++;
+        }
+
+        private void add(final Vector from, final Vector to) {
+            add(from.x(), from.y(), to.x(), to.y());
+        }
+
+        private double fromX(final int edge) {
+            return coordinates[edge * 4];
+        }
+
+        private double fromY(final int edge) {
+            return coordinates[edge * 4 + 1];
+        }
+
+        private double toX(final int edge) {
+            return coordinates[edge * 4 + 2];
+        }
+
+        private double toY(final int edge) {
+            return coordinates[edge * 4 + 3];
+        }
+    }
+
+    /**
+     * Edges spanning the current angle ordered by their distance along the ray. Two edges that don't cross each other
+     * keep their order within the whole angle range they have in common, so they are compared on a ray within this
+     * range. The result is the order at the current angle without updating the tree for every new angle.
+     */
+    private static final class ActiveEdges {
+
+        private final Edges edges;
+        private final Vector position;
+        private final double minAngle;
+        private final double[] extents;
+        private final boolean[] isReversed;
+        private final double[] starts;
+        private final double[] ends;
+        private final boolean[] isActive;
+        private final TreeSet<Integer> tree = new TreeSet<>(this::compare);
+
+        private ActiveEdges(final Edges edges, final Vector position, final double minAngle) {
+            this.edges = edges;
+            this.position = position;
+            this.minAngle = minAngle;
+            extents = new double[edges.count];
+            isReversed = new boolean[edges.count];
+            starts = new double[edges.count];
+            ends = new double[edges.count];
+            isActive = new boolean[edges.count];
+        }
+
+        private void open(final int edge, final double start) {
+            starts[edge] = start;
+            ends[edge] = start + extents[edge];
+            isActive[edge] = true;
+            tree.add(edge);
+        }
+
+        private void close(final int edge) {
+            if (isActive[edge]) {
+                isActive[edge] = false;
+                // removing by identity in case rounding errors made the order inconsistent
+                if (!tree.remove(edge)) {
+                    tree.removeIf(active -> active == edge);
+                }
+            }
+        }
+
+        private void closeEdgesStartingAtFirstAngle() {
+            for (int edge = 0; edge < isActive.length; edge++) {
+                if (isActive[edge] && starts[edge] >= 0 && starts[edge] < EPSILON) {
+                    close(edge);
+                }
+            }
+        }
+
+        private int nearest() {
+            return tree.isEmpty() ? NONE : tree.first();
+        }
+
+        private Vector nearestHit(final double angle) {
+            return hit(nearest(), angle);
+        }
+
+        private Vector hit(final int edge, final double angle) {
+            final double radians = Math.toRadians(minAngle + angle);
+            final double directionX = Math.sin(radians);
+            final double directionY = -Math.cos(radians);
+            final double distance = edge == NONE ? Double.MAX_VALUE : distanceOnRay(edge, directionX, directionY);
+            return distance == Double.MAX_VALUE
+                    ? position
+                    : Vector.of(position.x() + directionX * distance, position.y() + directionY * distance);
+        }
+
+        private int compare(final int edge, final int other) {
+            if (edge == other) {
+                return 0;
+            }
+            // the sum of the directions to the start and to the end of the common range points into this range
+            final int first = starts[edge] > starts[other] ? edge : other;
+            final int last = ends[edge] < ends[other] ? edge : other;
+            final double directionX = (isReversed[first] ? edges.toX(first) : edges.fromX(first))
+                    + (isReversed[last] ? edges.fromX(last) : edges.toX(last)) - 2 * position.x();
+            final double directionY = (isReversed[first] ? edges.toY(first) : edges.fromY(first))
+                    + (isReversed[last] ? edges.fromY(last) : edges.toY(last)) - 2 * position.y();
+            final int result = Double.compare(distanceOnRay(edge, directionX, directionY), distanceOnRay(other, directionX, directionY));
+            return result == 0 ? Integer.compare(edge, other) : result;
+        }
+
+        // edges are only checked while spanning the ray, so the ray hits the line of the edge within the edge
+        private double distanceOnRay(final int edge, final double directionX, final double directionY) {
+            final double edgeX = edges.toX(edge) - edges.fromX(edge);
+            final double edgeY = edges.toY(edge) - edges.fromY(edge);
+            final double denominator = directionX * edgeY - directionY * edgeX;
+            if (Math.abs(denominator) < EPSILON) {
+                return Double.MAX_VALUE;
+            }
+            final double deltaX = edges.fromX(edge) - position.x();
+            final double deltaY = edges.fromY(edge) - position.y();
+            return Math.max(0, (deltaX * edgeY - deltaY * edgeX) / denominator);
+        }
+    }
+
+    private VisibilityPolygon() {
+    }
+
+    /**
+     * Returns the outline of the area visible from the center of the light box. The area is limited by the light box.
+     * If the angle range is not a full circle the first node of the outline will be the center of the light box.
+     */
+    static List<Vector> calculate(final Bounds lightBox, final List<Line> edges, final double minAngle, final double maxAngle) {
+        final double range = Math.min(360, maxAngle - minAngle);
+        final List<Vector> area = new ArrayList<>();
+        if (range <= 0) {
+            return area;
+        }
+        final Vector position = lightBox.position();
+        final Edges preparedEdges = prepareEdges(lightBox, edges);
+        final ActiveEdges activeEdges = new ActiveEdges(preparedEdges, position, minAngle);
+        final List<Event> events = new ArrayList<>();
+        for (int edge = 0; edge < preparedEdges.count; edge++) {
+            addEvents(events, activeEdges, preparedEdges, edge, position, minAngle, range);
+        }
+        events.sort(comparingDouble(Event::angle));
+
+        final boolean isFullCircle = range >= 360;
+        if (!isFullCircle) {
+            area.add(position);
+        }
+        addNode(area, activeEdges.nearestHit(0));
+        int eventIndex = 0;
+        while (eventIndex < events.size()) {
+            final double angle = events.get(eventIndex).angle();
+            final int nearestBefore = activeEdges.nearest();
+            int lastIndex = eventIndex;
+            while (lastIndex < events.size() && events.get(lastIndex).angle() - angle < EPSILON) {
+                lastIndex++;
+            }
+            // edges ending at this angle are removed first, so all edges in the tree have a common angle range
+            for (int index = eventIndex; index < lastIndex; index++) {
+                if (!events.get(index).isOpening()) {
+                    activeEdges.close(events.get(index).edge());
+                }
+            }
+            for (int index = eventIndex; index < lastIndex; index++) {
+                if (events.get(index).isOpening()) {
+                    activeEdges.open(events.get(index).edge(), events.get(index).angle());
+                }
+            }
+            eventIndex = lastIndex;
+            // the outline only gets new nodes when another edge becomes the nearest one
+            final int nearestAfter = activeEdges.nearest();
+            if (nearestAfter != nearestBefore) {
+                addNode(area, activeEdges.hit(nearestBefore, angle));
+                addNode(area, activeEdges.hit(nearestAfter, angle));
+            }
+        }
+        if (isFullCircle) {
+            // edges starting at the first angle don't cover the ray when coming back to it
+            activeEdges.closeEdgesStartingAtFirstAngle();
+            addNode(area, activeEdges.nearestHit(range));
+            removeRedundantNodesAtStart(area);
+        } else {
+            addNode(area, activeEdges.nearestHit(range));
+        }
+        return area;
+    }
+
+    /**
+     * Clips all edges to the light box and splits edges crossing each other. Adds the outline of the light box.
+     */
+    private static Edges prepareEdges(final Bounds lightBox, final List<Line> lines) {
+        final Edges clippedEdges = new Edges(lines.size());
+        for (final var line : lines) {
+            addClipped(clippedEdges, lightBox, line);
+        }
+        final Edges edges = splitAtCrossings(clippedEdges);
+        edges.add(lightBox.origin(), lightBox.topRight());
+        edges.add(lightBox.topRight(), lightBox.bottomRight());
+        edges.add(lightBox.bottomRight(), lightBox.bottomLeft());
+        edges.add(lightBox.bottomLeft(), lightBox.origin());
+        return edges;
+    }
+
+    // Liang-Barsky line clipping
+    private static void addClipped(final Edges edges, final Bounds lightBox, final Line line) {
+        final double fromX = line.from().x();
+        final double fromY = line.from().y();
+        final double deltaX = line.to().x() - fromX;
+        final double deltaY = line.to().y() - fromY;
+        if (deltaX == 0 && deltaY == 0) {
+            return;
+        }
+        final double[] range = {0, 1};
+        if (clip(range, -deltaX, fromX - lightBox.minX()) && clip(range, deltaX, lightBox.maxX() - fromX)
+                && clip(range, -deltaY, fromY - lightBox.minY()) && clip(range, deltaY, lightBox.maxY() - fromY)) {
+            edges.add(fromX + deltaX * range[0], fromY + deltaY * range[0], fromX + deltaX * range[1], fromY + deltaY * range[1]);
+        }
+    }
+
+    private static boolean clip(final double[] range, final double direction, final double distance) {
+        if (direction == 0) {
+            return distance >= 0;
+        }
+        final double factor = distance / direction;
+        if (direction < 0) {
+            range[0] = Math.max(range[0], factor);
+        } else {
+            range[1] = Math.min(range[1], factor);
+        }
+        return range[0] < range[1];
+    }
+
+    private static Edges splitAtCrossings(final Edges edges) {
+        final Map<Integer, List<Double>> splits = new HashMap<>();
+        final List<Integer> horizontalEdges = new ArrayList<>();
+        final List<Integer> verticalEdges = new ArrayList<>();
+        final List<Integer> otherEdges = new ArrayList<>();
+        final boolean[] isOther = new boolean[edges.count];
+        for (int edge = 0; edge < edges.count; edge++) {
+            if (edges.fromY(edge) == edges.toY(edge)) {
+                horizontalEdges.add(edge);
+            } else if (edges.fromX(edge) == edges.toX(edge)) {
+                verticalEdges.add(edge);
+            } else {
+                otherEdges.add(edge);
+                isOther[edge] = true;
+            }
+        }
+        addAxisAlignedCrossings(edges, horizontalEdges, verticalEdges, splits);
+        for (final int edge : otherEdges) {
+            for (int other = 0; other < edges.count; other++) {
+                if (other != edge && !(isOther[other] && other < edge)) {
+                    addCrossing(edges, edge, other, splits);
+                }
+            }
+        }
+        if (splits.isEmpty()) {
+            return edges;
+        }
+        final Edges splitEdges = new Edges(edges.count + splits.size() * 2 + 4);
+        for (int edge = 0; edge < edges.count; edge++) {
+            final List<Double> factors = splits.get(edge);
+            if (factors == null) {
+                splitEdges.add(edges.fromX(edge), edges.fromY(edge), edges.toX(edge), edges.toY(edge));
+            } else {
+                addPieces(splitEdges, edges, edge, factors);
+            }
+        }
+        return splitEdges;
+    }
+
+    private static void addPieces(final Edges splitEdges, final Edges edges, final int edge, final List<Double> factors) {
+        factors.sort(null);
+        final double deltaX = edges.toX(edge) - edges.fromX(edge);
+        final double deltaY = edges.toY(edge) - edges.fromY(edge);
+        double lastX = edges.fromX(edge);
+        double lastY = edges.fromY(edge);
+        for (final double factor : factors) {
+            final double x = edges.fromX(edge) + deltaX * factor;
+            final double y = edges.fromY(edge) + deltaY * factor;
+            if (x != lastX || y != lastY) {
+                splitEdges.add(lastX, lastY, x, y);
+                lastX = x;
+                lastY = y;
+            }
+        }
+        splitEdges.add(lastX, lastY, edges.toX(edge), edges.toY(edge));
+    }
+
+    // sweeps from left to right keeping the horizontal edges spanning the current x ordered by their y
+    private static void addAxisAlignedCrossings(final Edges edges, final List<Integer> horizontalEdges,
+                                                final List<Integer> verticalEdges, final Map<Integer, List<Double>> splits) {
+        if (horizontalEdges.isEmpty() || verticalEdges.isEmpty()) {
+            return;
+        }
+        final List<CrossingEvent> events = new ArrayList<>();
+        for (final int edge : horizontalEdges) {
+            events.add(new CrossingEvent(Math.min(edges.fromX(edge), edges.toX(edge)), CrossingEvent.START, edge));
+            events.add(new CrossingEvent(Math.max(edges.fromX(edge), edges.toX(edge)), CrossingEvent.END, edge));
+        }
+        for (final int edge : verticalEdges) {
+            events.add(new CrossingEvent(edges.fromX(edge), CrossingEvent.VERTICAL, edge));
+        }
+        events.sort(comparingDouble(CrossingEvent::x).thenComparingInt(CrossingEvent::order));
+
+        final TreeMap<Double, List<Integer>> activeEdges = new TreeMap<>();
+        for (final var event : events) {
+            final int edge = event.edge();
+            if (event.order() == CrossingEvent.START) {
+                activeEdges.computeIfAbsent(edges.fromY(edge), y -> new ArrayList<>()).add(edge);
+            } else if (event.order() == CrossingEvent.END) {
+                final List<Integer> edgesAtY = activeEdges.get(edges.fromY(edge));
+                edgesAtY.remove(Integer.valueOf(edge));
+                if (edgesAtY.isEmpty()) {
+                    activeEdges.remove(edges.fromY(edge));
+                }
+            } else {
+                final double x = edges.fromX(edge);
+                final double minY = Math.min(edges.fromY(edge), edges.toY(edge));
+                final double maxY = Math.max(edges.fromY(edge), edges.toY(edge));
+                for (final var edgesAtY : activeEdges.subMap(minY, true, maxY, true).entrySet()) {
+                    final double y = edgesAtY.getKey();
+                    addSplit(splits, edge, (y - edges.fromY(edge)) / (edges.toY(edge) - edges.fromY(edge)));
+                    for (final int horizontalEdge : edgesAtY.getValue()) {
+                        addSplit(splits, horizontalEdge, (x - edges.fromX(horizontalEdge)) / (edges.toX(horizontalEdge) - edges.fromX(horizontalEdge)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addCrossing(final Edges edges, final int edge, final int other, final Map<Integer, List<Double>> splits) {
+        final double edgeX = edges.toX(edge) - edges.fromX(edge);
+        final double edgeY = edges.toY(edge) - edges.fromY(edge);
+        final double otherX = edges.toX(other) - edges.fromX(other);
+        final double otherY = edges.toY(other) - edges.fromY(other);
+        final double denominator = edgeX * otherY - edgeY * otherX;
+        if (Math.abs(denominator) < EPSILON) {
+            return;
+        }
+        final double deltaX = edges.fromX(other) - edges.fromX(edge);
+        final double deltaY = edges.fromY(other) - edges.fromY(edge);
+        final double edgeFactor = (deltaX * otherY - deltaY * otherX) / denominator;
+        final double otherFactor = (deltaX * edgeY - deltaY * edgeX) / denominator;
+        if (edgeFactor >= -EPSILON && edgeFactor <= 1 + EPSILON && otherFactor >= -EPSILON && otherFactor <= 1 + EPSILON) {
+            addSplit(splits, edge, edgeFactor);
+            addSplit(splits, other, otherFactor);
+        }
+    }
+
+    // only splits within the edge, touching edges don't change their order
+    private static void addSplit(final Map<Integer, List<Double>> splits, final int edge, final double factor) {
+        if (factor > EPSILON && factor < 1 - EPSILON) {
+            splits.computeIfAbsent(edge, key -> new ArrayList<>()).add(factor);
+        }
+    }
+
+    private static void addEvents(final List<Event> events, final ActiveEdges activeEdges, final Edges edges,
+                                  final int edge, final Vector position, final double minAngle, final double range) {
+        final double fromAngle = angleOf(edges.fromX(edge) - position.x(), edges.fromY(edge) - position.y());
+        final double toAngle = angleOf(edges.toX(edge) - position.x(), edges.toY(edge) - position.y());
+        double extent = normalize(toAngle - fromAngle);
+        final boolean isReversed = extent > 180;
+        final double start = isReversed ? toAngle : fromAngle;
+        if (isReversed) {
+            extent = 360 - extent;
+        }
+        if (extent < EPSILON) {
+            return;
+        }
+        activeEdges.extents[edge] = extent;
+        activeEdges.isReversed[edge] = isReversed;
+        final double relativeStart = normalize(start - minAngle);
+        final double relativeEnd = relativeStart + extent;
+        if (relativeEnd > 360) {
+            activeEdges.open(edge, relativeStart - 360);
+            if (relativeEnd - 360 < range) {
+                events.add(new Event(relativeEnd - 360, edge, false));
+            }
+        } else if (relativeStart < EPSILON) {
+            activeEdges.open(edge, relativeStart);
+        }
+        if (relativeStart >= EPSILON && relativeStart < range) {
+            events.add(new Event(relativeStart, edge, true));
+        }
+        if (relativeEnd < range) {
+            events.add(new Event(relativeEnd, edge, false));
+        }
+    }
+
+    private static void addNode(final List<Vector> area, final Vector node) {
+        if (!area.isEmpty() && area.getLast().distanceTo(node) <= EPSILON) {
+            return;
+        }
+        if (area.size() > 1 && isContinuation(area.get(area.size() - 2), area.getLast(), node)) {
+            area.set(area.size() - 1, node);
+        } else {
+            area.add(node);
+        }
+    }
+
+    private static void removeRedundantNodesAtStart(final List<Vector> area) {
+        while (area.size() > 3 && (area.getLast().distanceTo(area.getFirst()) <= EPSILON
+                || isContinuation(area.get(area.size() - 2), area.getLast(), area.getFirst()))) {
+            area.removeLast();
+        }
+        if (area.size() > 3 && isContinuation(area.getLast(), area.getFirst(), area.get(1))) {
+            area.removeFirst();
+        }
+    }
+
+    private static boolean isContinuation(final Vector previous, final Vector last, final Vector node) {
+        final double firstX = last.x() - previous.x();
+        final double firstY = last.y() - previous.y();
+        final double secondX = node.x() - last.x();
+        final double secondY = node.y() - last.y();
+        final double cross = firstX * secondY - firstY * secondX;
+        final double dot = firstX * secondX + firstY * secondY;
+        return dot > 0 && Math.abs(cross) <= COLLINEARITY_TOLERANCE * Math.hypot(firstX, firstY) * Math.hypot(secondX, secondY);
+    }
+
+    private static double angleOf(final double x, final double y) {
+        return normalize(Math.toDegrees(Math.atan2(x, -y)));
+    }
+
+    private static double normalize(final double degrees) {
+        final double normalized = degrees % 360;
+        return normalized < 0 ? normalized + 360 : normalized;
+    }
+}
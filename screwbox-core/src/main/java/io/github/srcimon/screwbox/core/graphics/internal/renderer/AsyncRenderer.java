@@ -20,12 +20,11 @@ import io.github.srcimon.screwbox.core.graphics.internal.Renderer;
 import io.github.srcimon.screwbox.core.utils.Latch;
 
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static java.lang.Thread.currentThread;
@@ -33,93 +32,110 @@ import static java.util.Objects.nonNull;
 
 public class AsyncRenderer implements Renderer {
 
-    private final Latch<List<Runnable>> renderTasks = Latch.of(new ArrayList<>(), new ArrayList<>());
+    private final Latch<RenderCommandBuffer> renderCommands = Latch.of(new RenderCommandBuffer(), new RenderCommandBuffer());
     private final Renderer next;
     private final ExecutorService executor;
+    private final TileRasterizer tileRasterizer;
     private Duration renderingDuration = Duration.none();
+    private boolean isTiledRendering = false;
 
     private Future<?> currentRendering = null;
 
     public AsyncRenderer(final Renderer next, final ExecutorService executor) {
         this.next = next;
         this.executor = executor;
+        this.tileRasterizer = new TileRasterizer(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Renders the screen in tiles on multiple threads instead of executing all render commands on a single thread.
+     * Changes will be applied with the next frame.
+     */
+    public void setTiledRendering(final boolean isTiledRendering) {
+        this.isTiledRendering = isTiledRendering;
     }
 
     @Override
     public void updateContext(final Supplier<Graphics2D> graphics) {
         waitForCurrentRenderingToEnd();
-        next.updateContext(graphics);
-
-        renderTasks.toggle();
-        currentRendering = executor.submit(finishRenderTasks());
+        final FutureTask<Void> rendering;
+        if (isTiledRendering) {
+            final Graphics2D target = graphics.get();
+            final Time time = Time.now();
+            rendering = finishRenderCommands(commands -> tileRasterizer.render(commands, target, time));
+        } else {
+            next.updateContext(graphics);
+            rendering = finishRenderCommands(commands -> commands.replay(next));
+        }
+        renderCommands.toggle();
+        currentRendering = executor.submit(rendering);
     }
 
     @Override
     public void fillWith(final Color color, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.fillWith(color, clip));
+        renderCommands.active().fillWith(color, clip);
     }
 
     @Override
     public void rotate(final Rotation rotation, final ScreenBounds clip, final Color backgroundColor) {
-        renderTasks.active().add(() -> next.rotate(rotation, clip, backgroundColor));
+        renderCommands.active().rotate(rotation, clip, backgroundColor);
     }
 
     @Override
     public void fillWith(final Sprite sprite, final SpriteFillOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.fillWith(sprite, options, clip));
+        renderCommands.active().fillWith(sprite, options, clip);
     }
 
     @Override
     public void drawText(final Offset offset, final String text, final SystemTextDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawText(offset, text, options, clip));
+        renderCommands.active().drawText(offset, text, options, clip);
     }
 
     @Override
     public void drawRectangle(final Offset offset, final Size size, final RectangleDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawRectangle(offset, size, options, clip));
+        renderCommands.active().drawRectangle(offset, size, options, clip);
     }
 
     @Override
     public void drawLine(final Offset from, final Offset to, final LineDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawLine(from, to, options, clip));
+        renderCommands.active().drawLine(from, to, options, clip);
     }
 
     @Override
     public void drawCircle(final Offset offset, final int radius, final CircleDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawCircle(offset, radius, options, clip));
+        renderCommands.active().drawCircle(offset, radius, options, clip);
     }
 
     @Override
     public void drawSprite(final Supplier<Sprite> sprite, final Offset origin, final SpriteDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawSprite(sprite, origin, options, clip));
+        renderCommands.active().drawSprite(sprite, origin, options, clip);
     }
 
     @Override
     public void drawSprite(final Sprite sprite, final Offset origin, final SpriteDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawSprite(sprite, origin, options, clip));
+        renderCommands.active().drawSprite(sprite, origin, options, clip);
     }
 
     @Override
     public void drawText(final Offset offset, final String text, final TextDrawOptions options, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawText(offset, text, options, clip));
+        renderCommands.active().drawText(offset, text, options, clip);
     }
 
     @Override
     public void drawSpriteBatch(final SpriteBatch spriteBatch, final ScreenBounds clip) {
-        renderTasks.active().add(() -> next.drawSpriteBatch(spriteBatch, clip));
+        renderCommands.active().drawSpriteBatch(spriteBatch, clip);
     }
 
-    private FutureTask<Void> finishRenderTasks() {
+    private FutureTask<Void> finishRenderCommands(final Consumer<RenderCommandBuffer> rendering) {
         return new FutureTask<>(() -> {
             final Time startOfRendering = Time.now();
+            final RenderCommandBuffer commands = renderCommands.inactive();
             try {
-                for (final var task : renderTasks.inactive()) {
-                    task.run();
-                }
+                rendering.accept(commands);
             } catch (final Exception e) {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(null, e);
             }
-            renderTasks.inactive().clear();
+            commands.clear();
             renderingDuration = Duration.since(startOfRendering);
         }, null);
     }
@@ -5,10 +5,12 @@ import io.github.srcimon.screwbox.core.Percent;
 import io.github.srcimon.screwbox.core.Rotation;
 import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Frame;
 import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
 import io.github.srcimon.screwbox.core.graphics.Size;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteAtlas;
 import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
 import io.github.srcimon.screwbox.core.graphics.drawoptions.CircleDrawOptions;
 import io.github.srcimon.screwbox.core.graphics.drawoptions.LineDrawOptions;
@@ -32,6 +34,7 @@ public class DefaultRenderer implements Renderer {
     private static final float[] FADEOUT_FRACTIONS = new float[]{0.0f, 0.3f, 0.6f, 1f};
     private static final java.awt.Color FADEOUT_COLOR = toAwtColor(Color.TRANSPARENT);
 
+    private final AffineTransform transform = new AffineTransform();
     private Time lastUpdateTime = Time.now();
     private Graphics2D graphics;
     private Color lastUsedColor;
@@ -39,7 +42,15 @@ public class DefaultRenderer implements Renderer {
 
     @Override
     public void updateContext(final Supplier<Graphics2D> graphics) {
-        lastUpdateTime = Time.now();
+        updateContext(graphics, Time.now());
+    }
+
+    /**
+     * Updates the context using the specified time to pick animation frames. Allows multiple renderers to render
+     * the same frame consistently.
+     */
+    void updateContext(final Supplier<Graphics2D> graphics, final Time time) {
+        lastUpdateTime = time;
         this.graphics = graphics.get();
         lastUsedColor = null;
         lastUsedClip = null;
@@ -70,8 +81,7 @@ public class DefaultRenderer implements Renderer {
         final int yStart = options.offset().y() % spriteHeight == 0 ? 0 : options.offset().y() % spriteHeight - spriteHeight;
         for (int x = xStart; x <= clip.width() + clip.offset().x(); x += spriteWidth) {
             for (int y = yStart; y <= clip.height() + clip.offset().y(); y += spriteHeight) {
-                final AffineTransform transform = new AffineTransform();
-                transform.translate(x, y);
+                transform.setToTranslation(x, y);
                 transform.scale(options.scale(), options.scale());
                 graphics.drawImage(sprite.image(lastUpdateTime), transform, null);
             }
@@ -115,12 +125,18 @@ public class DefaultRenderer implements Renderer {
     }
 
     private void drawSpriteInContext(final Sprite sprite, final Offset origin, final SpriteDrawOptions options) {
-        final Image image = sprite.image(lastUpdateTime);
-        final AffineTransform transform = new AffineTransform();
+        final Frame frame = sprite.frame(lastUpdateTime);
+        final var atlasRegion = frame.atlasRegion();
+        if (atlasRegion.isPresent()) {
+            drawAtlasRegion(atlasRegion.get(), origin, options);
+            return;
+        }
+        final Image image = frame.image();
         final Size size = sprite.size();
         final double xCorrect = options.isFlipHorizontal() ? options.scale() * size.width() : 0;
         final double yCorrect = options.isFlipVertical() ? options.scale() * size.height() : 0;
 
+        transform.setToIdentity();
         if (options.spin().isZero()) {
             transform.translate(origin.x() + xCorrect, origin.y() + yCorrect);
         } else {
@@ -140,6 +156,33 @@ public class DefaultRenderer implements Renderer {
         graphics.drawImage(image, transform, null);
     }
 
+    /**
+     * Draws the area of a shared {@link SpriteAtlas} page without any transformation. Flipping, scaling and spinning
+     * are applied by moving the corners of the target area.
+     */
+    private void drawAtlasRegion(final SpriteAtlas.Region region, final Offset origin, final SpriteDrawOptions options) {
+        final double width = options.scale() * region.size().width();
+        final double height = options.scale() * region.size().height();
+        double halfWidth = width / 2.0 * (options.isFlipHorizontal() ? -1 : 1);
+        double halfHeight = height / 2.0 * (options.isFlipVertical() ? -1 : 1);
+        if (!options.spin().isZero()) {
+            final double distort = Ease.SINE_IN_OUT.applyOn(options.spin()).value() * -2 + 1;
+            if (options.isSpinHorizontal()) {
+                halfWidth *= distort;
+            } else {
+                halfHeight *= distort;
+            }
+        }
+        final double centerX = origin.x() + width / 2.0;
+        final double centerY = origin.y() + height / 2.0;
+        final int sourceX = region.offset().x();
+        final int sourceY = region.offset().y();
+        graphics.drawImage(region.page(),
+                (int) Math.round(centerX - halfWidth), (int) Math.round(centerY - halfHeight),
+                (int) Math.round(centerX + halfWidth), (int) Math.round(centerY + halfHeight),
+                sourceX, sourceY, sourceX + region.size().width(), sourceY + region.size().height(), null);
+    }
+
     private void applyNewColor(final Color color) {
         if (lastUsedColor != color) {
             lastUsedColor = color;
@@ -271,8 +314,7 @@ public class DefaultRenderer implements Renderer {
             };
             for (final var sprite : allSprites) {
                 final Image image = sprite.image(lastUpdateTime);
-                final AffineTransform transform = new AffineTransform();
-                transform.translate(x, (double) offset.y() + y);
+                transform.setToTranslation(x, (double) offset.y() + y);
                 transform.scale(options.scale(), options.scale());
                 graphics.drawImage(image, transform, null);
                 final double distanceX = (sprite.width() + options.padding()) * options.scale();
@@ -0,0 +1,305 @@
+package io.github.srcimon.screwbox.core.graphics.internal.renderer;
+
+import io.github.srcimon.screwbox.core.Rotation;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.CircleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.LineDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteFillOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SystemTextDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.TextDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.internal.Renderer;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Records render commands without creating objects per command. Every command is stored as opcode and the area of
+ * the screen that may be changed by the command in a primitive array. The arguments of the command are stored in an
+ * array of references. Both arrays are reused after {@link #clear() clearing} the buffer, so recording doesn't
+ * create any garbage once the buffer has grown to the size needed for a frame.
+ */
+class RenderCommandBuffer {
+
+    private static final int FILL_WITH_COLOR = 0;
+    private static final int ROTATE = 1;
+    private static final int FILL_WITH_SPRITE = 2;
+    private static final int DRAW_SYSTEM_TEXT = 3;
+    private static final int DRAW_RECTANGLE = 4;
+    private static final int DRAW_LINE = 5;
+    private static final int DRAW_CIRCLE = 6;
+    private static final int DRAW_SPRITE_SUPPLIER = 7;
+    private static final int DRAW_SPRITE = 8;
+    private static final int DRAW_TEXT = 9;
+    private static final int DRAW_SPRITE_BATCH = 10;
+
+    /**
+     * Number of references used by every opcode. Allows skipping commands without decoding them.
+     */
+    private static final int[] REFERENCE_COUNT = {2, 3, 3, 4, 4, 4, 3, 4, 4, 4, 2};
+
+    /**
+     * Number of primitives used by every command: opcode, the changed area and an additional argument.
+     */
+    private static final int PRIMITIVE_COUNT = 6;
+
+    /**
+     * Additional space around the changed area to include antialiasing.
+     */
+    private static final int MARGIN = 1;
+
+    private int[] primitives = new int[PRIMITIVE_COUNT * 256];
+    private Object[] references = new Object[4 * 256];
+    private int commandCount = 0;
+    private int referenceCount = 0;
+    private int maxX = 0;
+    private int maxY = 0;
+    private boolean isTransformed = false;
+
+    void fillWith(final Color color, final ScreenBounds clip) {
+        addClipped(FILL_WITH_COLOR, clip, 0);
+        addReferences(color, clip);
+    }
+
+    void rotate(final Rotation rotation, final ScreenBounds clip, final Color backgroundColor) {
+        addClipped(ROTATE, clip, 0);
+        addReferences(rotation, clip, backgroundColor);
+        isTransformed |= !rotation.isNone();
+    }
+
+    void fillWith(final Sprite sprite, final SpriteFillOptions options, final ScreenBounds clip) {
+        addClipped(FILL_WITH_SPRITE, clip, 0);
+        addReferences(sprite, options, clip);
+    }
+
+    void drawText(final Offset offset, final String text, final SystemTextDrawOptions options, final ScreenBounds clip) {
+        addClipped(DRAW_SYSTEM_TEXT, clip, 0);
+        addReferences(offset, text, options, clip);
+    }
+
+    void drawRectangle(final Offset offset, final Size size, final RectangleDrawOptions options, final ScreenBounds clip) {
+        final int stroke = options.strokeWidth();
+        if (options.rotation().isNone()) {
+            addWithin(DRAW_RECTANGLE, clip, offset.x() - stroke, offset.y() - stroke,
+                    offset.x() + size.width() + stroke, offset.y() + size.height() + stroke, 0);
+        } else {
+            addWithinRadius(DRAW_RECTANGLE, clip, offset.x() + size.width() / 2.0, offset.y() + size.height() / 2.0,
+                    Math.hypot(size.width(), size.height()) / 2.0 + stroke, 0);
+        }
+        addReferences(offset, size, options, clip);
+    }
+
+    void drawLine(final Offset from, final Offset to, final LineDrawOptions options, final ScreenBounds clip) {
+        final int stroke = options.strokeWidth();
+        addWithin(DRAW_LINE, clip, Math.min(from.x(), to.x()) - stroke, Math.min(from.y(), to.y()) - stroke,
+                Math.max(from.x(), to.x()) + stroke, Math.max(from.y(), to.y()) + stroke, 0);
+        addReferences(from, to, options, clip);
+    }
+
+    void drawCircle(final Offset offset, final int radius, final CircleDrawOptions options, final ScreenBounds clip) {
+        addWithinRadius(DRAW_CIRCLE, clip, offset.x(), offset.y(), radius + (double) options.strokeWidth(), radius);
+        addReferences(offset, options, clip);
+    }
+
+    void drawSprite(final Supplier<Sprite> sprite, final Offset origin, final SpriteDrawOptions options, final ScreenBounds clip) {
+        addClipped(DRAW_SPRITE_SUPPLIER, clip, 0);
+        addReferences(sprite, origin, options, clip);
+    }
+
+    void drawSprite(final Sprite sprite, final Offset origin, final SpriteDrawOptions options, final ScreenBounds clip) {
+        final double width = sprite.width() * options.scale();
+        final double height = sprite.height() * options.scale();
+        if (options.rotation().isNone()) {
+            addWithin(DRAW_SPRITE, clip, origin.x(), origin.y(), origin.x() + width, origin.y() + height, 0);
+        } else {
+            addWithinRadius(DRAW_SPRITE, clip, origin.x() + width / 2.0, origin.y() + height / 2.0,
+                    Math.hypot(width, height) / 2.0, 0);
+        }
+        addReferences(sprite, origin, options, clip);
+    }
+
+    void drawText(final Offset offset, final String text, final TextDrawOptions options, final ScreenBounds clip) {
+        addClipped(DRAW_TEXT, clip, 0);
+        addReferences(offset, text, options, clip);
+    }
+
+    void drawSpriteBatch(final SpriteBatch spriteBatch, final ScreenBounds clip) {
+        addClipped(DRAW_SPRITE_BATCH, clip, 0);
+        addReferences(spriteBatch, clip);
+    }
+
+    /**
+     * Returns the number of recorded commands.
+     */
+    int size() {
+        return commandCount;
+    }
+
+    /**
+     * Returns {@code true} if a command rotates all following commands. When rotated the changed areas of the
+     * commands don't match the screen anymore.
+     */
+    boolean isTransformed() {
+        return isTransformed;
+    }
+
+    /**
+     * Returns the right border of all areas changed by the recorded commands.
+     */
+    int maxX() {
+        return maxX;
+    }
+
+    /**
+     * Returns the bottom border of all areas changed by the recorded commands.
+     */
+    int maxY() {
+        return maxY;
+    }
+
+    /**
+     * Replaces all {@link Sprite} suppliers with the supplied {@link Sprite}. Ensures suppliers are invoked only once
+     * when replaying the commands multiple times.
+     */
+    void resolveSprites() {
+        int referenceIndex = 0;
+        for (int command = 0; command < commandCount; command++) {
+            final int opcode = primitives[command * PRIMITIVE_COUNT];
+            if (opcode == DRAW_SPRITE_SUPPLIER) {
+                primitives[command * PRIMITIVE_COUNT] = DRAW_SPRITE;
+                references[referenceIndex] = ((Supplier<?>) references[referenceIndex]).get();
+            }
+            referenceIndex += REFERENCE_COUNT[opcode];
+        }
+    }
+
+    /**
+     * Executes all recorded commands in the order they were recorded.
+     */
+    void replay(final Renderer renderer) {
+        int referenceIndex = 0;
+        for (int command = 0; command < commandCount; command++) {
+            referenceIndex = execute(renderer, command, referenceIndex);
+        }
+    }
+
+    /**
+     * Executes only the commands that may change the specified area in the order they were recorded. Executes all
+     * commands if the buffer {@link #isTransformed()}.
+     */
+    void replay(final Renderer renderer, final int x, final int y, final int width, final int height) {
+        int referenceIndex = 0;
+        for (int command = 0; command < commandCount; command++) {
+            final int index = command * PRIMITIVE_COUNT;
+            if (isTransformed || primitives[index + 1] < x + width && primitives[index + 3] > x
+                    && primitives[index + 2] < y + height && primitives[index + 4] > y) {
+                referenceIndex = execute(renderer, command, referenceIndex);
+            } else {
+                referenceIndex += REFERENCE_COUNT[primitives[index]];
+            }
+        }
+    }
+
+    /**
+     * Removes all commands and releases the references to their arguments.
+     */
+    void clear() {
+        Arrays.fill(references, 0, referenceCount, null);
+        commandCount = 0;
+        referenceCount = 0;
+        maxX = 0;
+        maxY = 0;
+        isTransformed = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int execute(final Renderer renderer, final int command, final int referenceIndex) {
+        final int opcode = primitives[command * PRIMITIVE_COUNT];
+        final Object[] args = references;
+        final int i = referenceIndex;
+        switch (opcode) {
+            case FILL_WITH_COLOR -> renderer.fillWith((Color) args[i], (ScreenBounds) args[i + 1]);
+            case ROTATE -> renderer.rotate((Rotation) args[i], (ScreenBounds) args[i + 1], (Color) args[i + 2]);
+            case FILL_WITH_SPRITE -> renderer.fillWith((Sprite) args[i], (SpriteFillOptions) args[i + 1], (ScreenBounds) args[i + 2]);
+            case DRAW_SYSTEM_TEXT -> renderer.drawText((Offset) args[i], (String) args[i + 1], (SystemTextDrawOptions) args[i + 2], (ScreenBounds) args[i + 3]);
+            case DRAW_RECTANGLE -> renderer.drawRectangle((Offset) args[i], (Size) args[i + 1], (RectangleDrawOptions) args[i + 2], (ScreenBounds) args[i + 3]);
+            case DRAW_LINE -> renderer.drawLine((Offset) args[i], (Offset) args[i + 1], (LineDrawOptions) args[i + 2], (ScreenBounds) args[i + 3]);
+            case DRAW_CIRCLE -> renderer.drawCircle((Offset) args[i], primitives[command * PRIMITIVE_COUNT + 5], (CircleDrawOptions) args[i + 1], (ScreenBounds) args[i + 2]);
+            case DRAW_SPRITE_SUPPLIER -> renderer.drawSprite((Supplier<Sprite>) args[i], (Offset) args[i + 1], (SpriteDrawOptions) args[i + 2], (ScreenBounds) args[i + 3]);
+            case DRAW_SPRITE -> renderer.drawSprite((Sprite) args[i], (Offset) args[i + 1], (SpriteDrawOptions) args[i + 2], (ScreenBounds) args[i + 3]);
+            case DRAW_TEXT -> renderer.drawText((Offset) args[i], (String) args[i + 1], (TextDrawOptions) args[i + 2], (ScreenBounds) args[i + 3]);
+            case DRAW_SPRITE_BATCH -> renderer.drawSpriteBatch((SpriteBatch) args[i], (ScreenBounds) args[i + 1]);
+            default -> throw new IllegalStateException("unknown opcode: " + opcode);
+        }
+        return referenceIndex + REFERENCE_COUNT[opcode];
+    }
+
+    private void addClipped(final int opcode, final ScreenBounds clip, final int argument) {
+        addCommand(opcode, clip.offset().x(), clip.offset().y(),
+                clip.offset().x() + clip.width(), clip.offset().y() + clip.height(), argument);
+    }
+
+    private void addWithin(final int opcode, final ScreenBounds clip, final double minX, final double minY,
+                           final double maxX, final double maxY, final int argument) {
+        addCommand(opcode,
+                Math.max(clip.offset().x(), (int) Math.floor(minX) - MARGIN),
+                Math.max(clip.offset().y(), (int) Math.floor(minY) - MARGIN),
+                Math.min(clip.offset().x() + clip.width(), (int) Math.ceil(maxX) + MARGIN),
+                Math.min(clip.offset().y() + clip.height(), (int) Math.ceil(maxY) + MARGIN),
+                argument);
+    }
+
+    private void addWithinRadius(final int opcode, final ScreenBounds clip, final double x, final double y,
+                                 final double radius, final int argument) {
+        addWithin(opcode, clip, x - radius, y - radius, x + radius, y + radius, argument);
+    }
+
+    private void addCommand(final int opcode, final int minX, final int minY, final int maxX, final int maxY, final int argument) {
+        final int index = commandCount * PRIMITIVE_COUNT;
+        if (index + PRIMITIVE_COUNT > primitives.length) {
+            primitives = Arrays.copyOf(primitives, primitives.length * 2);
+        }
+        primitives[index] = opcode;
+        primitives[index + 1] = minX;
+        primitives[index + 2] = minY;
+        primitives[index + 3] = maxX;
+        primitives[index + 4] = maxY;
+        primitives[index + 5] = argument;
+        commandCount++;
+        this.maxX = Math.max(this.maxX, maxX);
+        this.maxY = Math.max(this.maxY, maxY);
+    }
+
+    private void addReferences(final Object first, final Object second) {
+        ensureReferenceCapacity(2);
+        references[referenceCount++] = first;
+        references[referenceCount++] = second;
+    }
+
+    private void addReferences(final Object first, final Object second, final Object third) {
+        ensureReferenceCapacity(3);
+        references[referenceCount++] = first;
+        references[referenceCount++] = second;
+        references[referenceCount++] = third;
+    }
+
+    private void addReferences(final Object first, final Object second, final Object third, final Object fourth) {
+        ensureReferenceCapacity(4);
+        references[referenceCount++] = first;
+        references[referenceCount++] = second;
+        references[referenceCount++] = third;
+        references[referenceCount++] = fourth;
+    }
+
+    private void ensureReferenceCapacity(final int additional) {
+        if (referenceCount + additional > references.length) {
+            references = Arrays.copyOf(references, references.length * 2);
+        }
+    }
+}
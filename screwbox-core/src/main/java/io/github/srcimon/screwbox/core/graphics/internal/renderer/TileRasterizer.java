@@ -0,0 +1,113 @@
+package io.github.srcimon.screwbox.core.graphics.internal.renderer;
+
+import io.github.srcimon.screwbox.core.Time;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Splits the screen into tiles and renders the tiles on multiple threads into a shared image. Every tile executes
+ * only the recorded commands affecting the tile in the order they were recorded, so the result doesn't differ from
+ * rendering sequentially. When the frame is rotated all commands are executed on every tile, because the recorded
+ * areas don't match the screen anymore.
+ */
+class TileRasterizer {
+
+    static final int TILE_SIZE = 256;
+
+    private final ExecutorService executor;
+    private final int maxWorkers;
+    private final List<DefaultRenderer> renderers = new ArrayList<>();
+    private BufferedImage image;
+    private List<BufferedImage> tiles = new ArrayList<>();
+    private int columns;
+
+    TileRasterizer(final ExecutorService executor, final int maxWorkers) {
+        this.executor = executor;
+        this.maxWorkers = maxWorkers;
+    }
+
+    /**
+     * Renders the commands into the shared image and draws the image on the target afterward.
+     */
+    void render(final RenderCommandBuffer commands, final Graphics2D target, final Time time) {
+        if (commands.size() == 0) {
+            return;
+        }
+        prepareImage(Math.max(1, commands.maxX()), Math.max(1, commands.maxY()));
+        commands.resolveSprites();
+        final RenderingHints hints = target.getRenderingHints();
+        final AtomicInteger nextTile = new AtomicInteger();
+        final Runnable worker = () -> {
+            int tile;
+            while ((tile = nextTile.getAndIncrement()) < tiles.size()) {
+                renderTile(tile, commands, hints, time);
+            }
+        };
+        final int workerCount = Math.min(maxWorkers, tiles.size());
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int i = 1; i < workerCount; i++) {
+            workers.add(executor.submit(worker));
+        }
+        worker.run();
+        awaitWorkers(workers);
+        target.drawImage(image, 0, 0, null);
+    }
+
+    int tileCount() {
+        return tiles.size();
+    }
+
+    private void renderTile(final int tile, final RenderCommandBuffer commands, final RenderingHints hints, final Time time) {
+        final int x = (tile % columns) * TILE_SIZE;
+        final int y = (tile / columns) * TILE_SIZE;
+        final BufferedImage tileImage = tiles.get(tile);
+        final Graphics2D graphics = tileImage.createGraphics();
+        graphics.setRenderingHints(hints);
+        // tile image shares pixels with the shared image, translation keeps screen coordinates valid
+        graphics.translate(-x, -y);
+        final DefaultRenderer renderer = renderers.get(tile);
+        renderer.updateContext(() -> graphics, time);
+        commands.replay(renderer, x, y, tileImage.getWidth(), tileImage.getHeight());
+        graphics.dispose();
+    }
+
+    private void prepareImage(final int width, final int height) {
+        if (isNull(image) || image.getWidth() != width || image.getHeight() != height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+            final int rows = (height + TILE_SIZE - 1) / TILE_SIZE;
+            tiles = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    final int x = column * TILE_SIZE;
+                    final int y = row * TILE_SIZE;
+                    tiles.add(image.getSubimage(x, y, Math.min(TILE_SIZE, width - x), Math.min(TILE_SIZE, height - y)));
+                }
+            }
+            while (renderers.size() < tiles.size()) {
+                renderers.add(new DefaultRenderer());
+            }
+        }
+    }
+
+    private static void awaitWorkers(final List<Future<?>> workers) {
+        for (final var worker : workers) {
+            try {
+                worker.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException("could not render tile", e.getCause());
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.github.srcimon.screwbox.core.Duration;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.Order;
 
 /**
  * Provides access to current performance metrics and to controls the target frames per second.
@@ -59,6 +60,20 @@ public interface Loop {
      */
     Duration updateDuration();
 
+    /**
+     * Returns the standard deviation of the time between the recent frames. Low values indicate smooth frame pacing.
+     *
+     * @since 2.15.0
+     */
+    Duration frameTimeDeviation();
+
+    /**
+     * Returns the number of frames that could not be started in time to reach the {@link #targetFps()}.
+     *
+     * @since 2.15.0
+     */
+    long missedFrameDeadlines();
+
     /**
      * Returns the running time of the game engine. This is the {@link Duration}
      * since last time calling {@link Engine#start()}.
@@ -97,6 +112,52 @@ public interface Loop {
      */
     Time time();
 
+    /**
+     * Enables the fixed timestep mode. Within this mode all {@link EntitySystem systems} using an {@link Order}
+     * before {@link Order.SystemOrder#PRESENTATION_PREPARE} are updated with the given rate independent of the
+     * {@link #fps()}. Depending on the time passed since the last frame these systems are updated zero to multiple
+     * times per frame and always receive the same {@link #delta()}. All other systems are updated once per frame
+     * and can use {@link #interpolationAlpha()} to smooth the presentation.
+     *
+     * @param updatesPerSecond number of simulation updates per second
+     * @see #disableFixedTimestep()
+     * @since 2.15.0
+     */
+    Loop enableFixedTimestep(int updatesPerSecond);
+
+    /**
+     * Disables the fixed timestep mode. All {@link EntitySystem systems} will be updated once per frame.
+     *
+     * @see #enableFixedTimestep(int)
+     * @since 2.15.0
+     */
+    Loop disableFixedTimestep();
+
+    /**
+     * Returns {@code true} if the fixed timestep mode is enabled.
+     *
+     * @see #enableFixedTimestep(int)
+     * @since 2.15.0
+     */
+    boolean isFixedTimestep();
+
+    /**
+     * Returns the share of a fixed simulation update that has passed but has not been simulated yet. Ranges from
+     * 0 to 1. Can be used to interpolate between the previous and the current state of the simulation when
+     * rendering. Is always 1 when fixed timestep mode is disabled.
+     *
+     * @see #enableFixedTimestep(int)
+     * @since 2.15.0
+     */
+    double interpolationAlpha();
+
+    /**
+     * Returns the {@link Profiler} that can be used to measure the time spent in the single phases of every frame.
+     *
+     * @since 2.15.0
+     */
+    Profiler profiler();
+
     /**
      * Returns the number of the current frame (Each iteration of the game loop is called frame).
      */
@@ -0,0 +1,16 @@
+package io.github.srcimon.screwbox.core.loop;
+
+import io.github.srcimon.screwbox.core.Duration;
+
+/**
+ * Percentiles of the recent timings of a single phase of the frame measured by the {@link Profiler}.
+ *
+ * @param phase   name of the phase
+ * @param p50     median duration of the phase
+ * @param p95     95th percentile of the duration of the phase
+ * @param p99     99th percentile of the duration of the phase
+ * @param samples number of timings the percentiles are based on
+ * @since 2.15.0
+ */
+public record PhaseTiming(String phase, Duration p50, Duration p95, Duration p99, int samples) {
+}
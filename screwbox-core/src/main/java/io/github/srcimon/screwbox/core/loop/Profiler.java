@@ -0,0 +1,63 @@
+package io.github.srcimon.screwbox.core.loop;
+
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Measures the time spent in the single phases of every frame. Phases are the updates of the engine subsystems and
+ * of every {@link EntitySystem}. Timings of {@link EntitySystem systems} are also contained in the phase of the
+ * subsystem updating the scenes. The profiler keeps the latest timings of every phase to calculate percentiles.
+ * Profiling is disabled by default and has no relevant overhead when disabled.
+ *
+ * @see Loop#profiler()
+ * @since 2.15.0
+ */
+public interface Profiler {
+
+    /**
+     * Enables or disables profiling. Timings recorded before are kept.
+     */
+    Profiler setEnabled(boolean enabled);
+
+    /**
+     * Returns {@code true} if profiling is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables profiling.
+     *
+     * @see #setEnabled(boolean)
+     */
+    default Profiler enable() {
+        return setEnabled(true);
+    }
+
+    /**
+     * Disables profiling.
+     *
+     * @see #setEnabled(boolean)
+     */
+    default Profiler disable() {
+        return setEnabled(false);
+    }
+
+    /**
+     * Returns the {@link PhaseTiming timings} of all phases, ordered by {@link PhaseTiming#p95()} with the slowest
+     * phase first.
+     */
+    List<PhaseTiming> timings();
+
+    /**
+     * Returns the {@link PhaseTiming timings} of the phase with the given name. Names of phases are the simple class
+     * names of the subsystems and {@link EntitySystem systems}.
+     */
+    Optional<PhaseTiming> timing(String phase);
+
+    /**
+     * Removes all recorded timings.
+     */
+    Profiler reset();
+}
@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.loop.internal;
 import io.github.srcimon.screwbox.core.Duration;
 import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.loop.Loop;
+import io.github.srcimon.screwbox.core.loop.Profiler;
 import io.github.srcimon.screwbox.core.utils.Validate;
 
 import java.util.List;
@@ -12,11 +13,15 @@ public class DefaultLoop implements Loop {
     private static final int CRITICAL_FPS_COUNT = 30;
 
     private final List<Updatable> updatables;
+    private final DefaultProfiler profiler;
+    private final SimulationTimestep timestep;
+    private final FramePacer framePacer = new FramePacer();
+    private final Object terminationLock = new Object();
     private double speed = 1;
     private int fps = 0;
     private long frameNumber;
     private double delta = 0;
-    private boolean isRunning = false;
+    private volatile boolean isRunning = false;
     private Duration updateDuration = Duration.none();
     private Time lastUpdate = Time.now();
     private Time startTime = Time.unset();
@@ -24,8 +29,10 @@ public class DefaultLoop implements Loop {
     private boolean active = false;
     private int targetFps = Loop.MIN_TARGET_FPS;
 
-    public DefaultLoop(final List<Updatable> updatables) {
+    public DefaultLoop(final List<Updatable> updatables, final DefaultProfiler profiler, final SimulationTimestep timestep) {
         this.updatables = updatables;
+        this.profiler = profiler;
+        this.timestep = timestep;
     }
 
     public void start() {
@@ -83,9 +90,19 @@ public class DefaultLoop implements Loop {
         return updateDuration;
     }
 
+    @Override
+    public Duration frameTimeDeviation() {
+        return framePacer.frameTimeDeviation();
+    }
+
+    @Override
+    public long missedFrameDeadlines() {
+        return framePacer.missedDeadlines();
+    }
+
     @Override
     public double delta() {
-        return delta;
+        return timestep.isFixed() && timestep.isSimulating() ? timestep.stepSeconds() : delta;
     }
 
     @Override
@@ -98,6 +115,34 @@ public class DefaultLoop implements Loop {
         return lastUpdate;
     }
 
+    @Override
+    public Loop enableFixedTimestep(final int updatesPerSecond) {
+        Validate.positive(updatesPerSecond, "updates per second must be positive");
+        timestep.enableFixed(updatesPerSecond);
+        return this;
+    }
+
+    @Override
+    public Loop disableFixedTimestep() {
+        timestep.disableFixed();
+        return this;
+    }
+
+    @Override
+    public boolean isFixedTimestep() {
+        return timestep.isFixed();
+    }
+
+    @Override
+    public double interpolationAlpha() {
+        return timestep.alpha();
+    }
+
+    @Override
+    public Profiler profiler() {
+        return profiler;
+    }
+
     @Override
     public long frameNumber() {
         return frameNumber;
@@ -105,34 +150,33 @@ public class DefaultLoop implements Loop {
 
     private void runGameLoop() {
         isRunning = true;
+        framePacer.reset();
         try {
             while (active) {
-                if (needsUpdate()) {
-                    final Time beforeUpdate = Time.now();
+                framePacer.awaitNextFrame(targetFps);
+                final Time beforeUpdate = Time.now();
+                if (profiler.isEnabled()) {
+                    updateProfiled();
+                } else {
                     for (final var updatable : updatables) {
                         updatable.update();
                     }
-                    trackUpdateCycle(beforeUpdate);
-                } else {
-                    beNiceToCpu();
                 }
+                trackUpdateCycle(beforeUpdate);
             }
         } finally {
-            isRunning = false;
+            synchronized (terminationLock) {
+                isRunning = false;
+                terminationLock.notifyAll();
+            }
         }
     }
 
-    private boolean needsUpdate() {
-        final double targetNanosPerUpdate = Time.Unit.SECONDS.nanos() * 1.0 / targetFps;
-        final double nanosSinceLastUpdate = Duration.since(lastUpdate).nanos();
-        return nanosSinceLastUpdate > targetNanosPerUpdate - (updateDuration.nanos() * 1.5);
-    }
-
-    private void beNiceToCpu() {
-        try {
-            Thread.sleep(0, 750_000);
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
+    private void updateProfiled() {
+        for (final var updatable : updatables) {
+            final long before = System.nanoTime();
+            updatable.update();
+            profiler.record(updatable.getClass().getSimpleName(), System.nanoTime() - before);
         }
     }
 
@@ -143,6 +187,7 @@ public class DefaultLoop implements Loop {
         fps = (int) (Time.Unit.SECONDS.nanos() / timeBetweenUpdates.nanos());
         final double maxUpdateFactor = fps <= CRITICAL_FPS_COUNT ? 0.01 : 1.0 / fps;
         delta = Math.min(timeBetweenUpdates.nanos() * 1.0 / Time.Unit.SECONDS.nanos(), maxUpdateFactor) * speed;
+        timestep.advance((long) (timeBetweenUpdates.nanos() * speed));
         updateDuration = Duration.between(now, beforeUpdate);
         runningTime = Duration.between(startTime, lastUpdate);
         frameNumber++;
@@ -154,8 +199,15 @@ public class DefaultLoop implements Loop {
     }
 
     public void awaitTermination() {
-        while (isRunning) {
-            beNiceToCpu();
+        synchronized (terminationLock) {
+            while (isRunning) {
+                try {
+                    terminationLock.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
         }
     }
 
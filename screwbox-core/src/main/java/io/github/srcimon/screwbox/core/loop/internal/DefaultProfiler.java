@@ -0,0 +1,107 @@
+package io.github.srcimon.screwbox.core.loop.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.loop.PhaseTiming;
+import io.github.srcimon.screwbox.core.loop.Profiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultProfiler implements Profiler {
+
+    static final int SAMPLES_PER_PHASE = 256;
+
+    /**
+     * Ring buffer of the latest timings of a single phase. Can be written by multiple threads without locking.
+     */
+    private static final class PhaseRecorder {
+
+        private final String phase;
+        private final AtomicLongArray samples = new AtomicLongArray(SAMPLES_PER_PHASE);
+        private final AtomicLong count = new AtomicLong();
+
+        private PhaseRecorder(final String phase) {
+            this.phase = phase;
+        }
+
+        private void record(final long nanos) {
+            final long index = count.getAndIncrement();
+            samples.set((int) (index % SAMPLES_PER_PHASE), nanos);
+        }
+
+        private PhaseTiming timing() {
+            final int size = (int) Math.min(count.get(), SAMPLES_PER_PHASE);
+            final long[] sorted = new long[size];
+            for (int index = 0; index < size; index++) {
+                sorted[index] = samples.get(index);
+            }
+            Arrays.sort(sorted);
+            return new PhaseTiming(phase, percentile(sorted, 0.5), percentile(sorted, 0.95), percentile(sorted, 0.99), size);
+        }
+
+        private static Duration percentile(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) {
+                return Duration.none();
+            }
+            final int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.clamp(rank, 0, sorted.length - 1)]);
+        }
+    }
+
+    private final Map<String, PhaseRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean isEnabled = false;
+
+    @Override
+    public Profiler setEnabled(final boolean enabled) {
+        this.isEnabled = enabled;
+        return this;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    @Override
+    public List<PhaseTiming> timings() {
+        final List<PhaseTiming> timings = new ArrayList<>();
+        for (final var recorder : recorders.values()) {
+            timings.add(recorder.timing());
+        }
+        timings.sort(Comparator.comparingLong((PhaseTiming timing) -> timing.p95().nanos()).reversed()
+                .thenComparing(PhaseTiming::phase));
+        return timings;
+    }
+
+    @Override
+    public Optional<PhaseTiming> timing(final String phase) {
+        requireNonNull(phase, "phase must not be null");
+        final var recorder = recorders.get(phase);
+        return isNull(recorder) ? Optional.empty() : Optional.of(recorder.timing());
+    }
+
+    @Override
+    public Profiler reset() {
+        recorders.clear();
+        return this;
+    }
+
+    /**
+     * Records the timing of a phase. Does nothing if profiling is disabled.
+     */
+    public void record(final String phase, final long nanos) {
+        if (isEnabled) {
+            recorders.computeIfAbsent(phase, PhaseRecorder::new).record(nanos);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.srcimon.screwbox.core.loop.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Time;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits for the start of the next frame. Parks the thread until shortly before the deadline of the next frame and
+ * spins for the remaining time to start frames precisely without burning cpu. Frames that could not start in time
+ * are counted as missed deadlines. Deadlines are scheduled relative to the last deadline to avoid drift.
+ */
+class FramePacer {
+
+    /**
+     * Time before the deadline that is waited by spinning instead of parking because parking may take longer than
+     * requested.
+     */
+    static final long SPIN_NANOS = 200_000;
+
+    /**
+     * Number of frame times used to calculate the frame time deviation.
+     */
+    static final int FRAME_TIME_SAMPLES = 128;
+
+    private final long[] frameTimes = new long[FRAME_TIME_SAMPLES];
+    private long frameTimeCount = 0;
+    private long lastFrameStart = 0;
+    private boolean isStarted = false;
+    private long missedDeadlines = 0;
+
+    /**
+     * Starts pacing from now on. The first frame won't wait.
+     */
+    void reset() {
+        isStarted = false;
+    }
+
+    /**
+     * Waits until the next frame should start.
+     *
+     * @param targetFps targeted frames per second, {@link Integer#MAX_VALUE} won't wait at all
+     */
+    void awaitNextFrame(final int targetFps) {
+        final long nanosPerFrame = Time.Unit.SECONDS.nanos() / targetFps;
+        final long now = System.nanoTime();
+        if (!isStarted) {
+            isStarted = true;
+            lastFrameStart = now;
+            return;
+        }
+        final long deadline = lastFrameStart + nanosPerFrame;
+        if (now > deadline) {
+            if (nanosPerFrame > 0) {
+                missedDeadlines++;
+            }
+            startFrame(now);
+            return;
+        }
+        long remaining = deadline - now;
+        while (remaining > SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+            remaining = deadline - System.nanoTime();
+        }
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        startFrame(deadline);
+    }
+
+    private void startFrame(final long frameStart) {
+        frameTimes[(int) (frameTimeCount % FRAME_TIME_SAMPLES)] = frameStart - lastFrameStart;
+        frameTimeCount++;
+        lastFrameStart = frameStart;
+    }
+
+    /**
+     * Returns the number of frames that could not start in time.
+     */
+    long missedDeadlines() {
+        return missedDeadlines;
+    }
+
+    /**
+     * Returns the standard deviation of the time between the starts of the recent frames.
+     */
+    Duration frameTimeDeviation() {
+        final int count = (int) Math.min(frameTimeCount, FRAME_TIME_SAMPLES);
+        if (count == 0) {
+            return Duration.none();
+        }
+        double sum = 0;
+        for (int index = 0; index < count; index++) {
+            sum += frameTimes[index];
+        }
+        final double mean = sum / count;
+        double squaredDifferences = 0;
+        for (int index = 0; index < count; index++) {
+            final double difference = frameTimes[index] - mean;
+            squaredDifferences += difference * difference;
+        }
+        return Duration.ofNanos((long) Math.sqrt(squaredDifferences / count));
+    }
+}
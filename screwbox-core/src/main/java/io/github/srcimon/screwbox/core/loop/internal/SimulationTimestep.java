@@ -0,0 +1,91 @@
+package io.github.srcimon.screwbox.core.loop.internal;
+
+import io.github.srcimon.screwbox.core.Time;
+
+/**
+ * Decides how many simulation updates are run within a frame. Using a variable timestep there is exactly one
+ * simulation update per frame. Using a fixed timestep the time passed between frames is accumulated and consumed in
+ * steps of constant length, so the simulation does not depend on the frame rate. The time that is left over is
+ * available as interpolation alpha for the presentation.
+ */
+public class SimulationTimestep {
+
+    /**
+     * Limits the number of simulation updates per frame to prevent slow frames from causing even slower frames.
+     */
+    static final int MAX_STEPS_PER_FRAME = 5;
+
+    private volatile boolean isFixed = false;
+    private volatile boolean isSimulating = false;
+    private int updatesPerSecond = 120;
+    private long stepNanos = Time.Unit.SECONDS.nanos() / updatesPerSecond;
+    private long accumulatedNanos = 0;
+    private int steps = 1;
+    private double alpha = 1;
+
+    void enableFixed(final int updatesPerSecond) {
+        this.updatesPerSecond = updatesPerSecond;
+        this.stepNanos = Time.Unit.SECONDS.nanos() / updatesPerSecond;
+        this.isFixed = true;
+        this.accumulatedNanos = 0;
+    }
+
+    void disableFixed() {
+        isFixed = false;
+        steps = 1;
+        alpha = 1;
+    }
+
+    boolean isFixed() {
+        return isFixed;
+    }
+
+    int updatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Length of a single simulation update in seconds.
+     */
+    double stepSeconds() {
+        return stepNanos * 1.0 / Time.Unit.SECONDS.nanos();
+    }
+
+    /**
+     * Consumes the time passed since the last frame and determines the simulation updates of the next frame.
+     */
+    void advance(final long passedNanos) {
+        if (!isFixed) {
+            return;
+        }
+        accumulatedNanos += passedNanos;
+        final long availableSteps = accumulatedNanos / stepNanos;
+        steps = (int) Math.min(availableSteps, MAX_STEPS_PER_FRAME);
+        accumulatedNanos = availableSteps > MAX_STEPS_PER_FRAME
+                ? accumulatedNanos % stepNanos
+                : accumulatedNanos - steps * stepNanos;
+        alpha = accumulatedNanos * 1.0 / stepNanos;
+    }
+
+    /**
+     * Number of simulation updates to run within the current frame.
+     */
+    public int simulationSteps() {
+        return steps;
+    }
+
+    double alpha() {
+        return alpha;
+    }
+
+    /**
+     * Marks the start and the end of the simulation updates of a frame.
+     */
+    public void setSimulating(final boolean isSimulating) {
+        this.isSimulating = isSimulating;
+    }
+
+    boolean isSimulating() {
+        return isSimulating;
+    }
+}
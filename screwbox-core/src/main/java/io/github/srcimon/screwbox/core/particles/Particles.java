@@ -21,7 +21,10 @@ public interface Particles {
     boolean isWithinSpawnArea(Vector position);
 
     /**
-     * Returns the current count of particles in the {@link Environment#entities()}.
+     * Returns the current count of particles in the {@link Environment#entities()} including particles spawned in
+     * batched mode.
+     *
+     * @see #setBatchedMode(boolean)
      */
     long particleCount();
 
@@ -108,4 +111,27 @@ public interface Particles {
     default Particles spawnMultiple(final int count, final Bounds bounds, final Supplier<ParticleOptions> options) {
         return spawnMultiple(count, bounds, options.get());
     }
+
+    /**
+     * Enables or disables batched mode. In batched mode particles are not added as {@link Environment#entities()}
+     * but stored in a dedicated and much faster particle storage. Particles in batched mode won't be affected by any
+     * {@link io.github.srcimon.screwbox.core.environment.EntitySystem}. {@link ParticleOptions} that can't be
+     * handled in batched mode (e.g. {@link ParticleOptions#chaoticMovement(double, io.github.srcimon.screwbox.core.Duration)},
+     * {@link ParticleOptions#animateHorizontalSpin()}, {@link ParticleOptions#castShadow()} or modifiers added via
+     * {@link ParticleOptions#customize(String, ParticleOptions.ParticleModifier)})
+     * will still result in regular particle {@link io.github.srcimon.screwbox.core.environment.Entity entities}.
+     * Batched mode is disabled by default.
+     *
+     * @see #isBatchedMode()
+     * @since 2.15.0
+     */
+    Particles setBatchedMode(boolean batchedMode);
+
+    /**
+     * Returns {@code true} if batched mode is enabled.
+     *
+     * @see #setBatchedMode(boolean)
+     * @since 2.15.0
+     */
+    boolean isBatchedMode();
 }
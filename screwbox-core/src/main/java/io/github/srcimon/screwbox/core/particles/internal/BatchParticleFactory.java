@@ -0,0 +1,96 @@
+package io.github.srcimon.screwbox.core.particles.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Ease;
+import io.github.srcimon.screwbox.core.Time;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.environment.rendering.FixedRotationComponent;
+import io.github.srcimon.screwbox.core.environment.rendering.RenderComponent;
+import io.github.srcimon.screwbox.core.environment.tweening.TweenComponent;
+import io.github.srcimon.screwbox.core.environment.tweening.TweenOpacityComponent;
+import io.github.srcimon.screwbox.core.environment.tweening.TweenScaleComponent;
+import io.github.srcimon.screwbox.core.graphics.SpriteBundle;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import io.github.srcimon.screwbox.core.particles.ParticleOptions;
+
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Creates {@link ParticleBatch.Particle particles} for the {@link ParticleBatch} from {@link ParticleOptions}.
+ * {@link ParticleOptions.ParticleModifier Modifiers} are applied to a single reused template {@link Entity} instead of
+ * creating a new particle {@link Entity} for every spawned particle.
+ */
+class BatchParticleFactory {
+
+    /**
+     * Identifiers of {@link ParticleOptions} modifiers that only change values supported by the {@link ParticleBatch}.
+     */
+    private static final Set<String> BATCHABLE_MODIFIERS = Set.of(
+            "default-start-render-opacity", "default-sprite-rotation", "default-render-sprite", "default-tween-ease",
+            "default-render-scale", "default-render-opacity", "default-render-draworder", "default-physics-movement",
+            "default-render-rotation", "default-tween-duration");
+
+    private final RenderComponent render = new RenderComponent();
+    private final TweenComponent tween = new TweenComponent(Duration.ofSeconds(1));
+    private final PhysicsComponent physics = new PhysicsComponent();
+    private final Entity template = new Entity().add(render, tween, physics);
+
+    /**
+     * Returns {@code true} if particles using the specified {@link ParticleOptions} can be added to a
+     * {@link ParticleBatch}.
+     */
+    boolean isBatchable(final ParticleOptions options) {
+        return BATCHABLE_MODIFIERS.containsAll(options.modifierIds());
+    }
+
+    ParticleBatch.Particle create(final Vector position, final ParticleOptions options) {
+        final long startNanos = Time.now().nanos();
+        resetTemplate();
+        for (final var modifier : options.modifiers()) {
+            modifier.accept(template);
+        }
+        final var opacity = template.get(TweenOpacityComponent.class);
+        final var scale = template.get(TweenScaleComponent.class);
+        final var rotation = template.get(FixedRotationComponent.class);
+        return new ParticleBatch.Particle(
+                position.x(),
+                position.y(),
+                physics.momentum.x(),
+                physics.momentum.y(),
+                startNanos,
+                tween.duration.nanos(),
+                isNull(opacity) ? render.options.opacity().value() : opacity.from.value(),
+                isNull(opacity) ? render.options.opacity().value() : opacity.to.value(),
+                isNull(scale) ? render.options.scale() : scale.from,
+                isNull(scale) ? render.options.scale() : scale.to,
+                isNull(rotation) ? 0 : rotation.clockwiseRotationsPerSecond,
+                render.drawOrder == -1 ? sourceDrawOrder(options) : render.drawOrder,
+                render.sprite,
+                tween.mode,
+                render.options);
+    }
+
+    private void resetTemplate() {
+        template.remove(TweenOpacityComponent.class);
+        template.remove(TweenScaleComponent.class);
+        template.remove(FixedRotationComponent.class);
+        render.sprite = SpriteBundle.DOT_BLUE.get();
+        render.drawOrder = -1;
+        render.options = SpriteDrawOptions.originalSize();
+        tween.duration = Duration.ofSeconds(1);
+        tween.mode = Ease.LINEAR_OUT;
+        physics.momentum = Vector.zero();
+    }
+
+    private static int sourceDrawOrder(final ParticleOptions options) {
+        if (isNull(options.source())) {
+            return 0;
+        }
+        final var sourceRender = options.source().get(RenderComponent.class);
+        return isNull(sourceRender) ? -1 : sourceRender.drawOrder;
+    }
+}
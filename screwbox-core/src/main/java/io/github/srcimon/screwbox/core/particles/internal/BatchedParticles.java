@@ -0,0 +1,17 @@
+package io.github.srcimon.screwbox.core.particles.internal;
+
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.Viewport;
+
+/**
+ * Provides access to particles spawned in {@link io.github.srcimon.screwbox.core.particles.Particles#setBatchedMode(boolean) batched mode}
+ * for the {@link io.github.srcimon.screwbox.core.environment.rendering.RenderSystem}.
+ */
+@FunctionalInterface
+public interface BatchedParticles {
+
+    /**
+     * Adds all particles spawned in batched mode that are visible on the {@link Viewport} to the {@link SpriteBatch}.
+     */
+    void addBatchedParticles(Viewport viewport, SpriteBatch spriteBatch);
+}
@@ -3,16 +3,20 @@ package io.github.srcimon.screwbox.core.particles.internal;
 import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Duration;
 import io.github.srcimon.screwbox.core.Ease;
+import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.particles.ParticleComponent;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import io.github.srcimon.screwbox.core.environment.rendering.RenderComponent;
 import io.github.srcimon.screwbox.core.environment.tweening.TweenComponent;
 import io.github.srcimon.screwbox.core.environment.tweening.TweenDestroyComponent;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
 import io.github.srcimon.screwbox.core.graphics.SpriteBundle;
+import io.github.srcimon.screwbox.core.graphics.Viewport;
 import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
 import io.github.srcimon.screwbox.core.graphics.internal.AttentionFocus;
 import io.github.srcimon.screwbox.core.loop.internal.Updatable;
@@ -20,23 +24,32 @@ import io.github.srcimon.screwbox.core.particles.ParticleOptions;
 import io.github.srcimon.screwbox.core.particles.Particles;
 import io.github.srcimon.screwbox.core.scenes.internal.DefaultScenes;
 
+import java.util.Map;
 import java.util.Random;
+import java.util.WeakHashMap;
 
-public class DefaultParticles implements Particles, Updatable {
+import static java.util.Objects.isNull;
+
+public class DefaultParticles implements Particles, BatchedParticles, Updatable {
 
     private static final Random RANDOM = new Random();
     private static final Archetype PARTICLES = Archetype.of(ParticleComponent.class);
 
+    private final Engine engine;
     private final DefaultScenes scenes;
     private final AttentionFocus attentionFocus;
+    private final Map<Environment, ParticleBatch> batches = new WeakHashMap<>();
+    private final BatchParticleFactory batchParticleFactory = new BatchParticleFactory();
 
     private boolean particleCountRefreshed = false;
     private long particleCount = 0;
     private int particleLimit = 10000;
     private double spawnDistance = 1000;
     private long particleSpawnCount = 0;
+    private boolean isBatchedMode = false;
 
-    public DefaultParticles(final DefaultScenes scenes, final AttentionFocus attentionFocus) {
+    public DefaultParticles(final Engine engine, final DefaultScenes scenes, final AttentionFocus attentionFocus) {
+        this.engine = engine;
         this.scenes = scenes;
         this.attentionFocus = attentionFocus;
     }
@@ -52,7 +65,8 @@ public class DefaultParticles implements Particles, Updatable {
             return particleCount;
         }
         particleCountRefreshed = true;
-        particleCount = scenes.activeEnvironment().entityCount(PARTICLES);
+        final Environment environment = scenes.activeEnvironment();
+        particleCount = environment.entityCount(PARTICLES) + batchSize(environment);
         return particleCount;
     }
 
@@ -89,10 +103,14 @@ public class DefaultParticles implements Particles, Updatable {
     @Override
     public Particles spawn(final Vector position, final ParticleOptions options) {
         if (particleLimit > particleCount() && isWithinSpawnArea(position)) {
-            final var particle = createParticle(position, options);
+            if (isBatchedMode && batchParticleFactory.isBatchable(options)) {
+                batches.computeIfAbsent(scenes.activeEnvironment(), environment -> new ParticleBatch())
+                        .add(batchParticleFactory.create(position, options));
+            } else {
+                scenes.activeEnvironment().addEntity(createParticle(position, options));
+            }
             particleSpawnCount++;
             particleCount++;
-            scenes.activeEnvironment().addEntity(particle);
         }
         return this;
     }
@@ -121,9 +139,37 @@ public class DefaultParticles implements Particles, Updatable {
         return this;
     }
 
+    @Override
+    public Particles setBatchedMode(final boolean batchedMode) {
+        this.isBatchedMode = batchedMode;
+        return this;
+    }
+
+    @Override
+    public boolean isBatchedMode() {
+        return isBatchedMode;
+    }
+
+    @Override
+    public void addBatchedParticles(final Viewport viewport, final SpriteBatch spriteBatch) {
+        final ParticleBatch batch = batches.get(scenes.activeEnvironment());
+        if (!isNull(batch)) {
+            batch.addVisibleTo(viewport, spriteBatch);
+        }
+    }
+
     @Override
     public void update() {
         particleCountRefreshed = false;
+        final ParticleBatch batch = batches.get(scenes.activeEnvironment());
+        if (!isNull(batch)) {
+            batch.update(engine.loop().time().nanos(), engine.loop().delta());
+        }
+    }
+
+    private long batchSize(final Environment environment) {
+        final ParticleBatch batch = batches.get(environment);
+        return isNull(batch) ? 0 : batch.size();
     }
 
     private Entity createParticle(final Vector position, final ParticleOptions options) {
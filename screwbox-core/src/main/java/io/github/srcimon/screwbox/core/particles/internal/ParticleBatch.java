@@ -0,0 +1,249 @@
+package io.github.srcimon.screwbox.core.particles.internal;
+
+import io.github.srcimon.screwbox.core.Ease;
+import io.github.srcimon.screwbox.core.Percent;
+import io.github.srcimon.screwbox.core.Rotation;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.Viewport;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Stores particles in primitive arrays instead of one {@link io.github.srcimon.screwbox.core.environment.Entity}
+ * per particle. Expired particles are removed by moving the last particle into their slot, so the order of the
+ * particles is not stable.
+ */
+class ParticleBatch {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int PARALLEL_CHUNK_SIZE = 2048;
+    private static final int EASE_SAMPLES = 1024;
+    private static final int SCALE_STEPS = 256;
+    private static final int OPACITY_STEPS = 255;
+    private static final int ROTATION_STEPS = 2;
+
+    // eases are sampled once to avoid creating Percent instances for every particle in every frame
+    private static final double[][] EASED_VALUES = sampleEases();
+
+    private int size = 0;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] speedX = new double[INITIAL_CAPACITY];
+    private double[] speedY = new double[INITIAL_CAPACITY];
+    private long[] startNanos = new long[INITIAL_CAPACITY];
+    private long[] lifetimeNanos = new long[INITIAL_CAPACITY];
+    private double[] progress = new double[INITIAL_CAPACITY];
+    private double[] opacityFrom = new double[INITIAL_CAPACITY];
+    private double[] opacityTo = new double[INITIAL_CAPACITY];
+    private double[] scaleFrom = new double[INITIAL_CAPACITY];
+    private double[] scaleTo = new double[INITIAL_CAPACITY];
+    private double[] rotation = new double[INITIAL_CAPACITY];
+    private double[] rotationSpeed = new double[INITIAL_CAPACITY];
+    private int[] drawOrder = new int[INITIAL_CAPACITY];
+    private Sprite[] sprite = new Sprite[INITIAL_CAPACITY];
+    private Ease[] ease = new Ease[INITIAL_CAPACITY];
+    private SpriteDrawOptions[] options = new SpriteDrawOptions[INITIAL_CAPACITY];
+    private SpriteDrawOptions[] drawOptions = new SpriteDrawOptions[INITIAL_CAPACITY];
+    private int[] drawScale = new int[INITIAL_CAPACITY];
+    private int[] drawOpacity = new int[INITIAL_CAPACITY];
+    private int[] drawRotation = new int[INITIAL_CAPACITY];
+
+    /**
+     * Values of a single particle. Used to add new particles to the {@link ParticleBatch}.
+     */
+    record Particle(double x, double y, double speedX, double speedY, long startNanos, long lifetimeNanos,
+                    double opacityFrom, double opacityTo, double scaleFrom, double scaleTo, double rotationSpeed,
+                    int drawOrder, Sprite sprite, Ease ease, SpriteDrawOptions options) {
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(final Particle particle) {
+        if (size == x.length) {
+            grow();
+        }
+        final int index = size++;
+        x[index] = particle.x;
+        y[index] = particle.y;
+        speedX[index] = particle.speedX;
+        speedY[index] = particle.speedY;
+        startNanos[index] = particle.startNanos;
+        lifetimeNanos[index] = Math.max(1, particle.lifetimeNanos);
+        progress[index] = 0;
+        opacityFrom[index] = particle.opacityFrom;
+        opacityTo[index] = particle.opacityTo;
+        scaleFrom[index] = particle.scaleFrom;
+        scaleTo[index] = particle.scaleTo;
+        rotation[index] = particle.options.rotation().degrees();
+        rotationSpeed[index] = particle.rotationSpeed;
+        drawOrder[index] = particle.drawOrder;
+        sprite[index] = particle.sprite;
+        ease[index] = particle.ease;
+        options[index] = particle.options;
+        drawOptions[index] = null;
+    }
+
+    /**
+     * Moves and rotates all particles and removes particles that reached the end of their lifetime.
+     * Large batches are updated concurrently.
+     *
+     * @param nowNanos current time of the loop
+     * @param delta    seconds passed since the last update
+     */
+    void update(final long nowNanos, final double delta) {
+        if (size > PARALLEL_CHUNK_SIZE) {
+            final int chunks = (size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> advance(
+                    chunk * PARALLEL_CHUNK_SIZE,
+                    Math.min(size, (chunk + 1) * PARALLEL_CHUNK_SIZE),
+                    nowNanos, delta));
+        } else {
+            advance(0, size, nowNanos, delta);
+        }
+        removeExpired();
+    }
+
+    /**
+     * Adds all particles that are visible on the {@link Viewport} to the {@link SpriteBatch}. The {@link SpriteDrawOptions}
+     * of every particle are reused until scale, opacity or rotation changed noticeably.
+     */
+    void addVisibleTo(final Viewport viewport, final SpriteBatch spriteBatch) {
+        final double zoom = viewport.camera().zoom();
+        final Vector focus = viewport.camera().focus();
+        final int canvasWidth = viewport.canvas().width();
+        final int canvasHeight = viewport.canvas().height();
+        final double screenCenterX = canvasWidth / 2.0 - focus.x() * zoom;
+        final double screenCenterY = canvasHeight / 2.0 - focus.y() * zoom;
+        for (int index = 0; index < size; index++) {
+            final double value = easedProgress(ease[index], progress[index]);
+            final double scale = scaleFrom[index] + (scaleTo[index] - scaleFrom[index]) * value;
+            final double width = sprite[index].width() * scale;
+            final double height = sprite[index].height() * scale;
+            final int screenX = (int) Math.round((x[index] - width / 2.0) * zoom + screenCenterX);
+            final int screenY = (int) Math.round((y[index] - height / 2.0) * zoom + screenCenterY);
+            final int screenWidth = (int) Math.round(width * zoom);
+            final int screenHeight = (int) Math.round(height * zoom);
+            if (screenX + screenWidth > 0 && screenX < canvasWidth && screenY + screenHeight > 0 && screenY < canvasHeight) {
+                final double opacity = opacityFrom[index] + (opacityTo[index] - opacityFrom[index]) * value;
+                spriteBatch.add(sprite[index], Offset.at(screenX, screenY), drawOptions(index, scale * zoom, opacity), drawOrder[index]);
+            }
+        }
+    }
+
+    private SpriteDrawOptions drawOptions(final int index, final double scale, final double opacity) {
+        final int scaleStep = (int) Math.round(scale * SCALE_STEPS);
+        final int opacityStep = (int) Math.round(opacity * OPACITY_STEPS);
+        final int rotationStep = (int) (Math.round(rotation[index] * ROTATION_STEPS) % (360 * ROTATION_STEPS));
+        if (isNull(drawOptions[index]) || drawScale[index] != scaleStep || drawOpacity[index] != opacityStep || drawRotation[index] != rotationStep) {
+            drawScale[index] = scaleStep;
+            drawOpacity[index] = opacityStep;
+            drawRotation[index] = rotationStep;
+            drawOptions[index] = options[index]
+                    .scale((double) scaleStep / SCALE_STEPS)
+                    .opacity((double) opacityStep / OPACITY_STEPS)
+                    .rotation(Rotation.degrees((double) rotationStep / ROTATION_STEPS));
+        }
+        return drawOptions[index];
+    }
+
+    private static double easedProgress(final Ease ease, final double progress) {
+        final double[] values = EASED_VALUES[ease.ordinal()];
+        final double position = progress * EASE_SAMPLES;
+        final int sample = Math.min(EASE_SAMPLES - 1, (int) position);
+        return values[sample] + (values[sample + 1] - values[sample]) * (position - sample);
+    }
+
+    private static double[][] sampleEases() {
+        final double[][] values = new double[Ease.values().length][EASE_SAMPLES + 1];
+        for (final Ease ease : Ease.values()) {
+            for (int sample = 0; sample <= EASE_SAMPLES; sample++) {
+                values[ease.ordinal()][sample] = ease.applyOn(Percent.of((double) sample / EASE_SAMPLES)).value();
+            }
+        }
+        return values;
+    }
+
+    private void advance(final int from, final int to, final long nowNanos, final double delta) {
+        for (int index = from; index < to; index++) {
+            x[index] += speedX[index] * delta;
+            y[index] += speedY[index] * delta;
+            rotation[index] += 360 * delta * rotationSpeed[index];
+            progress[index] = Math.clamp((double) (nowNanos - startNanos[index]) / lifetimeNanos[index], 0.0, 1.0);
+        }
+    }
+
+    private void removeExpired() {
+        int index = 0;
+        while (index < size) {
+            if (progress[index] >= 1.0) {
+                moveLastTo(index);
+            } else {
+                index++;
+            }
+        }
+    }
+
+    private void moveLastTo(final int index) {
+        final int last = --size;
+        x[index] = x[last];
+        y[index] = y[last];
+        speedX[index] = speedX[last];
+        speedY[index] = speedY[last];
+        startNanos[index] = startNanos[last];
+        lifetimeNanos[index] = lifetimeNanos[last];
+        progress[index] = progress[last];
+        opacityFrom[index] = opacityFrom[last];
+        opacityTo[index] = opacityTo[last];
+        scaleFrom[index] = scaleFrom[last];
+        scaleTo[index] = scaleTo[last];
+        rotation[index] = rotation[last];
+        rotationSpeed[index] = rotationSpeed[last];
+        drawOrder[index] = drawOrder[last];
+        sprite[index] = sprite[last];
+        ease[index] = ease[last];
+        options[index] = options[last];
+        drawOptions[index] = drawOptions[last];
+        drawScale[index] = drawScale[last];
+        drawOpacity[index] = drawOpacity[last];
+        drawRotation[index] = drawRotation[last];
+        sprite[last] = null;
+        ease[last] = null;
+        options[last] = null;
+        drawOptions[last] = null;
+    }
+
+    private void grow() {
+        final int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speedX = Arrays.copyOf(speedX, capacity);
+        speedY = Arrays.copyOf(speedY, capacity);
+        startNanos = Arrays.copyOf(startNanos, capacity);
+        lifetimeNanos = Arrays.copyOf(lifetimeNanos, capacity);
+        progress = Arrays.copyOf(progress, capacity);
+        opacityFrom = Arrays.copyOf(opacityFrom, capacity);
+        opacityTo = Arrays.copyOf(opacityTo, capacity);
+        scaleFrom = Arrays.copyOf(scaleFrom, capacity);
+        scaleTo = Arrays.copyOf(scaleTo, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        rotationSpeed = Arrays.copyOf(rotationSpeed, capacity);
+        drawOrder = Arrays.copyOf(drawOrder, capacity);
+        sprite = Arrays.copyOf(sprite, capacity);
+        ease = Arrays.copyOf(ease, capacity);
+        options = Arrays.copyOf(options, capacity);
+        drawOptions = Arrays.copyOf(drawOptions, capacity);
+        drawScale = Arrays.copyOf(drawScale, capacity);
+        drawOpacity = Arrays.copyOf(drawOpacity, capacity);
+        drawRotation = Arrays.copyOf(drawRotation, capacity);
+    }
+}
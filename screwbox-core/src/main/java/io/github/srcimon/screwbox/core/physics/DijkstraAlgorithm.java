@@ -1,51 +1,154 @@
 package io.github.srcimon.screwbox.core.physics;
 
 import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.utils.Validate;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static io.github.srcimon.screwbox.core.physics.SearchState.*;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
 
 /**
- * An implementation of the Dijkstra algorithm.
+ * An implementation of the Dijkstra algorithm. Besides finding paths between two {@link Grid.Node nodes} this
+ * implementation can find the path to the nearest of multiple targets and create {@link DistanceMap distance maps}
+ * containing the distances of all reachable {@link Grid.Node nodes}. All data of the search is stored in primitive
+ * arrays that are reused between searches. Every thread uses its own arrays.
  * <p>
  * See <a href="https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm">Wikipedia</a>
  */
 public class DijkstraAlgorithm implements PathfindingAlgorithm {
 
+    private static final int NO_TARGET = -1;
+
+    private final ThreadLocal<SearchState> states = ThreadLocal.withInitial(SearchState::new);
+
     @Override
     public List<Grid.Node> findPath(final Grid grid, final Grid.Node start, final Grid.Node end) {
-        final var usedNodes = new ArrayList<Grid.Node>();
-        usedNodes.add(start);
+        return findPath(grid, start, List.of(end));
+    }
 
-        while (true) {
-            final List<Grid.Node> openNodes = calculateOpenNodes(grid, usedNodes);
+    /**
+     * Returns the path to the nearest of the specified targets. Returns an empty list if no target is reachable.
+     *
+     * @since 2.15.0
+     */
+    public List<Grid.Node> findPath(final Grid grid, final Grid.Node start, final List<Grid.Node> targets) {
+        requireNonNull(targets, "targets must not be null");
+        if (!isInGrid(grid, start)) {
+            return emptyList();
+        }
+        final int[] targetIndices = targets.stream()
+                .filter(target -> isInGrid(grid, target))
+                .mapToInt(target -> index(grid, target))
+                .sorted()
+                .toArray();
+        if (targetIndices.length == 0) {
+            return emptyList();
+        }
+        final SearchState state = states.get();
+        state.prepare(grid.nodeCount());
+        state.start(index(grid, start));
+        final int target = search(grid, state, targetIndices, Float.POSITIVE_INFINITY);
+        return target == NO_TARGET ? emptyList() : state.backtrack(grid, target);
+    }
 
-            for (final Grid.Node point : openNodes) {
-                usedNodes.add(point);
-                if (end.equals(point)) {
-                    final Grid.Node lastNode = usedNodes.getLast();
-                    return grid.backtrack(lastNode);
-                }
-            }
+    /**
+     * Returns the distances of all {@link Grid.Node nodes} reachable from the specified source.
+     *
+     * @since 2.15.0
+     */
+    public DistanceMap distanceMap(final Grid grid, final Grid.Node source) {
+        return distanceMap(grid, List.of(source), Double.POSITIVE_INFINITY);
+    }
 
-            if (openNodes.isEmpty()) {
-                return emptyList();
+    /**
+     * Returns the distances of all {@link Grid.Node nodes} to the nearest of the specified sources. {@link Grid.Node
+     * Nodes} that are further away than the specified maximum distance are considered unreachable. Limiting the
+     * distance speeds up creating {@link DistanceMap distance maps} on large {@link Grid grids}.
+     *
+     * @since 2.15.0
+     */
+    public DistanceMap distanceMap(final Grid grid, final List<Grid.Node> sources, final double maxDistance) {
+        requireNonNull(grid, "grid must not be null");
+        requireNonNull(sources, "sources must not be null");
+        Validate.positive(maxDistance, "max distance must be positive");
+        final SearchState state = states.get();
+        state.prepare(grid.nodeCount());
+        for (final var source : sources) {
+            if (isInGrid(grid, source)) {
+                state.start(index(grid, source));
             }
         }
+        search(grid, state, null, (float) maxDistance);
+        return createDistanceMap(grid, state);
+    }
+
+    /**
+     * Returns a {@link FlowField} containing the directions of all {@link Grid.Node nodes} towards the specified
+     * target.
+     *
+     * @since 2.15.0
+     */
+    public FlowField flowField(final Grid grid, final Grid.Node target) {
+        requireNonNull(grid, "grid must not be null");
+        requireNonNull(target, "target must not be null");
+        final SearchState state = states.get();
+        state.prepare(grid.nodeCount());
+        if (isInGrid(grid, target)) {
+            state.start(index(grid, target));
+        }
+        search(grid, state, null, Float.POSITIVE_INFINITY);
+
+        // searching from the target makes parents point towards the target, because movement is symmetric
+        final int[] nextNodes = new int[grid.nodeCount()];
+        for (int node = 0; node < nextNodes.length; node++) {
+            nextNodes[node] = state.isClosed(node) ? state.parents[node] : -1;
+        }
+        return new FlowField(grid, target, createDistanceMap(grid, state), nextNodes);
+    }
+
+    private static DistanceMap createDistanceMap(final Grid grid, final SearchState state) {
+        final float[] distances = new float[grid.nodeCount()];
+        for (int node = 0; node < distances.length; node++) {
+            distances[node] = state.isClosed(node) ? state.costs[node] : Float.POSITIVE_INFINITY;
+        }
+        return new DistanceMap(grid.width(), grid.height(), distances);
     }
 
-    private List<Grid.Node> calculateOpenNodes(final Grid grid, final List<Grid.Node> usedNodes) {
-        final List<Grid.Node> openNodes = new ArrayList<>();
-        for (final var usedNode : usedNodes) {
-            for (final Grid.Node neighbor : grid.reachableNeighbors(usedNode)) {
-                if (!usedNodes.contains(neighbor) && !openNodes.contains(neighbor)) {
-                    openNodes.add(neighbor);
+    private static int search(final Grid grid, final SearchState state, final int[] targets, final float maxDistance) {
+        final int width = grid.width();
+        final int directions = directions(grid);
+        final float[] costs = state.costs;
+        final NodeHeap open = state.open;
+        while (!open.isEmpty()) {
+            final int current = open.poll();
+            if (costs[current] > maxDistance) {
+                return NO_TARGET;
+            }
+            state.close(current);
+            if (targets != null && Arrays.binarySearch(targets, current) >= 0) {
+                return current;
+            }
+            final int x = current % width;
+            final int y = current / width;
+            for (int direction = 0; direction < directions; direction++) {
+                final int neighborX = x + DELTA_X[direction];
+                final int neighborY = y + DELTA_Y[direction];
+                if (isReachable(grid, x, y, neighborX, neighborY)) {
+                    final int neighbor = neighborY * width + neighborX;
+                    final float cost = costs[current] + stepCost(direction);
+                    if (!state.isClosed(neighbor) && state.relax(neighbor, current, cost)) {
+                        open.push(neighbor, cost);
+                    }
                 }
             }
         }
-        return openNodes;
+        return NO_TARGET;
     }
 
+    private static int index(final Grid grid, final Grid.Node node) {
+        return node.y() * grid.width() + node.x();
+    }
 }
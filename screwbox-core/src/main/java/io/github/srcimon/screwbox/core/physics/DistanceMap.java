@@ -0,0 +1,57 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Distances of the {@link Grid.Node nodes} of a {@link Grid} to the nearest source {@link Grid.Node}. Distances are
+ * measured along the shortest path and don't consider {@link Grid#gridSize()}. Can be used for AI influence maps and
+ * reachability checks. The {@link DistanceMap} won't be updated when the {@link Grid} changes.
+ *
+ * @see DijkstraAlgorithm#distanceMap(Grid, Grid.Node)
+ * @since 2.15.0
+ */
+public final class DistanceMap {
+
+    private final int width;
+    private final int height;
+    private final float[] distances;
+
+    DistanceMap(final int width, final int height, final float[] distances) {
+        this.width = width;
+        this.height = height;
+        this.distances = distances;
+    }
+
+    /**
+     * Returns the distance of the {@link Grid.Node} to the nearest source. Returns {@link Double#POSITIVE_INFINITY}
+     * if the {@link Grid.Node} is not reachable.
+     */
+    public double distance(final Grid.Node node) {
+        requireNonNull(node, "node must not be null");
+        return node.x() >= 0 && node.x() < width && node.y() >= 0 && node.y() < height
+                ? distances[node.y() * width + node.x()]
+                : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns {@code true} if the {@link Grid.Node} can be reached from any source.
+     */
+    public boolean isReachable(final Grid.Node node) {
+        return distance(node) != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the number of {@link Grid.Node nodes} that can be reached from any source.
+     */
+    public int reachableCount() {
+        int count = 0;
+        for (final float distance : distances) {
+            if (distance != Float.POSITIVE_INFINITY) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
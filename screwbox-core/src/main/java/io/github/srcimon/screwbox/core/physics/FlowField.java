@@ -0,0 +1,99 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.Vector;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Directions of all {@link Grid.Node nodes} of a {@link Grid} towards a single target {@link Grid.Node}. Every
+ * {@link Grid.Node} knows the next {@link Grid.Node} on the shortest path to the target. Once created, looking up the
+ * next position is a constant time operation, so any number of entities can chase the same target without searching
+ * individual paths. The {@link FlowField} won't be updated when the {@link Grid} changes.
+ *
+ * @see Physics#flowField(Vector)
+ * @see DijkstraAlgorithm#flowField(Grid, Grid.Node)
+ * @since 2.15.0
+ */
+public final class FlowField {
+
+    private static final int NONE = -1;
+
+    private final Grid grid;
+    private final Grid.Node target;
+    private final DistanceMap distanceMap;
+    private final int[] nextNodes;
+
+    FlowField(final Grid grid, final Grid.Node target, final DistanceMap distanceMap, final int[] nextNodes) {
+        this.grid = grid;
+        this.target = target;
+        this.distanceMap = distanceMap;
+        this.nextNodes = nextNodes;
+    }
+
+    /**
+     * Returns the {@link Grid} used to create the {@link FlowField}.
+     */
+    public Grid grid() {
+        return grid;
+    }
+
+    /**
+     * Returns the target {@link Grid.Node} all directions lead to.
+     */
+    public Grid.Node target() {
+        return target;
+    }
+
+    /**
+     * Returns the distances of all {@link Grid.Node nodes} to the target.
+     */
+    public DistanceMap distanceMap() {
+        return distanceMap;
+    }
+
+    /**
+     * Returns {@code true} if the target can be reached from the specified position.
+     */
+    public boolean isReachable(final Vector position) {
+        requireNonNull(position, "position must not be null");
+        return distanceMap.isReachable(grid.toGrid(position));
+    }
+
+    /**
+     * Returns {@code true} if the specified position is within the target {@link Grid.Node}.
+     */
+    public boolean isAtTarget(final Vector position) {
+        requireNonNull(position, "position must not be null");
+        return grid.toGrid(position).equals(target);
+    }
+
+    /**
+     * Returns the next {@link Grid.Node} on the shortest path from the specified {@link Grid.Node} to the target.
+     * Will be empty if the target is not reachable or the {@link Grid.Node} is the target itself.
+     */
+    public Optional<Grid.Node> nextNode(final Grid.Node node) {
+        requireNonNull(node, "node must not be null");
+        if (!distanceMap.isReachable(node)) {
+            return Optional.empty();
+        }
+        final int next = nextNodes[node.y() * grid.width() + node.x()];
+        return next == NONE ? Optional.empty() : Optional.of(grid.nodeAt(next % grid.width(), next / grid.width()));
+    }
+
+    /**
+     * Returns the world position of the next {@link Grid.Node} on the shortest path from the specified position to
+     * the target. Returns the center of the target {@link Grid.Node} when the position is within the target
+     * {@link Grid.Node}. Will be empty if the target is not reachable.
+     */
+    public Optional<Vector> nextPosition(final Vector position) {
+        requireNonNull(position, "position must not be null");
+        final Grid.Node node = grid.toGrid(position);
+        if (node.equals(target)) {
+            return Optional.of(grid.worldPosition(target));
+        }
+        return nextNode(node).map(grid::worldPosition);
+    }
+}
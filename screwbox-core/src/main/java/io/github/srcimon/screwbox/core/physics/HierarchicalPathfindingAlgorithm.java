@@ -0,0 +1,416 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.utils.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.srcimon.screwbox.core.physics.SearchState.*;
+import static java.util.Collections.emptyList;
+
+/**
+ * An implementation of hierarchical pathfinding (HPA*) for large {@link Grid grids}. The {@link Grid} is partitioned
+ * into square clusters. Entrances between neighboring clusters and the distances between the entrances of every
+ * cluster are precomputed. Searching a path first searches the small graph of entrances and only searches
+ * {@link Grid.Node nodes} within the clusters passed by the resulting path. Paths are nearly as short as paths found
+ * by {@link IndexedAStarAlgorithm}.
+ * <p>
+ * The precomputed data belongs to the most recently used {@link Grid}. When {@link Grid.Node nodes} are blocked or
+ * freed, or the {@link Grid} is replaced by a {@link Grid} of the same size, only the clusters containing changed
+ * {@link Grid.Node nodes} and their direct neighbors are updated. Searches are synchronized, so multiple threads will
+ * wait for each other.
+ * <p>
+ * See <a href="https://webdocs.cs.ualberta.ca/~mmueller/ps/hpastar.pdf">Near Optimal Hierarchical Path-Finding</a>
+ *
+ * @since 2.15.0
+ */
+public class HierarchicalPathfindingAlgorithm implements PathfindingAlgorithm {
+
+    /**
+     * Default width and height of a cluster in {@link Grid.Node nodes}.
+     */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    /**
+     * Entrances wider than this get two transitions at their ends instead of a single one in the middle.
+     */
+    private static final int MAX_ENTRANCE_WIDTH = 6;
+    private static final int NONE = -1;
+
+    private static class Cluster {
+
+        private final int minX;
+        private final int minY;
+        private final int maxX;
+        private final int maxY;
+        private int[] entrances = new int[0];
+        private float[][] costs = new float[0][0];
+
+        private Cluster(final int minX, final int minY, final int maxX, final int maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        private boolean contains(final int x, final int y) {
+            return x >= minX && x < maxX && y >= minY && y < maxY;
+        }
+    }
+
+    private record Entrance(Cluster cluster, int index, int[] partners) {
+    }
+
+    private final int clusterSize;
+    private final SearchState abstractSearch = new SearchState();
+    private final SearchState localSearch = new SearchState();
+    private final Map<Integer, Entrance> entrances = new HashMap<>();
+    private Grid grid;
+    private int gridVersion;
+    private int width;
+    private int height;
+    private int directions;
+    private int clustersX;
+    private int clustersY;
+    private Cluster[] clusters = new Cluster[0];
+    private int[][] horizontalBorders = new int[0][];
+    private int[][] verticalBorders = new int[0][];
+    private BitSet blocked = new BitSet();
+    private int updatedClusterCount;
+
+    /**
+     * Creates a new instance using the {@link #DEFAULT_CLUSTER_SIZE}.
+     */
+    public HierarchicalPathfindingAlgorithm() {
+        this(DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Creates a new instance using the specified width and height of the clusters.
+     */
+    public HierarchicalPathfindingAlgorithm(final int clusterSize) {
+        Validate.positive(clusterSize, "cluster size must be positive");
+        this.clusterSize = clusterSize;
+    }
+
+    @Override
+    public synchronized List<Grid.Node> findPath(final Grid grid, final Grid.Node start, final Grid.Node end) {
+        if (!isInGrid(grid, start) || !isInGrid(grid, end) || start.equals(end) || !grid.isFree(end)) {
+            return emptyList();
+        }
+        update(grid);
+        final int startIndex = start.y() * width + start.x();
+        final int endIndex = end.y() * width + end.x();
+        final Cluster startCluster = clusterOf(startIndex);
+        final Cluster endCluster = clusterOf(endIndex);
+        if (startCluster == endCluster && searchLocal(startIndex, startCluster, endIndex) != NONE) {
+            return localSearch.backtrack(grid, endIndex);
+        }
+        final int[] abstractPath = searchAbstract(startIndex, startCluster, endIndex, endCluster);
+        return abstractPath.length == 0 ? emptyList() : refine(startIndex, abstractPath);
+    }
+
+    /**
+     * Returns the number of clusters that have been updated by the last search.
+     */
+    synchronized int updatedClusterCount() {
+        return updatedClusterCount;
+    }
+
+    /**
+     * Returns the number of entrances between all clusters.
+     */
+    synchronized int entranceCount() {
+        return entrances.size();
+    }
+
+    private int[] searchAbstract(final int start, final Cluster startCluster, final int end, final Cluster endCluster) {
+        final float[] startCosts = costsToEntrances(start, startCluster);
+        final float[] endCosts = costsToEntrances(end, endCluster);
+        abstractSearch.prepare(width * height);
+        abstractSearch.start(start);
+        while (!abstractSearch.open.isEmpty()) {
+            final int current = abstractSearch.open.poll();
+            if (current == end) {
+                return abstractPath(end);
+            }
+            abstractSearch.close(current);
+            final float cost = abstractSearch.costs[current];
+            if (current == start) {
+                for (int i = 0; i < startCluster.entrances.length; i++) {
+                    relaxAbstract(startCluster.entrances[i], current, cost + startCosts[i], end);
+                }
+            }
+            final Entrance entrance = entrances.get(current);
+            if (entrance != null) {
+                final Cluster cluster = entrance.cluster;
+                for (int i = 0; i < cluster.entrances.length; i++) {
+                    relaxAbstract(cluster.entrances[i], current, cost + cluster.costs[entrance.index][i], end);
+                }
+                for (final int partner : entrance.partners) {
+                    relaxAbstract(partner, current, cost + 1, end);
+                }
+                if (cluster == endCluster) {
+                    relaxAbstract(end, current, cost + endCosts[entrance.index], end);
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    private void relaxAbstract(final int node, final int parent, final float cost, final int end) {
+        if (cost != Float.POSITIVE_INFINITY && !abstractSearch.isClosed(node) && abstractSearch.relax(node, parent, cost)) {
+            abstractSearch.open.push(node, cost + heuristic(node, end));
+        }
+    }
+
+    private int[] abstractPath(final int end) {
+        int length = 0;
+        for (int node = end; abstractSearch.parents[node] != NONE; node = abstractSearch.parents[node]) {
+            length++;
+        }
+        final int[] path = new int[length];
+        int node = end;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = node;
+            node = abstractSearch.parents[node];
+        }
+        return path;
+    }
+
+    // only the steps within the clusters passed by the abstract path are searched
+    private List<Grid.Node> refine(final int start, final int[] abstractPath) {
+        final List<Grid.Node> path = new ArrayList<>();
+        int previous = start;
+        for (final int node : abstractPath) {
+            final Cluster cluster = clusterOf(previous);
+            if (cluster == clusterOf(node)) {
+                if (searchLocal(previous, cluster, node) == NONE) {
+                    return emptyList();
+                }
+                path.addAll(localSearch.backtrack(grid, node));
+            } else {
+                path.add(grid.nodeAt(node % width, node / width));
+            }
+            previous = node;
+        }
+        return path;
+    }
+
+    private float[] costsToEntrances(final int node, final Cluster cluster) {
+        searchLocal(node, cluster, NONE);
+        final float[] costs = new float[cluster.entrances.length];
+        for (int i = 0; i < costs.length; i++) {
+            final int entrance = cluster.entrances[i];
+            costs[i] = localSearch.isClosed(entrance) ? localSearch.costs[entrance] : Float.POSITIVE_INFINITY;
+        }
+        return costs;
+    }
+
+    /**
+     * Dijkstra search restricted to the {@link Grid.Node nodes} of a single cluster. Stops when reaching the target.
+     * Searches the whole cluster when there is no target.
+     */
+    private int searchLocal(final int start, final Cluster cluster, final int target) {
+        localSearch.prepare(width * height);
+        localSearch.start(start);
+        while (!localSearch.open.isEmpty()) {
+            final int current = localSearch.open.poll();
+            localSearch.close(current);
+            if (current == target) {
+                return current;
+            }
+            final int x = current % width;
+            final int y = current / width;
+            for (int direction = 0; direction < directions; direction++) {
+                final int neighborX = x + DELTA_X[direction];
+                final int neighborY = y + DELTA_Y[direction];
+                if (cluster.contains(neighborX, neighborY) && isReachable(grid, x, y, neighborX, neighborY)) {
+                    final int neighbor = neighborY * width + neighborX;
+                    final float cost = localSearch.costs[current] + stepCost(direction);
+                    if (!localSearch.isClosed(neighbor) && localSearch.relax(neighbor, current, cost)) {
+                        localSearch.open.push(neighbor, cost);
+                    }
+                }
+            }
+        }
+        return NONE;
+    }
+
+    private float heuristic(final int node, final int end) {
+        final int deltaX = Math.abs(node % width - end % width);
+        final int deltaY = Math.abs(node / width - end / width);
+        return directions == 4 ? deltaX + deltaY : IndexedAStarAlgorithm.octileDistance(deltaX, deltaY);
+    }
+
+    private Cluster clusterOf(final int node) {
+        return clusters[(node / width) / clusterSize * clustersX + (node % width) / clusterSize];
+    }
+
+    private void update(final Grid newGrid) {
+        if (newGrid == grid && newGrid.version() == gridVersion) {
+            updatedClusterCount = 0;
+            return;
+        }
+        final boolean isSameSize = grid != null && newGrid.width() == width && newGrid.height() == height
+                && directions(newGrid) == directions;
+        grid = newGrid;
+        gridVersion = newGrid.version();
+        if (!isSameSize) {
+            initialize();
+        }
+        final Set<Integer> changedClusters = new TreeSet<>();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                final boolean isBlocked = !grid.isFree(x, y);
+                if (isBlocked != blocked.get(y * width + x) || !isSameSize) {
+                    blocked.set(y * width + x, isBlocked);
+                    changedClusters.add(y / clusterSize * clustersX + x / clusterSize);
+                }
+            }
+        }
+        updateClusters(changedClusters);
+    }
+
+    private void initialize() {
+        width = grid.width();
+        height = grid.height();
+        directions = directions(grid);
+        clustersX = (width + clusterSize - 1) / clusterSize;
+        clustersY = (height + clusterSize - 1) / clusterSize;
+        clusters = new Cluster[clustersX * clustersY];
+        for (int clusterY = 0; clusterY < clustersY; clusterY++) {
+            for (int clusterX = 0; clusterX < clustersX; clusterX++) {
+                clusters[clusterY * clustersX + clusterX] = new Cluster(clusterX * clusterSize, clusterY * clusterSize,
+                        Math.min(width, (clusterX + 1) * clusterSize), Math.min(height, (clusterY + 1) * clusterSize));
+            }
+        }
+        horizontalBorders = new int[clusters.length][];
+        verticalBorders = new int[clusters.length][];
+        Arrays.fill(horizontalBorders, new int[0]);
+        Arrays.fill(verticalBorders, new int[0]);
+        blocked = new BitSet(width * height);
+        entrances.clear();
+    }
+
+    private void updateClusters(final Set<Integer> changedClusters) {
+        final Set<Integer> affectedClusters = new TreeSet<>(changedClusters);
+        for (final int cluster : changedClusters) {
+            final int clusterX = cluster % clustersX;
+            final int clusterY = cluster / clustersX;
+            if (clusterX > 0) {
+                updateHorizontalBorder(cluster - 1);
+                affectedClusters.add(cluster - 1);
+            }
+            if (clusterX < clustersX - 1) {
+                updateHorizontalBorder(cluster);
+                affectedClusters.add(cluster + 1);
+            }
+            if (clusterY > 0) {
+                updateVerticalBorder(cluster - clustersX);
+                affectedClusters.add(cluster - clustersX);
+            }
+            if (clusterY < clustersY - 1) {
+                updateVerticalBorder(cluster);
+                affectedClusters.add(cluster + clustersX);
+            }
+        }
+        for (final int cluster : affectedClusters) {
+            updateEntrances(cluster);
+        }
+        updatedClusterCount = affectedClusters.size();
+    }
+
+    // border between the specified cluster and the cluster on its right
+    private void updateHorizontalBorder(final int cluster) {
+        final Cluster left = clusters[cluster];
+        final int x = left.maxX - 1;
+        final List<Integer> transitions = new ArrayList<>();
+        int runStart = NONE;
+        for (int y = left.minY; y <= left.maxY; y++) {
+            final boolean isOpen = y < left.maxY && grid.isFree(x, y) && grid.isFree(x + 1, y);
+            if (isOpen && runStart == NONE) {
+                runStart = y;
+            } else if (!isOpen && runStart != NONE) {
+                for (final int transition : transitionsOfRun(runStart, y - 1)) {
+                    transitions.add(transition * width + x);
+                    transitions.add(transition * width + x + 1);
+                }
+                runStart = NONE;
+            }
+        }
+        horizontalBorders[cluster] = transitions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // border between the specified cluster and the cluster below
+    private void updateVerticalBorder(final int cluster) {
+        final Cluster upper = clusters[cluster];
+        final int y = upper.maxY - 1;
+        final List<Integer> transitions = new ArrayList<>();
+        int runStart = NONE;
+        for (int x = upper.minX; x <= upper.maxX; x++) {
+            final boolean isOpen = x < upper.maxX && grid.isFree(x, y) && grid.isFree(x, y + 1);
+            if (isOpen && runStart == NONE) {
+                runStart = x;
+            } else if (!isOpen && runStart != NONE) {
+                for (final int transition : transitionsOfRun(runStart, x - 1)) {
+                    transitions.add(y * width + transition);
+                    transitions.add((y + 1) * width + transition);
+                }
+                runStart = NONE;
+            }
+        }
+        verticalBorders[cluster] = transitions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] transitionsOfRun(final int first, final int last) {
+        return last - first + 1 < MAX_ENTRANCE_WIDTH
+                ? new int[]{(first + last) / 2}
+                : new int[]{first, last};
+    }
+
+    private void updateEntrances(final int clusterIndex) {
+        final Cluster cluster = clusters[clusterIndex];
+        for (final int entrance : cluster.entrances) {
+            entrances.remove(entrance);
+        }
+        final Map<Integer, List<Integer>> partners = new LinkedHashMap<>();
+        final int clusterX = clusterIndex % clustersX;
+        final int clusterY = clusterIndex / clustersX;
+        if (clusterX > 0) {
+            addTransitions(partners, horizontalBorders[clusterIndex - 1], 1);
+        }
+        if (clusterX < clustersX - 1) {
+            addTransitions(partners, horizontalBorders[clusterIndex], 0);
+        }
+        if (clusterY > 0) {
+            addTransitions(partners, verticalBorders[clusterIndex - clustersX], 1);
+        }
+        if (clusterY < clustersY - 1) {
+            addTransitions(partners, verticalBorders[clusterIndex], 0);
+        }
+        cluster.entrances = partners.keySet().stream().mapToInt(Integer::intValue).toArray();
+        cluster.costs = new float[cluster.entrances.length][];
+        for (int i = 0; i < cluster.entrances.length; i++) {
+            final int entrance = cluster.entrances[i];
+            entrances.put(entrance, new Entrance(cluster, i,
+                    partners.get(entrance).stream().mapToInt(Integer::intValue).toArray()));
+            cluster.costs[i] = costsToEntrances(entrance, cluster);
+        }
+    }
+
+    // transitions are stored as pairs of nodes, the side specifies which node belongs to the cluster
+    private static void addTransitions(final Map<Integer, List<Integer>> partners, final int[] transitions, final int side) {
+        for (int i = 0; i < transitions.length; i += 2) {
+            partners.computeIfAbsent(transitions[i + side], key -> new ArrayList<>()).add(transitions[i + 1 - side]);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+
+import java.util.List;
+
+import static io.github.srcimon.screwbox.core.physics.SearchState.*;
+import static java.util.Collections.emptyList;
+
+/**
+ * An implementation of the A* algorithm working on the indices of the {@link Grid.Node nodes} instead of creating
+ * objects for every visited {@link Grid.Node}. All data of the search is stored in primitive arrays that are reused
+ * between searches, which makes this implementation a good fit for large {@link Grid grids} and frequent searches.
+ * Every thread uses its own arrays.
+ * <p>
+ * See <a href="https://en.wikipedia.org/wiki/A*_search_algorithm">Wikipedia</a>
+ *
+ * @see AStarAlgorithm
+ * @since 2.15.0
+ */
+public class IndexedAStarAlgorithm implements PathfindingAlgorithm {
+
+    private final ThreadLocal<SearchState> states = ThreadLocal.withInitial(SearchState::new);
+
+    @Override
+    public List<Grid.Node> findPath(final Grid grid, final Grid.Node start, final Grid.Node end) {
+        if (!isInGrid(grid, start) || !isInGrid(grid, end) || start.equals(end)) {
+            return emptyList();
+        }
+        final SearchState state = states.get();
+        state.prepare(grid.nodeCount());
+        final int width = grid.width();
+        final int directions = directions(grid);
+        final int endIndex = end.y() * width + end.x();
+        final float[] costs = state.costs;
+        final NodeHeap open = state.open;
+        state.start(start.y() * width + start.x());
+
+        while (!open.isEmpty()) {
+            final int current = open.poll();
+            if (current == endIndex) {
+                return state.backtrack(grid, endIndex);
+            }
+            state.close(current);
+            final int x = current % width;
+            final int y = current / width;
+            for (int direction = 0; direction < directions; direction++) {
+                final int neighborX = x + DELTA_X[direction];
+                final int neighborY = y + DELTA_Y[direction];
+                if (!isReachable(grid, x, y, neighborX, neighborY)) {
+                    continue;
+                }
+                final int neighbor = neighborY * width + neighborX;
+                if (state.isClosed(neighbor)) {
+                    continue;
+                }
+                final float cost = costs[current] + stepCost(direction);
+                if (state.relax(neighbor, current, cost)) {
+                    open.push(neighbor, cost + heuristic(neighborX, neighborY, end, directions));
+                }
+            }
+        }
+        return emptyList();
+    }
+
+    private static float heuristic(final int x, final int y, final Grid.Node end, final int directions) {
+        final int deltaX = Math.abs(end.x() - x);
+        final int deltaY = Math.abs(end.y() - y);
+        return directions == 4 ? deltaX + deltaY : octileDistance(deltaX, deltaY);
+    }
+
+    /**
+     * Distance between two nodes when moving straight and diagonally.
+     */
+    static float octileDistance(final int deltaX, final int deltaY) {
+        final int diagonal = Math.min(deltaX, deltaY);
+        return Math.max(deltaX, deltaY) - diagonal + DIAGONAL_COST * diagonal;
+    }
+}
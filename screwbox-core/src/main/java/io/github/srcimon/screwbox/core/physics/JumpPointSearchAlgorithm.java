@@ -0,0 +1,205 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.srcimon.screwbox.core.physics.IndexedAStarAlgorithm.octileDistance;
+import static java.util.Collections.emptyList;
+
+/**
+ * An implementation of the Jump Point Search algorithm. Jump Point Search is an optimization of the A* algorithm for
+ * {@link Grid grids} with uniform costs that skips straight and diagonal runs of {@link Grid.Node nodes} and only adds
+ * the {@link Grid.Node nodes} to the search where the path might have to change its direction. Diagonal movement is
+ * restricted in the same way as in {@link Grid#reachableNeighbors(Grid.Node)}, so the path never cuts corners of
+ * blocked {@link Grid.Node nodes}. The returned path contains every {@link Grid.Node} on the way, not only the jump
+ * points. Uses {@link IndexedAStarAlgorithm} on {@link Grid grids} that don't use diagonal search.
+ * <p>
+ * See <a href="https://en.wikipedia.org/wiki/Jump_point_search">Wikipedia</a>
+ *
+ * @since 2.15.0
+ */
+public class JumpPointSearchAlgorithm implements PathfindingAlgorithm {
+
+    private static final int NO_JUMP_POINT = -1;
+
+    private final ThreadLocal<SearchState> states = ThreadLocal.withInitial(SearchState::new);
+    private final PathfindingAlgorithm straightSearch = new IndexedAStarAlgorithm();
+
+    @Override
+    public List<Grid.Node> findPath(final Grid grid, final Grid.Node start, final Grid.Node end) {
+        if (!grid.isUsingDiagonalSearch()) {
+            return straightSearch.findPath(grid, start, end);
+        }
+        if (!SearchState.isInGrid(grid, start) || !SearchState.isInGrid(grid, end) || start.equals(end)) {
+            return emptyList();
+        }
+        final SearchState state = states.get();
+        state.prepare(grid.nodeCount());
+        final List<Grid.Node> jumpPoints = new JumpPointSearch(grid, state, end).findJumpPoints(start);
+        return jumpPoints.isEmpty() ? jumpPoints : connect(grid, start, jumpPoints);
+    }
+
+    // jump points are always reached in a straight line or a diagonal
+    private static List<Grid.Node> connect(final Grid grid, final Grid.Node start, final List<Grid.Node> jumpPoints) {
+        final List<Grid.Node> path = new ArrayList<>();
+        int x = start.x();
+        int y = start.y();
+        for (final var jumpPoint : jumpPoints) {
+            final int deltaX = Integer.signum(jumpPoint.x() - x);
+            final int deltaY = Integer.signum(jumpPoint.y() - y);
+            while (x != jumpPoint.x() || y != jumpPoint.y()) {
+                x += deltaX;
+                y += deltaY;
+                path.add(grid.nodeAt(x, y));
+            }
+        }
+        return path;
+    }
+
+    private static class JumpPointSearch {
+
+        private final Grid grid;
+        private final SearchState state;
+        private final int width;
+        private final int endX;
+        private final int endY;
+
+        private JumpPointSearch(final Grid grid, final SearchState state, final Grid.Node end) {
+            this.grid = grid;
+            this.state = state;
+            this.width = grid.width();
+            this.endX = end.x();
+            this.endY = end.y();
+        }
+
+        private List<Grid.Node> findJumpPoints(final Grid.Node start) {
+            final int endIndex = endY * width + endX;
+            state.start(start.y() * width + start.x());
+            while (!state.open.isEmpty()) {
+                final int current = state.open.poll();
+                if (current == endIndex) {
+                    return state.backtrack(grid, endIndex);
+                }
+                state.close(current);
+                identifySuccessors(current);
+            }
+            return emptyList();
+        }
+
+        private void identifySuccessors(final int current) {
+            final int x = current % width;
+            final int y = current / width;
+            final int parent = state.parents[current];
+            if (parent == -1) {
+                for (int deltaX = -1; deltaX <= 1; deltaX++) {
+                    for (int deltaY = -1; deltaY <= 1; deltaY++) {
+                        if ((deltaX != 0 || deltaY != 0) && (deltaX == 0 || deltaY == 0 || isFree(x + deltaX, y) && isFree(x, y + deltaY))) {
+                            jumpFrom(current, x, y, deltaX, deltaY);
+                        }
+                    }
+                }
+                return;
+            }
+            // only neighbors that can't be reached on an equally short path without passing the current node
+            final int deltaX = Integer.signum(x - parent % width);
+            final int deltaY = Integer.signum(y - parent / width);
+            if (deltaX != 0 && deltaY != 0) {
+                final boolean isVerticalFree = isFree(x, y + deltaY);
+                final boolean isHorizontalFree = isFree(x + deltaX, y);
+                if (isVerticalFree) {
+                    jumpFrom(current, x, y, 0, deltaY);
+                }
+                if (isHorizontalFree) {
+                    jumpFrom(current, x, y, deltaX, 0);
+                }
+                if (isVerticalFree && isHorizontalFree) {
+                    jumpFrom(current, x, y, deltaX, deltaY);
+                }
+            } else if (deltaX != 0) {
+                final boolean isNextFree = isFree(x + deltaX, y);
+                final boolean isBelowFree = isFree(x, y + 1);
+                final boolean isAboveFree = isFree(x, y - 1);
+                if (isNextFree) {
+                    jumpFrom(current, x, y, deltaX, 0);
+                    if (isBelowFree) {
+                        jumpFrom(current, x, y, deltaX, 1);
+                    }
+                    if (isAboveFree) {
+                        jumpFrom(current, x, y, deltaX, -1);
+                    }
+                }
+                if (isBelowFree) {
+                    jumpFrom(current, x, y, 0, 1);
+                }
+                if (isAboveFree) {
+                    jumpFrom(current, x, y, 0, -1);
+                }
+            } else {
+                final boolean isNextFree = isFree(x, y + deltaY);
+                final boolean isRightFree = isFree(x + 1, y);
+                final boolean isLeftFree = isFree(x - 1, y);
+                if (isNextFree) {
+                    jumpFrom(current, x, y, 0, deltaY);
+                    if (isRightFree) {
+                        jumpFrom(current, x, y, 1, deltaY);
+                    }
+                    if (isLeftFree) {
+                        jumpFrom(current, x, y, -1, deltaY);
+                    }
+                }
+                if (isRightFree) {
+                    jumpFrom(current, x, y, 1, 0);
+                }
+                if (isLeftFree) {
+                    jumpFrom(current, x, y, -1, 0);
+                }
+            }
+        }
+
+        private void jumpFrom(final int current, final int x, final int y, final int deltaX, final int deltaY) {
+            final int jumpPoint = jump(x + deltaX, y + deltaY, deltaX, deltaY);
+            if (jumpPoint == NO_JUMP_POINT || state.isClosed(jumpPoint)) {
+                return;
+            }
+            final int jumpX = jumpPoint % width;
+            final int jumpY = jumpPoint / width;
+            final float cost = state.costs[current] + octileDistance(Math.abs(jumpX - x), Math.abs(jumpY - y));
+            if (state.relax(jumpPoint, current, cost)) {
+                state.open.push(jumpPoint, cost + octileDistance(Math.abs(endX - jumpX), Math.abs(endY - jumpY)));
+            }
+        }
+
+        private int jump(final int startX, final int startY, final int deltaX, final int deltaY) {
+            int x = startX;
+            int y = startY;
+            while (isFree(x, y)) {
+                if (x == endX && y == endY) {
+                    return y * width + x;
+                }
+                if (deltaX != 0 && deltaY != 0) {
+                    if (jump(x + deltaX, y, deltaX, 0) != NO_JUMP_POINT || jump(x, y + deltaY, 0, deltaY) != NO_JUMP_POINT) {
+                        return y * width + x;
+                    }
+                    if (!isFree(x + deltaX, y) || !isFree(x, y + deltaY)) {
+                        return NO_JUMP_POINT;
+                    }
+                } else if (deltaX != 0) {
+                    if (isFree(x, y - 1) && !isFree(x - deltaX, y - 1) || isFree(x, y + 1) && !isFree(x - deltaX, y + 1)) {
+                        return y * width + x;
+                    }
+                } else if (isFree(x - 1, y) && !isFree(x - 1, y - deltaY) || isFree(x + 1, y) && !isFree(x + 1, y - deltaY)) {
+                    return y * width + x;
+                }
+                x += deltaX;
+                y += deltaY;
+            }
+            return NO_JUMP_POINT;
+        }
+
+        private boolean isFree(final int x, final int y) {
+            return grid.isFree(x, y);
+        }
+    }
+}
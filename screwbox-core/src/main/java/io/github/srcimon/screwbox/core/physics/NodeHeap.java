@@ -0,0 +1,120 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of node indices ordered by a float priority. Keeps track of the position of every node within the
+ * heap to support decreasing the priority of nodes already contained. Arrays are reused between searches to avoid
+ * allocations.
+ */
+class NodeHeap {
+
+    private int[] nodes = new int[256];
+    private float[] priorities = new float[256];
+    private int[] positions = new int[0];
+    private int size;
+
+    /**
+     * Removes all nodes and prepares the heap to store node indices below the specified node count.
+     */
+    void reset(final int nodeCount) {
+        size = 0;
+        if (positions.length < nodeCount) {
+            positions = new int[nodeCount];
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(final int node) {
+        final int position = positions[node];
+        return position < size && nodes[position] == node;
+    }
+
+    /**
+     * Adds the node to the heap. Decreases the priority if the node is already contained and the new priority is
+     * lower than the current one.
+     */
+    void push(final int node, final float priority) {
+        if (contains(node)) {
+            final int position = positions[node];
+            if (priority < priorities[position]) {
+                priorities[position] = priority;
+                siftUp(position);
+            }
+            return;
+        }
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        nodes[size] = node;
+        priorities[size] = priority;
+        positions[node] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Removes and returns the node with the lowest priority.
+     */
+    int poll() {
+        final int node = nodes[0];
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return node;
+    }
+
+    private void siftUp(final int startPosition) {
+        int position = startPosition;
+        final int node = nodes[position];
+        final float priority = priorities[position];
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        nodes[position] = node;
+        priorities[position] = priority;
+        positions[node] = position;
+    }
+
+    private void siftDown(final int startPosition) {
+        int position = startPosition;
+        final int node = nodes[position];
+        final float priority = priorities[position];
+        final int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            final int right = child + 1;
+            if (right < size && priorities[right] < priorities[child]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            move(child, position);
+            position = child;
+        }
+        nodes[position] = node;
+        priorities[position] = priority;
+        positions[node] = position;
+    }
+
+    private void move(final int from, final int to) {
+        nodes[to] = nodes[from];
+        priorities[to] = priorities[from];
+        positions[nodes[to]] = to;
+    }
+}
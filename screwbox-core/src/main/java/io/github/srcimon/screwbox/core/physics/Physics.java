@@ -38,6 +38,28 @@ public interface Physics {
      */
     Optional<Path> findPath(Vector start, Vector end, Grid grid);
 
+    /**
+     * Returns a {@link FlowField} leading to the specified target position. {@link FlowField Flow fields} are cached
+     * per target {@link Grid.Node} and {@link Grid}, so any number of entities chasing the same target share a single
+     * calculation. Requires a {@link Grid}.
+     *
+     * @see #flowFieldAsync(Vector)
+     * @since 2.15.0
+     */
+    FlowField flowField(Vector target);
+
+    /**
+     * Returns a {@link FlowField} leading to the specified target position without blocking the current thread.
+     * Missing {@link FlowField flow fields} are calculated using {@link io.github.srcimon.screwbox.core.async.Async}.
+     * Until the calculation has finished the {@link FlowField} to the same target of a previous
+     * {@link Grid#version() version} of the current {@link Grid} is returned. Will be empty when there is no such
+     * {@link FlowField}. Requires a {@link Grid}.
+     *
+     * @see #flowField(Vector)
+     * @since 2.15.0
+     */
+    Optional<FlowField> flowFieldAsync(Vector target);
+
     Bounds snapToGrid(Bounds bounds);
 
     Vector snapToGrid(Vector position);
@@ -69,6 +91,9 @@ public interface Physics {
      * @see #pathfindingAlgorithm()
      * @see DijkstraAlgorithm
      * @see AStarAlgorithm
+     * @see IndexedAStarAlgorithm
+     * @see JumpPointSearchAlgorithm
+     * @see HierarchicalPathfindingAlgorithm
      */
     Physics setPathfindingAlgorithm(PathfindingAlgorithm algorithm);
 
@@ -0,0 +1,121 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Data of a pathfinding search on the indices of the {@link Grid.Node nodes} of a {@link Grid}. All data is stored in
+ * primitive arrays that are reused between searches. Generation stamps mark the entries that belong to the current
+ * search, so the arrays don't have to be cleared before every search.
+ */
+class SearchState {
+
+    static final float DIAGONAL_COST = (float) Math.sqrt(2);
+
+    /**
+     * Directions to the neighbors of a node. The first four directions are straight, the others diagonal.
+     */
+    static final int[] DELTA_X = {0, 0, -1, 1, -1, 1, -1, 1};
+    static final int[] DELTA_Y = {1, -1, 0, 0, 1, 1, -1, -1};
+
+    final NodeHeap open = new NodeHeap();
+    float[] costs = new float[0];
+    int[] parents = new int[0];
+    int[] discovered = new int[0];
+    int[] closed = new int[0];
+    int generation = 0;
+
+    /**
+     * Starts a new search on a {@link Grid} with the specified node count.
+     */
+    void prepare(final int nodeCount) {
+        open.reset(nodeCount);
+        if (costs.length < nodeCount) {
+            costs = new float[nodeCount];
+            parents = new int[nodeCount];
+            discovered = new int[nodeCount];
+            closed = new int[nodeCount];
+            generation = 0;
+        }
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(discovered, 0);
+            Arrays.fill(closed, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    /**
+     * Adds the start node to the search.
+     */
+    void start(final int node) {
+        costs[node] = 0;
+        parents[node] = -1;
+        discovered[node] = generation;
+        open.push(node, 0);
+    }
+
+    boolean isClosed(final int node) {
+        return closed[node] == generation;
+    }
+
+    void close(final int node) {
+        closed[node] = generation;
+    }
+
+    /**
+     * Updates cost and parent of the node if the node hasn't been discovered yet or the new cost is lower than the
+     * current one. Returns {@code true} if the node has been updated.
+     */
+    boolean relax(final int node, final int parent, final float cost) {
+        if (discovered[node] == generation && cost >= costs[node]) {
+            return false;
+        }
+        discovered[node] = generation;
+        costs[node] = cost;
+        parents[node] = parent;
+        return true;
+    }
+
+    /**
+     * Returns the nodes leading from the start node to the specified node, excluding the start node.
+     */
+    List<Grid.Node> backtrack(final Grid grid, final int node) {
+        final List<Grid.Node> path = new ArrayList<>();
+        for (int index = node; parents[index] != -1; index = parents[index]) {
+            path.add(grid.nodeAt(index % grid.width(), index / grid.width()));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Returns the number of directions to search for neighbors within the {@link Grid}.
+     */
+    static int directions(final Grid grid) {
+        return grid.isUsingDiagonalSearch() ? 8 : 4;
+    }
+
+    /**
+     * Returns the cost of moving one step in the specified direction.
+     */
+    static float stepCost(final int direction) {
+        return direction < 4 ? 1 : DIAGONAL_COST;
+    }
+
+    // diagonal movement requires both adjacent nodes to be free, same as Grid.reachableNeighbors()
+    static boolean isReachable(final Grid grid, final int x, final int y, final int neighborX, final int neighborY) {
+        if (!grid.isFree(neighborX, neighborY)) {
+            return false;
+        }
+        return x == neighborX || y == neighborY || grid.isFree(neighborX, y) && grid.isFree(x, neighborY);
+    }
+
+    static boolean isInGrid(final Grid grid, final Grid.Node node) {
+        return node.x() >= 0 && node.x() < grid.width() && node.y() >= 0 && node.y() < grid.height();
+    }
+}
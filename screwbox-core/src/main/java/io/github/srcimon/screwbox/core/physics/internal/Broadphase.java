@@ -0,0 +1,74 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.physics.StaticColliderComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds collision candidates without checking every pair of {@link Entity entities}. {@link Entity Entities}
+ * having a {@link StaticColliderComponent} are stored in a separate layer that is never updated after insertion.
+ * All other {@link Entity entities} are re-bucketed whenever their {@link Entity#bounds()} leave their cells.
+ */
+public class Broadphase {
+
+    public static final double DEFAULT_CELL_SIZE = 64;
+
+    private final SpatialHash staticLayer;
+    private final SpatialHash dynamicLayer;
+    private final List<Entity> candidates = new ArrayList<>();
+
+    public Broadphase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public Broadphase(final double cellSize) {
+        this.staticLayer = new SpatialHash(cellSize);
+        this.dynamicLayer = new SpatialHash(cellSize);
+    }
+
+    /**
+     * Synchronizes the {@link Broadphase} with the current list of {@link Entity entities}. Removes all
+     * {@link Entity entities} not contained in this list.
+     */
+    public void sync(final List<Entity> entities) {
+        staticLayer.startSync();
+        dynamicLayer.startSync();
+        for (final var entity : entities) {
+            if (entity.hasComponent(StaticColliderComponent.class)) {
+                staticLayer.keep(entity);
+            } else {
+                dynamicLayer.update(entity);
+            }
+        }
+        staticLayer.finishSync();
+        dynamicLayer.finishSync();
+    }
+
+    /**
+     * Updates the position of a single {@link Entity} that has been moved after {@link #sync(List)}.
+     * Won't do anything if the {@link Entity} isn't tracked.
+     */
+    public void refresh(final Entity entity) {
+        if (dynamicLayer.contains(entity)) {
+            dynamicLayer.update(entity);
+        }
+    }
+
+    /**
+     * Returns all {@link Entity entities} that might intersect or touch the given {@link Bounds}. The returned
+     * list is reused by the next call.
+     */
+    public List<Entity> candidates(final Bounds bounds) {
+        candidates.clear();
+        staticLayer.query(bounds, candidates);
+        dynamicLayer.query(bounds, candidates);
+        return candidates;
+    }
+
+    public int size() {
+        return staticLayer.size() + dynamicLayer.size();
+    }
+}
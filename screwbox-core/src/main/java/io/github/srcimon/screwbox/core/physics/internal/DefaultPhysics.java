@@ -15,6 +15,7 @@ public class DefaultPhysics implements Physics {
 
     private final Engine engine;
 
+    private final FlowFieldCache flowFieldCache = new FlowFieldCache();
     private PathfindingAlgorithm algorithm = new AStarAlgorithm();
 
     private Grid grid;
@@ -67,6 +68,20 @@ public class DefaultPhysics implements Physics {
         return findPath(start, end, grid);
     }
 
+    @Override
+    public FlowField flowField(final Vector target) {
+        requireNonNull(target, "target must not be null");
+        checkGridPresent();
+        return flowFieldCache.get(grid, grid.toGrid(target));
+    }
+
+    @Override
+    public Optional<FlowField> flowFieldAsync(final Vector target) {
+        requireNonNull(target, "target must not be null");
+        checkGridPresent();
+        return flowFieldCache.getAsync(grid, grid.toGrid(target), engine.async());
+    }
+
     @Override
     public Physics setGrid(final Grid grid) {
         this.grid = grid;
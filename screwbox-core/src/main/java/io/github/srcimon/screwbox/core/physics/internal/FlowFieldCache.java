@@ -0,0 +1,82 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.async.Async;
+import io.github.srcimon.screwbox.core.physics.DijkstraAlgorithm;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches {@link FlowField flow fields} per {@link Grid#version() version} of a {@link Grid} and target
+ * {@link Grid.Node}, so all entities chasing the same target share a single calculation. Replacing the {@link Grid} or
+ * changing nodes of the {@link Grid} results in new {@link FlowField flow fields}. Only the most recently used
+ * {@link FlowField flow fields} are kept.
+ */
+class FlowFieldCache {
+
+    static final int MAX_SIZE = 8;
+
+    private record Key(Grid grid, int version, Grid.Node target) {
+        // Grid doesn't override equals, so the key also changes when the Grid is replaced
+    }
+
+    private final DijkstraAlgorithm algorithm = new DijkstraAlgorithm();
+    private final Map<Key, FlowField> flowFields = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, FlowField> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    FlowField get(final Grid grid, final Grid.Node target) {
+        final Key key = new Key(grid, grid.version(), target);
+        final FlowField cached = cached(key);
+        if (cached != null) {
+            return cached;
+        }
+        final FlowField flowField = algorithm.flowField(grid, target);
+        store(key, flowField);
+        return flowField;
+    }
+
+    /**
+     * Returns the cached {@link FlowField} or starts calculating the {@link FlowField} using {@link Async}. While
+     * calculating, a {@link FlowField} to the same target created on a previous {@link Grid#version() version} of the
+     * same {@link Grid} is used if present. {@link FlowField Flow fields} of a replaced {@link Grid} are never used,
+     * because their nodes may not match the new {@link Grid}.
+     */
+    Optional<FlowField> getAsync(final Grid grid, final Grid.Node target, final Async async) {
+        final Key key = new Key(grid, grid.version(), target);
+        final FlowField cached = cached(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        async.runExclusive(key, () -> store(key, algorithm.flowField(grid, target)));
+        return Optional.ofNullable(outdated(grid, target));
+    }
+
+    synchronized int size() {
+        return flowFields.size();
+    }
+
+    private synchronized FlowField cached(final Key key) {
+        return flowFields.get(key);
+    }
+
+    private synchronized void store(final Key key, final FlowField flowField) {
+        flowFields.put(key, flowField);
+    }
+
+    private synchronized FlowField outdated(final Grid grid, final Grid.Node target) {
+        FlowField latest = null;
+        for (final var entry : flowFields.entrySet()) {
+            if (entry.getKey().grid() == grid && entry.getKey().target().equals(target)) {
+                latest = entry.getValue();
+            }
+        }
+        return latest;
+    }
+}
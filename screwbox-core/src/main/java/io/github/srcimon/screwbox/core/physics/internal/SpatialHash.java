@@ -0,0 +1,230 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Uniform grid storing {@link Entity entities} in all cells intersected by their {@link Entity#bounds()}.
+ * Entries are updated incrementally: moving an {@link Entity} only touches the cells it has left or entered.
+ * {@link Entity Entities} spanning more than {@link #MAX_CELLS_PER_ENTITY} cells are not stored in cells at all
+ * but returned on every query.
+ */
+public class SpatialHash {
+
+    static final int MAX_CELLS_PER_ENTITY = 256;
+    private static final double MAX_CELL = 1 << 30;
+
+    private static final class Entry {
+        private final Entity entity;
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+        private boolean oversized;
+        private int syncStamp;
+        private int queryStamp;
+
+        private Entry(final Entity entity) {
+            this.entity = entity;
+        }
+    }
+
+    private final double cellSize;
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Map<Entity, Entry> entries = new LinkedHashMap<>();
+    private final List<Entry> oversizedEntries = new ArrayList<>();
+    private int syncStamp;
+    private int syncCount;
+    private int queryStamp;
+
+    public SpatialHash(final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Starts a new synchronization. All {@link Entity entities} that are neither {@link #update(Entity) updated}
+     * nor {@link #keep(Entity) kept} until {@link #finishSync()} will be removed.
+     */
+    public void startSync() {
+        syncStamp++;
+        syncCount = 0;
+    }
+
+    /**
+     * Removes all {@link Entity entities} that have not been touched since {@link #startSync()}.
+     */
+    public void finishSync() {
+        if (syncCount == entries.size()) {
+            return;
+        }
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry.syncStamp != syncStamp) {
+                removeFromCells(entry);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Adds the {@link Entity} or moves it to the cells matching its current {@link Entity#bounds()}.
+     */
+    public void update(final Entity entity) {
+        final Entry entry = entries.get(entity);
+        if (isNull(entry)) {
+            insert(entity);
+            return;
+        }
+        markSynced(entry);
+        final Bounds bounds = entity.bounds();
+        final int minX = cell(bounds.minX());
+        final int minY = cell(bounds.minY());
+        final int maxX = cell(bounds.maxX());
+        final int maxY = cell(bounds.maxY());
+        if (entry.minX != minX || entry.minY != minY || entry.maxX != maxX || entry.maxY != maxY) {
+            removeFromCells(entry);
+            addToCells(entry, minX, minY, maxX, maxY);
+        }
+    }
+
+    /**
+     * Adds the {@link Entity} if it is not already present. Won't check for changed {@link Entity#bounds()}.
+     */
+    public void keep(final Entity entity) {
+        final Entry entry = entries.get(entity);
+        if (isNull(entry)) {
+            insert(entity);
+        } else {
+            markSynced(entry);
+        }
+    }
+
+    public void remove(final Entity entity) {
+        final Entry entry = entries.remove(entity);
+        if (!isNull(entry)) {
+            removeFromCells(entry);
+        }
+    }
+
+    public boolean contains(final Entity entity) {
+        return entries.containsKey(entity);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds all {@link Entity entities} stored in cells intersected or touched by the given {@link Bounds} to the
+     * result. Every {@link Entity} is added only once. Candidates still have to be checked for actual intersection.
+     */
+    public void query(final Bounds bounds, final List<Entity> result) {
+        queryStamp++;
+        for (final var entry : oversizedEntries) {
+            collect(entry, result);
+        }
+        final int minX = cell(bounds.minX());
+        final int minY = cell(bounds.minY());
+        final int maxX = cell(bounds.maxX());
+        final int maxY = cell(bounds.maxY());
+        if (cellCount(minX, minY, maxX, maxY) > cells.size()) {
+            for (final var entry : entries.values()) {
+                if (!entry.oversized && entry.minX <= maxX && entry.maxX >= minX && entry.minY <= maxY && entry.maxY >= minY) {
+                    collect(entry, result);
+                }
+            }
+            return;
+        }
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                final List<Entry> cell = cells.get(key(x, y));
+                if (!isNull(cell)) {
+                    for (final var entry : cell) {
+                        collect(entry, result);
+                    }
+                }
+            }
+        }
+    }
+
+    private void collect(final Entry entry, final List<Entity> result) {
+        if (entry.queryStamp != queryStamp) {
+            entry.queryStamp = queryStamp;
+            result.add(entry.entity);
+        }
+    }
+
+    private void insert(final Entity entity) {
+        final Entry entry = new Entry(entity);
+        entries.put(entity, entry);
+        markSynced(entry);
+        final Bounds bounds = entity.bounds();
+        addToCells(entry, cell(bounds.minX()), cell(bounds.minY()), cell(bounds.maxX()), cell(bounds.maxY()));
+    }
+
+    private void markSynced(final Entry entry) {
+        if (entry.syncStamp != syncStamp) {
+            entry.syncStamp = syncStamp;
+            syncCount++;
+        }
+    }
+
+    private void addToCells(final Entry entry, final int minX, final int minY, final int maxX, final int maxY) {
+        entry.minX = minX;
+        entry.minY = minY;
+        entry.maxX = maxX;
+        entry.maxY = maxY;
+        entry.oversized = cellCount(minX, minY, maxX, maxY) > MAX_CELLS_PER_ENTITY;
+        if (entry.oversized) {
+            oversizedEntries.add(entry);
+            return;
+        }
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                cells.computeIfAbsent(key(x, y), key -> new ArrayList<>()).add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(final Entry entry) {
+        if (entry.oversized) {
+            oversizedEntries.remove(entry);
+            return;
+        }
+        for (int y = entry.minY; y <= entry.maxY; y++) {
+            for (int x = entry.minX; x <= entry.maxX; x++) {
+                final long key = key(x, y);
+                final List<Entry> cell = cells.get(key);
+                cell.remove(entry);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private int cell(final double value) {
+        return (int) Math.clamp(Math.floor(value / cellSize), -MAX_CELL, MAX_CELL);
+    }
+
+    private static long cellCount(final int minX, final int minY, final int maxX, final int maxY) {
+        return ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+    }
+
+    private static long key(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+}
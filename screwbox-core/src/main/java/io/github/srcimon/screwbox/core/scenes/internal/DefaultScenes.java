@@ -5,6 +5,8 @@ import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
 import io.github.srcimon.screwbox.core.graphics.Canvas;
+import io.github.srcimon.screwbox.core.loop.internal.DefaultProfiler;
+import io.github.srcimon.screwbox.core.loop.internal.SimulationTimestep;
 import io.github.srcimon.screwbox.core.loop.internal.Updatable;
 import io.github.srcimon.screwbox.core.scenes.DefaultLoadingScene;
 import io.github.srcimon.screwbox.core.scenes.DefaultScene;
@@ -25,6 +27,8 @@ public class DefaultScenes implements Scenes, Updatable {
     private final Executor executor;
     private final Engine engine;
     private final Canvas canvas;
+    private final DefaultProfiler profiler;
+    private final SimulationTimestep timestep;
 
     private SceneData activeScene;
     private SceneData loadingScene;
@@ -33,8 +37,11 @@ public class DefaultScenes implements Scenes, Updatable {
     private SceneTransition defaultTransition = SceneTransition.custom();
     private boolean canRenderTransition = false;
 
-    public DefaultScenes(final Engine engine, final Canvas canvas, final Executor executor) {
+    public DefaultScenes(final Engine engine, final Canvas canvas, final Executor executor, final DefaultProfiler profiler,
+                         final SimulationTimestep timestep) {
         this.engine = engine;
+        this.profiler = profiler;
+        this.timestep = timestep;
         this.executor = executor;
         this.canvas = canvas;
         SceneData defaultSceneData = createSceneData(new DefaultScene());
@@ -201,7 +208,7 @@ public class DefaultScenes implements Scenes, Updatable {
     }
 
     private SceneData createSceneData(final Scene scene) {
-        final var sceneEnvironment = new DefaultEnvironment(engine);
+        final var sceneEnvironment = new DefaultEnvironment(engine, profiler, timestep);
         return new SceneData(scene, sceneEnvironment);
     }
 }
@@ -0,0 +1,138 @@
+package io.github.srcimon.screwbox.core.window.internal;
+
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfigurationEvent;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.StandbyProxyRenderer;
+import io.github.srcimon.screwbox.core.window.FilesDroppedOnWindow;
+import io.github.srcimon.screwbox.core.window.MouseCursor;
+import io.github.srcimon.screwbox.core.window.Window;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Window} used by headless engines. Is never shown on the monitor. Only enables rendering when opened and
+ * {@link GraphicsConfiguration#isUseOffscreenRendering()} is enabled.
+ */
+public class HeadlessWindow implements Window {
+
+    private final GraphicsConfiguration configuration;
+    private final StandbyProxyRenderer renderer;
+    private String title = "";
+    private Offset position = Offset.origin();
+    private boolean isOpen = false;
+    private boolean isRendering = false;
+
+    public HeadlessWindow(final GraphicsConfiguration configuration, final StandbyProxyRenderer renderer) {
+        this.configuration = configuration;
+        this.renderer = renderer;
+        configuration.addListener(event -> {
+            if (GraphicsConfigurationEvent.ConfigurationProperty.OFFSCREEN_RENDERING.equals(event.changedProperty())) {
+                updateRendering();
+            }
+        });
+    }
+
+    @Override
+    public Offset position() {
+        return position;
+    }
+
+    @Override
+    public boolean hasFocus() {
+        return false;
+    }
+
+    @Override
+    public Window open() {
+        isOpen = true;
+        updateRendering();
+        return this;
+    }
+
+    @Override
+    public Window close() {
+        isOpen = false;
+        updateRendering();
+        return this;
+    }
+
+    @Override
+    public Window setTitle(final String title) {
+        this.title = requireNonNull(title, "title must not be null");
+        return this;
+    }
+
+    @Override
+    public Window moveTo(final Offset position) {
+        this.position = requireNonNull(position, "position must not be null");
+        return this;
+    }
+
+    @Override
+    public Optional<FilesDroppedOnWindow> filesDroppedOnWindow() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Window setCursor(final MouseCursor cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setWindowCursor(final MouseCursor cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setFullscreenCursor(final MouseCursor cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setCursor(final Sprite cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setFullscreenCursor(final Sprite cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setWindowCursor(final Sprite cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setApplicationIcon(final Sprite icon) {
+        return this;
+    }
+
+    @Override
+    public String title() {
+        return title;
+    }
+
+    @Override
+    public Size size() {
+        return configuration.resolution();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    private void updateRendering() {
+        final boolean mustRender = isOpen && configuration.isUseOffscreenRendering();
+        if (mustRender != isRendering) {
+            renderer.toggle();
+            isRendering = mustRender;
+        }
+    }
+}
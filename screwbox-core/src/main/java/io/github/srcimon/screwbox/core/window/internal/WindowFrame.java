@@ -1,8 +1,10 @@
 package io.github.srcimon.screwbox.core.window.internal;
 
+import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.Size;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
 import io.github.srcimon.screwbox.core.graphics.SpriteBundle;
+import io.github.srcimon.screwbox.core.graphics.internal.ScreenSurface;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,7 +12,7 @@ import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.io.Serial;
 
-public class WindowFrame extends JFrame implements WindowFocusListener {
+public class WindowFrame extends JFrame implements WindowFocusListener, ScreenSurface {
 
     @Serial
     private static final long serialVersionUID = 1L;
@@ -68,6 +70,26 @@ public class WindowFrame extends JFrame implements WindowFocusListener {
         return SpriteBundle.ICON.get();
     }
 
+    @Override
+    public Offset canvasPosition() {
+        final var bounds = getBounds();
+        return Offset.at(bounds.x, bounds.y - canvasHeight() + bounds.height);
+    }
+
+    @Override
+    public Rectangle captureArea() {
+        final int menuBarHeight = getJMenuBar() == null ? 0 : getJMenuBar().getHeight();
+        final Size canvasSize = getCanvasSize();
+        return new Rectangle(getX(), getY() + getInsets().top + menuBarHeight, canvasSize.width(), canvasSize.height());
+    }
+
+    @Override
+    public Graphics2D nextFrameGraphics() {
+        getCanvas().getBufferStrategy().show();
+        return (Graphics2D) getCanvas().getBufferStrategy().getDrawGraphics();
+    }
+
+    @Override
     public Size getCanvasSize() {
         final var bounds = getCanvas().getBounds();
         return bounds.width == 0
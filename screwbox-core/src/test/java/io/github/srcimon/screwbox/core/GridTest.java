@@ -24,6 +24,27 @@ class GridTest {
         assertThat(result.area()).isEqualTo(area);
     }
 
+    @Test
+    void isUsingDiagonalSearch_diagonalSearchDisabled_isFalse() {
+        Grid grid = new Grid(Bounds.atOrigin(0, 0, 64, 64), 2, false);
+
+        assertThat(grid.isUsingDiagonalSearch()).isFalse();
+        assertThat(grid.clearedInstance().isUsingDiagonalSearch()).isFalse();
+    }
+
+    @Test
+    void version_nodesBlockedAndFreed_changesVersion() {
+        Grid grid = new Grid(Bounds.atOrigin(0, 0, 64, 64), 2);
+        int initialVersion = grid.version();
+
+        grid.block(1, 2);
+        int versionAfterBlock = grid.version();
+        grid.freeArea(Bounds.atOrigin(0, 0, 8, 8));
+
+        assertThat(versionAfterBlock).isNotEqualTo(initialVersion);
+        assertThat(grid.version()).isNotEqualTo(versionAfterBlock);
+    }
+
     @Test
     void newInstance_areaNull_throwsException() {
         assertThatThrownBy(() -> new Grid(null, 4))
@@ -0,0 +1,55 @@
+package io.github.srcimon.screwbox.core;
+
+import io.github.srcimon.screwbox.core.audio.SoundBundle;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScrewBoxTest {
+
+    @Test
+    @Timeout(10)
+    void createHeadlessEngine_startedWithUnlockedFps_runsSimulationWithoutWindow() {
+        Engine engine = ScrewBox.createHeadlessEngine("Simulation");
+        engine.loop().unlockFps();
+        engine.environment().addSystem(e -> {
+            e.audio().playSound(SoundBundle.JUMP);
+            if (e.loop().frameNumber() >= 100) {
+                e.stop();
+            }
+        });
+
+        engine.start();
+
+        assertThat(engine.loop().frameNumber()).isGreaterThanOrEqualTo(100);
+        assertThat(engine.window().title()).isEqualTo("Simulation");
+        assertThat(engine.audio().lineCount()).isZero();
+        assertThat(engine.graphics().screen().size()).isEqualTo(engine.graphics().configuration().resolution());
+    }
+
+    @Test
+    @Timeout(10)
+    void createHeadlessEngine_offscreenRenderingEnabled_rendersFramesThatCanBeCaptured() {
+        Engine engine = ScrewBox.createHeadlessEngine();
+        engine.graphics().configuration().setUseOffscreenRendering(true).setResolution(320, 240);
+        AtomicInteger updates = new AtomicInteger();
+        engine.environment().addSystem(e -> {
+            e.graphics().canvas().fillWith(Color.RED);
+            if (updates.incrementAndGet() == 10) {
+                e.stop();
+            }
+        });
+
+        engine.start();
+
+        Sprite screenshot = engine.graphics().screen().takeScreenshot();
+        assertThat(screenshot.size()).isEqualTo(Size.of(320, 240));
+        assertThat(((java.awt.image.BufferedImage) screenshot.singleImage()).getRGB(100, 100)).isEqualTo(java.awt.Color.RED.getRGB());
+    }
+}
@@ -43,6 +43,14 @@ class AudioConfigurationTest {
         verify(listener).configurationChanged(argThat(event -> event.changedProperty().equals(MICROPHONE_TIMEOUT)));
     }
 
+    @Test
+    void setMixerModeEnabled_true_enablesMixerModeAndNotifiesListeners() {
+        configuration.setMixerModeEnabled(true);
+
+        assertThat(configuration.isMixerModeEnabled()).isTrue();
+        verify(listener).configurationChanged(argThat(event -> event.changedProperty().equals(MIXER_MODE)));
+    }
+
     @Test
     void muteMusic_musicUnmuted_mutesMusic() {
         configuration.muteMusic();
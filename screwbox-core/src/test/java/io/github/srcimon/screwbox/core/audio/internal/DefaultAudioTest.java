@@ -21,8 +21,11 @@ import java.util.concurrent.ExecutorService;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @Timeout(1)
@@ -46,6 +49,9 @@ class DefaultAudioTest {
     @Mock
     ExecutorService executor;
 
+    @Mock
+    SoundMixer soundMixer;
+
     @Spy
     AudioConfiguration configuration = new AudioConfiguration();
 
@@ -199,4 +205,38 @@ class DefaultAudioTest {
         assertThat(audio.soundsPlayedCount()).isZero();
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void playSound_mixerModeEnabled_addsPlaybackToMixer() {
+        when(dynamicSoundSupport.currentVolume(SoundOptions.playOnce())).thenReturn(Percent.half());
+        when(dynamicSoundSupport.currentPan(SoundOptions.playOnce())).thenReturn(-0.5);
+        configuration.setMixerModeEnabled(true);
+
+        var playback = audio.playSound(SOUND);
+
+        verify(soundMixer).play(argThat(activePlayback -> activePlayback.id().equals(playback.id())
+                && activePlayback.volume() == 0.5 && activePlayback.pan() == -0.5), any());
+        verifyNoInteractions(executor);
+        assertThat(audio.playbackIsActive(playback)).isTrue();
+    }
+
+    @Test
+    void stopPlayback_mixerModeEnabled_stopsPlaybackInMixer() {
+        when(dynamicSoundSupport.currentVolume(SoundOptions.playOnce())).thenReturn(Percent.max());
+        configuration.setMixerModeEnabled(true);
+        var playback = audio.playSound(SOUND);
+
+        audio.stopPlayback(playback);
+
+        verify(soundMixer).stop(argThat(activePlayback -> activePlayback.id().equals(playback.id())));
+        assertThat(audio.playbackIsActive(playback)).isFalse();
+    }
+
+    @Test
+    void lineCount_mixerHasLine_includesMixerLine() {
+        when(audioLinePool.size()).thenReturn(2);
+        when(soundMixer.lineCount()).thenReturn(1);
+
+        assertThat(audio.lineCount()).isEqualTo(3);
+    }
+}
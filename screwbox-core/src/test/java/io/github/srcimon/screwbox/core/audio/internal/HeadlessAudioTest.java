@@ -0,0 +1,38 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import io.github.srcimon.screwbox.core.audio.AudioConfiguration;
+import io.github.srcimon.screwbox.core.audio.Sound;
+import io.github.srcimon.screwbox.core.audio.SoundBundle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeadlessAudioTest {
+
+    HeadlessAudio audio;
+
+    @BeforeEach
+    void setUp() {
+        audio = new HeadlessAudio(new AudioConfiguration());
+    }
+
+    @Test
+    void playSound_soundValid_completesPlaybackImmediately() {
+        var playback = audio.playSound(SoundBundle.JUMP);
+
+        assertThat(audio.playbackIsActive(playback)).isFalse();
+        assertThat(audio.soundsPlayedCount()).isOne();
+        assertThat(audio.completedPlaybackCount()).isOne();
+        assertThat(audio.activePlaybacks()).isEmpty();
+        assertThat(audio.lineCount()).isZero();
+    }
+
+    @Test
+    void playSound_soundNull_throwsException() {
+        assertThatThrownBy(() -> audio.playSound((Sound) null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("sound must not be null");
+    }
+}
@@ -0,0 +1,243 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import io.github.srcimon.screwbox.core.Percent;
+import io.github.srcimon.screwbox.core.audio.Sound;
+import io.github.srcimon.screwbox.core.audio.SoundOptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class SoundMixerTest {
+
+    private static final Sound SOUND = createSound(1000, 2000, 300);
+
+    @InjectMocks
+    SoundMixer soundMixer;
+
+    @Mock
+    Executor executor;
+
+    @Mock
+    AudioAdapter audioAdapter;
+
+    @Mock
+    SoundMixer.Listener listener;
+
+    @BeforeEach
+    void setUp() {
+        soundMixer.prepare(SOUND);
+    }
+
+    @Test
+    void play_soundNotDecoded_decodesUsingExecutorBeforeMixing() {
+        var sound = createSound(100, 200, 50);
+        var playback = new ActivePlayback(sound, SoundOptions.playOnce());
+
+        soundMixer.play(playback, listener);
+
+        assertThat(soundMixer.voiceCount()).isZero();
+
+        var decoding = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(decoding.capture());
+        decoding.getValue().run();
+
+        assertThat(soundMixer.voiceCount()).isOne();
+        verify(executor, times(2)).execute(any());
+    }
+
+    @Test
+    void play_playbackStoppedWhileDecoding_isNotMixed() {
+        var sound = createSound(100, 200, 50);
+        var playback = new ActivePlayback(sound, SoundOptions.playOnce());
+        soundMixer.play(playback, listener);
+        soundMixer.stop(playback);
+
+        var decoding = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(decoding.capture());
+        decoding.getValue().run();
+
+        assertThat(soundMixer.mixNextBuffer()).containsOnly(0);
+        verify(listener).playbackCompleted(playback);
+    }
+
+    @Test
+    void play_mixingFailedBefore_restartsMixing() {
+        when(audioAdapter.createSourceLine(any(), anyInt())).thenThrow(new IllegalStateException("no line"));
+        var playback = new ActivePlayback(SOUND, SoundOptions.playOnce());
+        soundMixer.play(playback, listener);
+
+        var mixing = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(mixing.capture());
+        Runnable mixingThread = mixing.getValue();
+        assertThatThrownBy(mixingThread::run).hasMessage("no line");
+
+        verify(listener).playbackCompleted(playback);
+        assertThat(soundMixer.voiceCount()).isZero();
+        assertThat(soundMixer.lineCount()).isZero();
+
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+
+        verify(executor, times(2)).execute(any());
+    }
+
+    @Test
+    void play_allPlaybacksCompleted_closesLine() {
+        SourceDataLine line = mock(SourceDataLine.class);
+        when(audioAdapter.createSourceLine(any(), anyInt())).thenReturn(line);
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+
+        var mixing = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(mixing.capture());
+        mixing.getValue().run();
+
+        verify(line, times(2)).write(any(), eq(0), anyInt());
+        verify(line).drain();
+        verify(line).close();
+        assertThat(soundMixer.lineCount()).isZero();
+    }
+
+    @Test
+    void play_twoPlaybacks_startsMixingThreadOnce() {
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+
+        verify(executor).execute(any());
+        assertThat(soundMixer.voiceCount()).isEqualTo(2);
+    }
+
+    @Test
+    void mixNextBuffer_noPlayback_isSilent() {
+        assertThat(soundMixer.mixNextBuffer()).containsOnly(0);
+    }
+
+    @Test
+    void mixNextBuffer_halfVolume_mixesScaledSamples() {
+        var playback = new ActivePlayback(SOUND, SoundOptions.playOnce());
+        playback.setVolume(Percent.half());
+        soundMixer.play(playback, listener);
+
+        byte[] buffer = soundMixer.mixNextBuffer();
+
+        assertThat(leftSample(buffer, 10)).isEqualTo(500);
+        assertThat(rightSample(buffer, 10)).isEqualTo(1000);
+    }
+
+    @Test
+    void mixNextBuffer_twoPlaybacks_sumsSamples() {
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+
+        byte[] buffer = soundMixer.mixNextBuffer();
+
+        assertThat(leftSample(buffer, 0)).isEqualTo(2000);
+        assertThat(rightSample(buffer, 0)).isEqualTo(4000);
+    }
+
+    @Test
+    void mixNextBuffer_pannedLeft_rightChannelIsSilent() {
+        var playback = new ActivePlayback(SOUND, SoundOptions.playOnce());
+        playback.setPan(-1);
+        soundMixer.play(playback, listener);
+
+        byte[] buffer = soundMixer.mixNextBuffer();
+
+        assertThat(leftSample(buffer, 0)).isEqualTo(1000);
+        assertThat(rightSample(buffer, 0)).isZero();
+    }
+
+    @Test
+    void mixNextBuffer_soundPlayedTwice_notifiesListenerAndRemovesPlayback() {
+        var playback = new ActivePlayback(SOUND, SoundOptions.playTimes(2));
+        soundMixer.play(playback, listener);
+
+        soundMixer.mixNextBuffer();
+        soundMixer.mixNextBuffer();
+        soundMixer.mixNextBuffer();
+
+        verify(listener, times(2)).soundPlayed(playback);
+        verify(listener).playbackCompleted(playback);
+        assertThat(soundMixer.voiceCount()).isZero();
+    }
+
+    @Test
+    void mixNextBuffer_soundEndsWithinBuffer_fillsRestWithSilence() {
+        soundMixer.play(new ActivePlayback(SOUND, SoundOptions.playOnce()), listener);
+
+        soundMixer.mixNextBuffer();
+        byte[] buffer = soundMixer.mixNextBuffer();
+
+        assertThat(leftSample(buffer, 300 - SoundMixer.FRAMES_PER_BUFFER - 1)).isEqualTo(1000);
+        assertThat(leftSample(buffer, 300 - SoundMixer.FRAMES_PER_BUFFER)).isZero();
+    }
+
+    @Test
+    void mixNextBuffer_playbackStopped_removesPlaybackWithoutMixing() {
+        var playback = new ActivePlayback(SOUND, SoundOptions.playContinuously());
+        soundMixer.play(playback, listener);
+
+        soundMixer.stop(playback);
+        byte[] buffer = soundMixer.mixNextBuffer();
+
+        assertThat(buffer).containsOnly(0);
+        verify(listener, never()).soundPlayed(any());
+        verify(listener).playbackCompleted(playback);
+    }
+
+    @Test
+    void lineCount_mixerNotStarted_isZero() {
+        assertThat(soundMixer.lineCount()).isZero();
+    }
+
+    private static int leftSample(final byte[] buffer, final int frame) {
+        return sample(buffer, frame * 2);
+    }
+
+    private static int rightSample(final byte[] buffer, final int frame) {
+        return sample(buffer, frame * 2 + 1);
+    }
+
+    private static int sample(final byte[] buffer, final int index) {
+        return (short) ((buffer[index * 2] & 0xff) | (buffer[index * 2 + 1] << 8));
+    }
+
+    private static Sound createSound(final int left, final int right, final int frames) {
+        final byte[] pcm = new byte[frames * 4];
+        for (int frame = 0; frame < frames; frame++) {
+            pcm[frame * 4] = (byte) left;
+            pcm[frame * 4 + 1] = (byte) (left >> 8);
+            pcm[frame * 4 + 2] = (byte) right;
+            pcm[frame * 4 + 3] = (byte) (right >> 8);
+        }
+        try (var output = new ByteArrayOutputStream();
+             var input = new AudioInputStream(new ByteArrayInputStream(pcm), SoundMixer.MIX_FORMAT, frames)) {
+            AudioSystem.write(input, AudioFileFormat.Type.WAVE, output);
+            return Sound.fromSoundData(output.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package io.github.srcimon.screwbox.core.environment.ai;
 
+import io.github.srcimon.screwbox.core.Grid;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsSystem;
 import io.github.srcimon.screwbox.core.loop.Loop;
+import io.github.srcimon.screwbox.core.physics.DijkstraAlgorithm;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+import io.github.srcimon.screwbox.core.physics.Physics;
 import io.github.srcimon.screwbox.core.test.EnvironmentExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Optional;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
 import static io.github.srcimon.screwbox.core.Vector.$;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.offset;
@@ -34,4 +41,34 @@ class TargetMovementSystemTest {
         assertThat(entity.position().x()).isEqualTo(100, offset(0.5));
         assertThat(entity.position().y()).isEqualTo(10, offset(0.5));
     }
+
+    @Test
+    void update_avoidObstacles_movesEntityAroundWall(DefaultEnvironment environment, Loop loop, Physics physics) {
+        Grid grid = new Grid($$(-64, -64, 256, 128), 16);
+        grid.blockArea($$(32, -64, 16, 96));
+        FlowField flowField = new DijkstraAlgorithm().flowField(grid, grid.toGrid($(100, 10)));
+        when(physics.grid()).thenReturn(Optional.of(grid));
+        when(physics.flowField($(100, 10))).thenReturn(flowField);
+        when(loop.delta()).thenReturn(0.05);
+        TargetMovementComponent target = new TargetMovementComponent($(100, 10));
+        target.avoidObstacles = true;
+        environment
+                .addSystem(new TargetMovementSystem())
+                .addSystem(new PhysicsSystem())
+                .addEntity(1, "mover",
+                        target,
+                        new TransformComponent(),
+                        new PhysicsComponent());
+
+        double maxY = 0;
+        for (int i = 0; i < 200; i++) {
+            environment.update();
+            maxY = Math.max(maxY, environment.fetchById(1).position().y());
+        }
+
+        var entity = environment.fetchById(1);
+        assertThat(maxY).isGreaterThan(32);
+        assertThat(entity.position().x()).isEqualTo(100, offset(2.0));
+        assertThat(entity.position().y()).isEqualTo(10, offset(2.0));
+    }
 }
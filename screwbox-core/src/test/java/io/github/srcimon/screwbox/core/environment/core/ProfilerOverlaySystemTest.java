@@ -0,0 +1,61 @@
+package io.github.srcimon.screwbox.core.environment.core;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Time;
+import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
+import io.github.srcimon.screwbox.core.graphics.Canvas;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SystemTextDrawOptions;
+import io.github.srcimon.screwbox.core.loop.Loop;
+import io.github.srcimon.screwbox.core.loop.PhaseTiming;
+import io.github.srcimon.screwbox.core.loop.Profiler;
+import io.github.srcimon.screwbox.core.test.EnvironmentExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(EnvironmentExtension.class)
+class ProfilerOverlaySystemTest {
+
+    @Test
+    void newInstance_maxPhasesZero_throwsException() {
+        assertThatThrownBy(() -> new ProfilerOverlaySystem(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("max phases must be positive");
+    }
+
+    @Test
+    void update_profilerDisabled_enablesProfiler(DefaultEnvironment environment, Loop loop) {
+        Profiler profiler = mock(Profiler.class);
+        when(loop.profiler()).thenReturn(profiler);
+        when(loop.time()).thenReturn(Time.now());
+
+        environment.addSystem(new ProfilerOverlaySystem());
+        environment.update();
+
+        verify(profiler).enable();
+    }
+
+    @Test
+    void update_timingsPresent_drawsTimingsOnCanvas(DefaultEnvironment environment, Loop loop, Canvas canvas) {
+        Profiler profiler = mock(Profiler.class);
+        when(profiler.isEnabled()).thenReturn(true);
+        when(profiler.timings()).thenReturn(List.of(
+                new PhaseTiming("PhysicsSystem", Duration.ofMicros(1500), Duration.ofMillis(2), Duration.ofMillis(3), 100)));
+        when(loop.profiler()).thenReturn(profiler);
+        when(loop.time()).thenReturn(Time.now());
+
+        environment.addSystem(new ProfilerOverlaySystem());
+        environment.update();
+
+        verify(canvas).drawText(eq(Offset.at(8, 22)), eq("PhysicsSystem               1.50    2.00    3.00"), any(SystemTextDrawOptions.class));
+    }
+}
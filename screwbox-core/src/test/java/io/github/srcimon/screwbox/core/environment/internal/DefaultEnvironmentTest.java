@@ -32,6 +32,7 @@ import io.github.srcimon.screwbox.core.environment.tweening.TweenPositionSystem;
 import io.github.srcimon.screwbox.core.environment.tweening.TweenScaleSystem;
 import io.github.srcimon.screwbox.core.environment.tweening.TweenSystem;
 import io.github.srcimon.screwbox.core.keyboard.Keyboard;
+import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.utils.Cache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -81,6 +82,69 @@ class DefaultEnvironmentTest {
         assertThat(cache.get("key")).contains("last");
     }
 
+    @Test
+    void update_parallelSystemUpdatesEnabled_updatesAllSystems() {
+        Entity body = new Entity().add(new PhysicsComponent(Vector.of(10, 0)), new AirFrictionComponent(1));
+        Entity spinner = new Entity().add(new RenderComponent(), new FixedSpinComponent(1));
+        Loop loop = mock(Loop.class);
+        when(loop.delta()).thenReturn(0.5);
+        when(engine.environment()).thenReturn(environment);
+        when(engine.loop()).thenReturn(loop);
+
+        environment.setParallelSystemUpdatesEnabled(true)
+                .addEntities(body, spinner)
+                .addSystems(new AirFrictionSystem(), new FixedSpinSystem());
+
+        environment.update();
+
+        assertThat(environment.isParallelSystemUpdatesEnabled()).isTrue();
+        assertThat(body.get(PhysicsComponent.class).momentum).isEqualTo(Vector.of(9.5, 0));
+        assertThat(spinner.get(RenderComponent.class).options.spin().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void forEachParallel_moreEntitiesThanChunkSize_appliesActionOnAllEntities() {
+        for (int i = 0; i < 100; i++) {
+            environment.addEntity(new PhysicsComponent());
+        }
+
+        environment.setMinimumChunkSize(4)
+                .forEachParallel(Archetype.of(PhysicsComponent.class), entity -> entity.get(PhysicsComponent.class).momentum = Vector.x(4));
+
+        assertThat(environment.fetchAllHaving(PhysicsComponent.class))
+                .allMatch(entity -> entity.get(PhysicsComponent.class).momentum.equals(Vector.x(4)));
+    }
+
+    @Test
+    void forEachParallel_actionAddsEntities_addsEntitiesAfterIteration() {
+        for (int i = 0; i < 20; i++) {
+            environment.addEntity(new PhysicsComponent());
+        }
+
+        environment.setMinimumChunkSize(2)
+                .forEachParallel(Archetype.of(PhysicsComponent.class), entity -> environment.addEntity(new TransformComponent()));
+
+        assertThat(environment.entityCount()).isEqualTo(40);
+    }
+
+    @Test
+    void forEachParallel_lessEntitiesThanChunkSizeAndActionRemovesEntities_removesEntitiesAfterIteration() {
+        for (int i = 0; i < 10; i++) {
+            environment.addEntity(new PhysicsComponent());
+        }
+
+        environment.forEachParallel(Archetype.of(PhysicsComponent.class), environment::remove);
+
+        assertThat(environment.entityCount()).isZero();
+    }
+
+    @Test
+    void setMinimumChunkSize_zero_throwsException() {
+        assertThatThrownBy(() -> environment.setMinimumChunkSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("minimum chunk size must be positive");
+    }
+
     @Test
     void addEntity_entityNull_exception() {
         assertThatThrownBy(() -> environment.addEntity((Entity) null))
@@ -83,6 +83,18 @@ class EntityManagerTest {
         assertThat(entityManager.allEntities()).hasSize(2);
     }
 
+    @Test
+    void addEntity_entityAlreadyAdded_throwsException() {
+        Entity entity = new Entity().name("player");
+        entityManager.addEntity(entity);
+
+        assertThatThrownBy(() -> entityManager.addEntity(entity))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("entity already added: Entity[name='player', components=none]");
+
+        assertThat(entityManager.allEntities()).containsExactly(entity);
+    }
+
     @Test
     void entitiesMatching_archetypeNull_throwsException() {
         assertThatThrownBy(() -> entityManager.entitiesMatching(null))
@@ -155,4 +167,53 @@ class EntityManagerTest {
 
         assertThat(entityManager.findById(666)).isNull();
     }
+
+    @Test
+    void componentRemovedFromManagedEntity_pickedUpChanges_keepsOtherEntitiesCached() {
+        Archetype physicsEntities = Archetype.of(PhysicsComponent.class);
+        Entity first = new Entity().add(new PhysicsComponent());
+        Entity second = new Entity().add(new PhysicsComponent());
+        Entity third = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(first);
+        entityManager.addEntity(second);
+        entityManager.addEntity(third);
+        entityManager.entitiesMatching(physicsEntities); // create cached request
+
+        first.remove(PhysicsComponent.class);
+        entityManager.pickUpChanges();
+        third.remove(PhysicsComponent.class);
+        entityManager.pickUpChanges();
+
+        assertThat(entityManager.entitiesMatching(physicsEntities)).containsExactly(second);
+    }
+
+    @Test
+    void componentRemovedFromManagedEntity_multipleArchetypesCached_updatesAllCaches() {
+        Archetype physicsEntities = Archetype.of(PhysicsComponent.class);
+        Archetype colliderEntities = Archetype.of(ColliderComponent.class);
+        Entity entity = new Entity().add(new PhysicsComponent(), new ColliderComponent(), new StaticColliderComponent());
+        entityManager.addEntity(entity);
+        entityManager.entitiesMatching(physicsEntities); // create cached request
+        entityManager.entitiesMatching(colliderEntities); // create cached request
+
+        entity.remove(ColliderComponent.class);
+        entityManager.pickUpChanges();
+
+        assertThat(entityManager.entitiesMatching(physicsEntities)).containsExactly(entity);
+        assertThat(entityManager.entitiesMatching(colliderEntities)).isEmpty();
+    }
+
+    @Test
+    void componentAddedToRemovedEntity_pickedUpChanges_doesntAddEntityToCache() {
+        Archetype colliderEntities = Archetype.of(ColliderComponent.class);
+        Entity entity = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        entityManager.entitiesMatching(colliderEntities); // create cached request
+        entityManager.removeEntity(entity);
+
+        entity.add(new ColliderComponent());
+        entityManager.pickUpChanges();
+
+        assertThat(entityManager.entitiesMatching(colliderEntities)).isEmpty();
+    }
 }
@@ -1,7 +1,12 @@
 package io.github.srcimon.screwbox.core.environment.internal;
 
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.physics.CollisionSensorSystem;
 import io.github.srcimon.screwbox.core.environment.physics.OptimizePhysicsPerformanceSystem;
+import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.loop.internal.DefaultProfiler;
+import io.github.srcimon.screwbox.core.loop.internal.SimulationTimestep;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +18,7 @@ class SystemManagerTest {
 
     @BeforeEach
     void beforeEach() {
-        systemManager = new SystemManager(null, null);
+        systemManager = new SystemManager(null, null, new DefaultProfiler(), new SimulationTimestep());
     }
 
 
@@ -48,4 +53,80 @@ class SystemManagerTest {
         assertThat(systemManager.allSystems().getFirst()).isInstanceOf(OptimizePhysicsPerformanceSystem.class);
     }
 
+
+    @Test
+    void updateAllSystems_profilerEnabled_recordsTimingOfSystems() {
+        DefaultProfiler profiler = new DefaultProfiler();
+        profiler.enable();
+        systemManager = new SystemManager(null, new EntityManager(), profiler, new SimulationTimestep());
+        systemManager.addSystem(new ProfiledSystem());
+
+        systemManager.updateAllSystems();
+
+        assertThat(profiler.timing("ProfiledSystem")).isPresent();
+    }
+
+    @Test
+    void updateAllSystems_threeSimulationSteps_updatesSimulationSystemsThreeTimesAndPresentationSystemsOnce() {
+        SimulationTimestep timestep = new SimulationTimestep() {
+            @Override
+            public int simulationSteps() {
+                return 3;
+            }
+        };
+        systemManager = new SystemManager(null, new EntityManager(), new DefaultProfiler(), timestep);
+        CountingSystem simulationSystem = new CountingSystem();
+        CountingPresentationSystem presentationSystem = new CountingPresentationSystem();
+        systemManager.addSystem(simulationSystem);
+        systemManager.addSystem(presentationSystem);
+
+        systemManager.updateAllSystems();
+
+        assertThat(simulationSystem.updates).isEqualTo(3);
+        assertThat(presentationSystem.updates).isEqualTo(1);
+    }
+
+    @Test
+    void updateAllSystems_parallelUpdatesAndThreeSimulationSteps_updatesSimulationSystemsThreeTimes() {
+        SimulationTimestep timestep = new SimulationTimestep() {
+            @Override
+            public int simulationSteps() {
+                return 3;
+            }
+        };
+        systemManager = new SystemManager(null, new EntityManager(), new DefaultProfiler(), timestep);
+        systemManager.setParallelUpdates(true);
+        CountingSystem simulationSystem = new CountingSystem();
+        CountingPresentationSystem presentationSystem = new CountingPresentationSystem();
+        systemManager.addSystem(simulationSystem);
+        systemManager.addSystem(presentationSystem);
+
+        systemManager.updateAllSystems();
+
+        assertThat(simulationSystem.updates).isEqualTo(3);
+        assertThat(presentationSystem.updates).isEqualTo(1);
+    }
+
+    private static class CountingSystem implements EntitySystem {
+
+        int updates = 0;
+
+        @Override
+        public void update(final Engine engine) {
+            updates++;
+        }
+    }
+
+    @Order(Order.SystemOrder.PRESENTATION_WORLD)
+    private static class CountingPresentationSystem extends CountingSystem {
+
+    }
+
+    private static class ProfiledSystem implements EntitySystem {
+
+        @Override
+        public void update(final Engine engine) {
+            // nothing to do
+        }
+    }
 }
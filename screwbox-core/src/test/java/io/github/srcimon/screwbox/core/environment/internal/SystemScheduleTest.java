@@ -0,0 +1,60 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.environment.physics.AirFrictionSystem;
+import io.github.srcimon.screwbox.core.environment.physics.CollisionSensorSystem;
+import io.github.srcimon.screwbox.core.environment.physics.FrictionSystem;
+import io.github.srcimon.screwbox.core.environment.rendering.FixedSpinSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemScheduleTest {
+
+    @Test
+    void createWaves_noConflicts_createsSingleWave() {
+        var airFriction = new AirFrictionSystem();
+        var fixedSpin = new FixedSpinSystem();
+
+        var waves = SystemSchedule.createWaves(List.of(airFriction, fixedSpin), system -> Order.SystemOrder.SIMULATION);
+
+        assertThat(waves).containsExactly(List.of(airFriction, fixedSpin));
+    }
+
+    @Test
+    void createWaves_writingSameComponent_createsWavesInOrderOfSystems() {
+        var airFriction = new AirFrictionSystem();
+        var friction = new FrictionSystem();
+        var fixedSpin = new FixedSpinSystem();
+
+        var waves = SystemSchedule.createWaves(List.of(airFriction, friction, fixedSpin), system -> Order.SystemOrder.SIMULATION);
+
+        assertThat(waves).containsExactly(List.of(airFriction, fixedSpin), List.of(friction));
+    }
+
+    @Test
+    void createWaves_systemWithoutComponentAccess_isolatesSystem() {
+        var airFriction = new AirFrictionSystem();
+        var collisionSensor = new CollisionSensorSystem();
+        var fixedSpin = new FixedSpinSystem();
+
+        var waves = SystemSchedule.createWaves(List.of(airFriction, collisionSensor, fixedSpin), system -> Order.SystemOrder.SIMULATION);
+
+        assertThat(waves).containsExactly(List.of(airFriction), List.of(collisionSensor), List.of(fixedSpin));
+    }
+
+    @Test
+    void createWaves_differentOrders_neverMergesSystemsOfDifferentOrders() {
+        var airFriction = new AirFrictionSystem();
+        var fixedSpin = new FixedSpinSystem();
+
+        var waves = SystemSchedule.createWaves(List.of(airFriction, fixedSpin), system -> system == airFriction
+                ? Order.SystemOrder.SIMULATION_EARLY
+                : Order.SystemOrder.SIMULATION);
+
+        assertThat(waves).containsExactly(List.<EntitySystem>of(airFriction), List.<EntitySystem>of(fixedSpin));
+    }
+}
@@ -67,4 +67,63 @@ class PhysicsSystemTest {
         assertThat(ballPosition).isEqualTo(Vector.of(60, 190));
     }
 
+    @Test
+    void update_colliderMovedBetweenUpdates_collidesAtNewPosition(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.1);
+
+        Entity box = new Entity().add(
+                new TransformComponent(Bounds.atOrigin(500, 0, 20, 20)),
+                new PhysicsComponent());
+
+        Entity platform = new Entity().add(
+                new TransformComponent(Bounds.atOrigin(0, 0, 40, 40)),
+                new ColliderComponent());
+
+        environment.addEntities(box, platform)
+                .addSystem(new PhysicsSystem());
+
+        environment.update();
+        platform.moveTo(Vector.of(500, 0));
+        environment.update();
+
+        assertThat(box.bounds().intersects(platform.bounds())).isFalse();
+    }
+
+    @Test
+    void update_fewBodies_resolvesCollisionsBeforeMovingNextBody(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.1);
+        Entity first = movingCollider(0);
+        Entity second = movingCollider(15);
+
+        environment.addEntities(first, second)
+                .addSystem(new PhysicsSystem());
+
+        environment.update();
+
+        assertThat(first.origin()).isEqualTo(Vector.of(5, 0));
+        assertThat(second.origin()).isEqualTo(Vector.of(25, 0));
+    }
+
+    @Test
+    void update_moreBodiesThanChunkSize_movesAllBodiesBeforeResolvingCollisions(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.1);
+        Entity first = movingCollider(0);
+        Entity second = movingCollider(15);
+
+        environment.setMinimumChunkSize(1)
+                .addEntities(first, second)
+                .addSystem(new PhysicsSystem());
+
+        environment.update();
+
+        assertThat(first.origin()).isEqualTo(Vector.of(10, 0));
+        assertThat(second.origin()).isEqualTo(Vector.of(25, 0));
+    }
+
+    private static Entity movingCollider(final double x) {
+        return new Entity().add(
+                new TransformComponent(Bounds.atOrigin(x, 0, 10, 10)),
+                new PhysicsComponent(Vector.of(100, 0)),
+                new ColliderComponent());
+    }
 }
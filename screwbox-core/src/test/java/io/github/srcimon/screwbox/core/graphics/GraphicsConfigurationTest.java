@@ -157,4 +157,24 @@ class GraphicsConfigurationTest {
         verify(graphicsConfigListener).configurationChanged(argThat(
                 event -> event.changedProperty().equals(AUTO_ENABLE_LIGHT)));
     }
+
+    @Test
+    void setLightAreaAlgorithm_updatesOptionAndNotifiesListeners() {
+        graphicsConfiguration.setLightAreaAlgorithm(LightAreaAlgorithm.ANGULAR_SWEEP);
+
+        assertThat(graphicsConfiguration.lightAreaAlgorithm()).isEqualTo(LightAreaAlgorithm.ANGULAR_SWEEP);
+
+        verify(graphicsConfigListener).configurationChanged(argThat(
+                event -> event.changedProperty().equals(LIGHT_AREA_ALGORITHM)));
+    }
+
+    @Test
+    void setUseRasterLightmap_updatesOptionAndNotifiesListeners() {
+        graphicsConfiguration.setUseRasterLightmap(true);
+
+        assertThat(graphicsConfiguration.isUseRasterLightmap()).isTrue();
+
+        verify(graphicsConfigListener).configurationChanged(argThat(
+                event -> event.changedProperty().equals(RASTER_LIGHTMAP)));
+    }
 }
@@ -0,0 +1,93 @@
+package io.github.srcimon.screwbox.core.graphics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpriteAtlasTest {
+
+    @Test
+    void pack_maxPageSizeInvalid_throwsException() {
+        List<Sprite> sprites = List.of();
+        Size invalidSize = Size.none();
+
+        assertThatThrownBy(() -> SpriteAtlas.pack(sprites, invalidSize))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("max page size must be valid");
+    }
+
+    @Test
+    void pack_noSprites_hasNoPages() {
+        var atlas = SpriteAtlas.pack(List.of());
+
+        assertThat(atlas.pageCount()).isZero();
+    }
+
+    @Test
+    void pack_spritesFitOnSinglePage_packsAllFramesOnOnePage() {
+        var atlas = SpriteAtlas.pack(List.of(Sprite.placeholder(Color.RED, 16), Sprite.placeholder(Color.BLUE, 8)));
+
+        assertThat(atlas.pageCount()).isOne();
+        assertThat(atlas.pageSize(0)).isEqualTo(Size.of(26, 17));
+    }
+
+    @Test
+    void pack_spritesDontFitOnSinglePage_usesMultiplePages() {
+        var sprites = List.of(Sprite.placeholder(Color.RED, 16), Sprite.placeholder(Color.BLUE, 16), Sprite.placeholder(Color.BLUE, 16));
+
+        var atlas = SpriteAtlas.pack(sprites, Size.of(40, 20));
+
+        assertThat(atlas.pageCount()).isEqualTo(2);
+        assertThat(atlas.pageSize(0)).isEqualTo(Size.of(34, 17));
+        assertThat(atlas.pageSize(1)).isEqualTo(Size.of(17, 17));
+    }
+
+    @Test
+    void pack_spriteLargerThanPage_keepsOriginalFrames() {
+        var sprite = Sprite.placeholder(Color.RED, 64);
+
+        var atlas = SpriteAtlas.pack(List.of(sprite), Size.square(32));
+
+        assertThat(atlas.pageCount()).isZero();
+        assertThat(atlas.get(sprite).singleFrame()).isSameAs(sprite.singleFrame());
+    }
+
+    @Test
+    void get_packedSprite_hasSameContentAndAtlasRegion() {
+        var sprite = SpriteBundle.SLIME_MOVING.get();
+
+        var packed = SpriteAtlas.pack(SpriteBundle.SLIME_MOVING, SpriteBundle.DOT_RED).get(SpriteBundle.SLIME_MOVING);
+
+        assertThat(packed.frameCount()).isEqualTo(sprite.frameCount());
+        assertThat(packed.duration()).isEqualTo(sprite.duration());
+        for (int i = 0; i < sprite.frameCount(); i++) {
+            assertThat(packed.frame(i).atlasRegion()).isPresent();
+            assertThat(packed.frame(i).listPixelDifferences(sprite.frame(i))).isEmpty();
+        }
+    }
+
+    @Test
+    void get_framesSharedBySprites_packsFrameOnce() {
+        var frame = Sprite.placeholder(Color.RED, 16).singleFrame();
+        var first = new Sprite(frame);
+        var second = new Sprite(List.of(frame, frame));
+
+        var atlas = SpriteAtlas.pack(List.of(first, second));
+
+        assertThat(atlas.pageSize(0)).isEqualTo(Size.of(17, 17));
+        assertThat(atlas.get(second).frame(1)).isSameAs(atlas.get(first).singleFrame());
+    }
+
+    @Test
+    void get_spriteNotPacked_throwsException() {
+        var atlas = SpriteAtlas.pack(List.of());
+        var sprite = Sprite.invisible();
+
+        assertThatThrownBy(() -> atlas.get(sprite))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("sprite is not part of the sprite atlas");
+    }
+}
@@ -2,25 +2,34 @@ package io.github.srcimon.screwbox.core.graphics.internal;
 
 import io.github.srcimon.screwbox.core.Rotation;
 import io.github.srcimon.screwbox.core.graphics.Camera;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
 import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
 import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
 import io.github.srcimon.screwbox.core.graphics.Viewport;
-import io.github.srcimon.screwbox.core.window.internal.WindowFrame;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
-import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static io.github.srcimon.screwbox.core.Time.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @MockitoSettings
@@ -30,7 +39,7 @@ class DefaultScreenTest {
     DefaultScreen screen;
 
     @Mock
-    WindowFrame frame;
+    ScreenSurface surface;
 
     @Mock
     Robot robot;
@@ -38,9 +47,21 @@ class DefaultScreenTest {
     @Mock
     ViewportManager viewportManager;
 
+    @Mock
+    GraphicsConfiguration configuration;
+
+    @Mock
+    Renderer renderer;
+
+    @Mock
+    DefaultCanvas canvas;
+
+    @Mock
+    FrameCapture frameCapture;
+
     @Test
     void setCanvasBounds_canvasNotOnScreen_throwsException() {
-        when(frame.getCanvasSize()).thenReturn(Size.of(100, 100));
+        when(surface.getCanvasSize()).thenReturn(Size.of(100, 100));
 
         var outOfBounds = new ScreenBounds(-100, -200, 40, 40);
         assertThatThrownBy(() -> screen.setCanvasBounds(outOfBounds))
@@ -57,8 +78,7 @@ class DefaultScreenTest {
 
     @Test
     void position_returnsScreenPosition() {
-        when(frame.getBounds()).thenReturn(new Rectangle(40, 30, 1024, 768));
-        when(frame.canvasHeight()).thenReturn(600);
+        when(surface.canvasPosition()).thenReturn(Offset.at(40, 198));
 
         assertThat(screen.position()).isEqualTo(Offset.at(40, 198));
     }
@@ -71,14 +91,11 @@ class DefaultScreenTest {
     }
 
     @Test
-    void takeScreenshot_noMenuBar_createsScreenshotFromWholeWindow() {
+    void takeScreenshot_windowOpened_createsScreenshotOfCaptureArea() {
         var screenshot = new BufferedImage(30, 30, BufferedImage.TYPE_INT_ARGB);
-        when(frame.isVisible()).thenReturn(true);
-        when(frame.getX()).thenReturn(120);
-        when(frame.getY()).thenReturn(200);
-        when(frame.getInsets()).thenReturn(new Insets(40, 0, 0, 0));
+        when(surface.isVisible()).thenReturn(true);
+        when(surface.captureArea()).thenReturn(new Rectangle(120, 240, 640, 480));
         when(robot.createScreenCapture(new Rectangle(120, 240, 640, 480))).thenReturn(screenshot);
-        when(frame.getCanvasSize()).thenReturn(Size.of(640, 480));
 
         var result = screen.takeScreenshot();
 
@@ -86,21 +103,110 @@ class DefaultScreenTest {
     }
 
     @Test
-    void takeScreenshot_withMenuBar_createsScreenshotWithoutMenuBar() {
-        when(frame.isVisible()).thenReturn(true);
-        var screenshot = new BufferedImage(30, 30, BufferedImage.TYPE_INT_ARGB);
-        JMenuBar menuBar = mock(JMenuBar.class);
-        when(menuBar.getHeight()).thenReturn(20);
-        when(frame.getJMenuBar()).thenReturn(menuBar);
-        when(frame.getX()).thenReturn(120);
-        when(frame.getY()).thenReturn(200);
-        when(frame.getInsets()).thenReturn(new Insets(40, 0, 0, 0));
-        when(frame.getCanvasSize()).thenReturn(Size.of(640, 480));
-        when(robot.createScreenCapture(new Rectangle(120, 260, 640, 480))).thenReturn(screenshot);
+    void takeScreenshot_offscreenRenderingWithoutFrame_throwsException() {
+        when(configuration.isUseOffscreenRendering()).thenReturn(true);
 
+        assertThatThrownBy(() -> screen.takeScreenshot())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("no frame has been rendered yet");
+    }
+
+    @Test
+    void takeScreenshot_offscreenRenderingAfterTwoFrames_createsScreenshotOfLastFrameWithoutRobot() {
+        when(configuration.isUseOffscreenRendering()).thenReturn(true);
+        when(configuration.resolution()).thenReturn(Size.of(64, 32));
+        when(configuration.backgroundColor()).thenReturn(Color.RED);
+        doAnswer(invocation -> {
+            invocation.<Supplier<Graphics2D>>getArgument(0).get();
+            return null;
+        }).when(renderer).updateContext(any());
+
+        screen.updateScreen(false);
+        screen.updateScreen(false);
         var result = screen.takeScreenshot();
 
-        assertThat(result.image(now())).isEqualTo(screenshot);
+        assertThat(result.size()).isEqualTo(Size.of(64, 32));
+        verifyNoInteractions(robot);
+    }
+
+    @Test
+    void updateScreen_frameCaptured_rendersIntoCaptureGraphicsAndCompletesFrame() {
+        Graphics2D frameGraphics = mock(Graphics2D.class);
+        Graphics2D captureGraphics = mock(Graphics2D.class);
+        when(surface.getCanvasSize()).thenReturn(Size.of(64, 32));
+        when(surface.nextFrameGraphics()).thenReturn(frameGraphics);
+        when(frameCapture.beginFrame(Size.of(64, 32))).thenReturn(captureGraphics);
+        List<Graphics2D> suppliedGraphics = new ArrayList<>();
+        doAnswer(invocation -> {
+            suppliedGraphics.add(invocation.<Supplier<Graphics2D>>getArgument(0).get());
+            return null;
+        }).when(renderer).updateContext(any());
+
+        screen.updateScreen(false);
+        screen.updateScreen(false);
+
+        assertThat(suppliedGraphics).containsExactly(captureGraphics, captureGraphics);
+        verify(frameCapture).completeFrame(frameGraphics);
+    }
+
+    @Test
+    void requestScreenshot_callbackNull_throwsException() {
+        assertThatThrownBy(() -> screen.requestScreenshot(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("callback must not be null");
+    }
+
+    @Test
+    void requestScreenshot_frameCaptured_updatesLastScreenshotAndInvokesCallback() {
+        Sprite screenshot = Sprite.invisible();
+        doAnswer(invocation -> {
+            invocation.<Consumer<Sprite>>getArgument(0).accept(screenshot);
+            return null;
+        }).when(frameCapture).requestScreenshot(any());
+        List<Sprite> received = new ArrayList<>();
+
+        screen.requestScreenshot(received::add);
+
+        assertThat(received).containsExactly(screenshot);
+        assertThat(screen.lastScreenshot()).contains(screenshot);
+    }
+
+    @Test
+    void startRecording_directoryNull_throwsException() {
+        assertThatThrownBy(() -> screen.startRecording(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("directory must not be null");
+    }
+
+    @Test
+    void startRecording_validDirectory_startsRecording() {
+        Path directory = Path.of("recording");
+
+        screen.startRecording(directory);
+
+        verify(frameCapture).startRecording(directory);
+    }
+
+    @Test
+    void stopRecording_recording_stopsRecording() {
+        screen.stopRecording();
+
+        verify(frameCapture).stopRecording();
+    }
+
+    @Test
+    void isRecording_recordingStarted_isTrue() {
+        when(frameCapture.isRecording()).thenReturn(true);
+
+        assertThat(screen.isRecording()).isTrue();
+    }
+
+    @Test
+    void size_offscreenRendering_returnsResolution() {
+        when(configuration.isUseOffscreenRendering()).thenReturn(true);
+        when(configuration.resolution()).thenReturn(Size.of(64, 32));
+
+        assertThat(screen.size()).isEqualTo(Size.of(64, 32));
     }
 
     @Test
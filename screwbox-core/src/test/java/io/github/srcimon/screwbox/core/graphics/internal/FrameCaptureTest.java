@@ -0,0 +1,111 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.log.Log;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class FrameCaptureTest {
+
+    private static final Size SIZE = Size.of(8, 4);
+
+    @TempDir
+    Path directory;
+
+    List<Runnable> tasks = new ArrayList<>();
+    FrameCapture frameCapture = new FrameCapture(tasks::add, mock(Log.class));
+
+    @Test
+    void beginFrame_nothingRequested_isNull() {
+        assertThat(frameCapture.beginFrame(SIZE)).isNull();
+    }
+
+    @Test
+    void completeFrame_screenshotRequested_deliversRenderedFrameAndDrawsItOntoFrame() {
+        List<Sprite> screenshots = new ArrayList<>();
+        frameCapture.requestScreenshot(screenshots::add);
+        var frame = new BufferedImage(8, 4, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = frameCapture.beginFrame(SIZE);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 8, 4);
+        frameCapture.completeFrame(frame.createGraphics());
+
+        assertThat(screenshots).hasSize(1);
+        var screenshot = (BufferedImage) screenshots.getFirst().singleImage();
+        assertThat(screenshot.getRGB(3, 2)).isEqualTo(Color.RED.getRGB());
+        assertThat(frame.getRGB(3, 2)).isEqualTo(Color.RED.getRGB());
+    }
+
+    @Test
+    void beginFrame_screenshotAlreadyDelivered_isNull() {
+        frameCapture.requestScreenshot(screenshot -> {
+        });
+        frameCapture.beginFrame(SIZE);
+        frameCapture.completeFrame(new BufferedImage(8, 4, BufferedImage.TYPE_INT_RGB).createGraphics());
+
+        assertThat(frameCapture.beginFrame(SIZE)).isNull();
+    }
+
+    @Test
+    void startRecording_alreadyRecording_throwsException() {
+        frameCapture.startRecording(directory);
+
+        assertThatThrownBy(() -> frameCapture.startRecording(directory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("recording has already been started");
+    }
+
+    @Test
+    void stopRecording_recording_isNotRecording() {
+        frameCapture.startRecording(directory);
+
+        frameCapture.stopRecording();
+
+        assertThat(frameCapture.isRecording()).isFalse();
+    }
+
+    @Test
+    void completeFrame_recording_submitsFrameToRecorder() {
+        frameCapture.startRecording(directory);
+
+        for (int frame = 0; frame < 3; frame++) {
+            frameCapture.beginFrame(SIZE);
+            frameCapture.completeFrame(new BufferedImage(8, 4, BufferedImage.TYPE_INT_RGB).createGraphics());
+        }
+        frameCapture.stopRecording();
+        tasks.getFirst().run();
+
+        assertThat(directory.resolve("frame-000001.png")).exists();
+        assertThat(directory.resolve("frame-000003.png")).exists();
+        assertThat(Files.exists(directory.resolve("frame-000004.png"))).isFalse();
+    }
+
+    @Test
+    void isRecording_writingFrameFailed_isFalse() throws IOException {
+        Path recording = directory.resolve("recording");
+        // a non-empty directory cannot be replaced by the frame
+        Files.createDirectories(recording.resolve("frame-000001.png").resolve("blocked"));
+        frameCapture.startRecording(recording);
+        frameCapture.beginFrame(SIZE);
+        frameCapture.completeFrame(new BufferedImage(8, 4, BufferedImage.TYPE_INT_RGB).createGraphics());
+
+        tasks.getFirst().run();
+
+        assertThat(frameCapture.isRecording()).isFalse();
+        assertThat(frameCapture.beginFrame(SIZE)).isNull();
+    }
+}
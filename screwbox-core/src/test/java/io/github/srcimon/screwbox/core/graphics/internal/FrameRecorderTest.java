@@ -0,0 +1,105 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.log.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class FrameRecorderTest {
+
+    private static final Size SIZE = Size.of(8, 4);
+
+    @TempDir
+    Path directory;
+
+    List<Runnable> tasks;
+    Log log;
+    FrameRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayList<>();
+        log = mock(Log.class);
+        recorder = new FrameRecorder(directory.resolve("recording"), tasks::add, log);
+    }
+
+    @Test
+    void newInstance_directoryMissing_createsDirectoryAndStartsWriter() {
+        assertThat(directory.resolve("recording")).isDirectory();
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void borrowImage_poolExhausted_dropsFrame() {
+        for (int i = 0; i < FrameRecorder.IMAGE_POOL_SIZE; i++) {
+            assertThat(recorder.borrowImage(SIZE)).isNotNull();
+        }
+
+        assertThat(recorder.borrowImage(SIZE)).isNull();
+        assertThat(recorder.droppedFrames()).isOne();
+    }
+
+    @Test
+    void borrowImage_imageWritten_reusesImage() {
+        var image = recorder.borrowImage(SIZE);
+        recorder.submit(image);
+        recorder.stop();
+        tasks.getFirst().run();
+
+        assertThat(recorder.borrowImage(SIZE)).isSameAs(image);
+    }
+
+    @Test
+    void stop_framesSubmitted_writesAllFramesAsPng() throws IOException {
+        var image = recorder.borrowImage(SIZE);
+        image.setRGB(1, 1, 0xff0000);
+        recorder.submit(image);
+        recorder.submit(recorder.borrowImage(SIZE));
+
+        recorder.stop();
+        tasks.getFirst().run();
+
+        assertThat(recorder.writtenFrames()).isEqualTo(2);
+        BufferedImage written = ImageIO.read(directory.resolve("recording").resolve("frame-000001.png").toFile());
+        assertThat(written.getWidth()).isEqualTo(8);
+        assertThat(written.getRGB(1, 1) & 0xffffff).isEqualTo(0xff0000);
+    }
+
+    @Test
+    void submit_afterStop_isIgnored() {
+        recorder.stop();
+        recorder.submit(recorder.borrowImage(SIZE));
+        tasks.getFirst().run();
+
+        assertThat(recorder.writtenFrames()).isZero();
+    }
+
+    @Test
+    void stop_frameCouldNotBeWritten_stopsRecordingAndLogsError() throws IOException {
+        // a non-empty directory cannot be replaced by the frame
+        Files.createDirectories(directory.resolve("recording").resolve("frame-000001.png").resolve("blocked"));
+        recorder.submit(recorder.borrowImage(SIZE));
+        recorder.submit(recorder.borrowImage(SIZE));
+
+        recorder.stop();
+        tasks.getFirst().run();
+
+        assertThat(recorder.hasFailed()).isTrue();
+        assertThat(recorder.writtenFrames()).isZero();
+        verify(log).error(startsWith("recording stopped because frame 1 could not be written"));
+    }
+}
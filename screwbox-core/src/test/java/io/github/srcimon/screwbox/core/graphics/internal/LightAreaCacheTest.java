@@ -0,0 +1,50 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.LightAreaAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static io.github.srcimon.screwbox.core.Vector.$;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LightAreaCacheTest {
+
+    private static final LightAreaCache.Key KEY = new LightAreaCache.Key($$(0, 0, 10, 10), 0, 360,
+            LightAreaAlgorithm.RAYCAST, List.of(), List.of());
+
+    LightAreaCache lightAreaCache;
+
+    @BeforeEach
+    void setUp() {
+        lightAreaCache = new LightAreaCache();
+    }
+
+    @Test
+    void getOrCalculate_areaNotUsedWithinLastFrame_calculatesArea() {
+        lightAreaCache.getOrCalculate(KEY, () -> List.of($(1, 1)));
+        lightAreaCache.nextFrame();
+        lightAreaCache.nextFrame();
+
+        var area = lightAreaCache.getOrCalculate(KEY, () -> List.of($(2, 2)));
+
+        assertThat(area).containsExactly($(2, 2));
+        assertThat(lightAreaCache.misses()).isEqualTo(2);
+        assertThat(lightAreaCache.hits()).isZero();
+    }
+
+    @Test
+    void getOrCalculate_areaUsedEveryFrame_isKept() {
+        lightAreaCache.getOrCalculate(KEY, () -> List.of($(1, 1)));
+        for (int frame = 0; frame < 3; frame++) {
+            lightAreaCache.nextFrame();
+            lightAreaCache.getOrCalculate(KEY, () -> List.of($(2, 2)));
+        }
+
+        assertThat(lightAreaCache.getOrCalculate(KEY, () -> List.of($(2, 2)))).containsExactly($(1, 1));
+        assertThat(lightAreaCache.misses()).isOne();
+        assertThat(lightAreaCache.hits()).isEqualTo(4);
+    }
+}
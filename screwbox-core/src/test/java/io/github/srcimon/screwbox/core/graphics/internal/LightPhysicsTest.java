@@ -1,9 +1,13 @@
 package io.github.srcimon.screwbox.core.graphics.internal;
 
 import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.graphics.LightAreaAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static io.github.srcimon.screwbox.core.Bounds.$$;
 import static io.github.srcimon.screwbox.core.Vector.$;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -11,11 +15,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LightPhysicsTest {
 
+    LightAreaCache lightAreaCache;
     LightPhysics lightPhysics;
 
     @BeforeEach
     void setUp() {
-        lightPhysics = new LightPhysics();
+        lightAreaCache = new LightAreaCache();
+        lightPhysics = new LightPhysics(lightAreaCache);
     }
 
     @Test
@@ -82,4 +88,84 @@ class LightPhysicsTest {
 
         assertThat(lightPhysics.isCoveredByShadowCasters($(1, 1))).isFalse();
     }
+
+    @Test
+    void calculateVisibilityPolygon_noShadowCasters_returnsLightBoxOutline() {
+        var area = lightPhysics.calculateVisibilityPolygon($$(0, 0, 100, 100), 0, 360);
+
+        assertNodes(area, $(100, 0), $(100, 100), $(0, 100), $(0, 0));
+    }
+
+    @Test
+    void calculateVisibilityPolygon_coneLight_startsWithLightPosition() {
+        var area = lightPhysics.calculateVisibilityPolygon($$(0, 0, 100, 100), 0, 90);
+
+        assertNodes(area, $(50, 50), $(50, 0), $(100, 0), $(100, 50));
+    }
+
+    @Test
+    void calculateVisibilityPolygon_shadowCasterPresent_areaEndsAtShadowCaster() {
+        lightPhysics.addShadowCaster($$(40, 10, 20, 10));
+
+        var area = lightPhysics.calculateVisibilityPolygon($$(0, 0, 100, 100), 0, 360);
+
+        assertNodes(area, $(60, 20), $(66.667, 0), $(100, 0), $(100, 100), $(0, 100), $(0, 0), $(33.333, 0), $(40, 20));
+    }
+
+    @Test
+    void calculateVisibilityPolygon_overlappingShadowCasters_containsCrossingOfEdges() {
+        lightPhysics.addShadowCaster($$(30, 20, 30, 10));
+        lightPhysics.addShadowCaster($$(50, 10, 20, 30));
+
+        var area = lightPhysics.calculateVisibilityPolygon($$(0, 0, 100, 100), 0, 360);
+
+        assertNodes(area, $(50, 40), $(70, 40), $(100, 25), $(100, 100), $(0, 100), $(0, 0), $(30, 30), $(50, 30));
+    }
+
+    @Test
+    void calculateArea_nothingChangedSinceLastFrame_reusesArea() {
+        lightPhysics.addShadowCaster($$(40, 10, 20, 10));
+        var area = lightPhysics.calculateArea($$(0, 0, 100, 100), 0, 360, LightAreaAlgorithm.ANGULAR_SWEEP);
+
+        lightPhysics.clear();
+        lightAreaCache.nextFrame();
+        lightPhysics.addShadowCaster($$(40, 10, 20, 10));
+        var cachedArea = lightPhysics.calculateArea($$(0, 0, 100, 100), 0, 360, LightAreaAlgorithm.ANGULAR_SWEEP);
+
+        assertThat(cachedArea).isSameAs(area);
+        assertThat(lightAreaCache.hits()).isOne();
+        assertThat(lightAreaCache.misses()).isOne();
+    }
+
+    @Test
+    void calculateArea_shadowCasterMoved_calculatesNewArea() {
+        lightPhysics.addShadowCaster($$(40, 10, 20, 10));
+        var area = lightPhysics.calculateArea($$(0, 0, 100, 100), 0, 360, LightAreaAlgorithm.ANGULAR_SWEEP);
+
+        lightPhysics.clear();
+        lightAreaCache.nextFrame();
+        lightPhysics.addShadowCaster($$(40, 12, 20, 10));
+        var updatedArea = lightPhysics.calculateArea($$(0, 0, 100, 100), 0, 360, LightAreaAlgorithm.ANGULAR_SWEEP);
+
+        assertThat(updatedArea).isNotEqualTo(area);
+        assertThat(lightAreaCache.hits()).isZero();
+        assertThat(lightAreaCache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void calculateArea_distantShadowCasterAdded_reusesArea() {
+        lightPhysics.calculateArea($$(0, 0, 100, 100), 0, 360, LightAreaAlgorithm.RAYCAST);
+        lightPhysics.addShadowCaster($$(400, 400, 20, 10));
+
+        lightPhysics.calculateArea($$(0, 0, 100, 100), 0, 360, LightAreaAlgorithm.RAYCAST);
+
+        assertThat(lightAreaCache.hits()).isOne();
+    }
+
+    private void assertNodes(final List<Vector> area, final Vector... expected) {
+        assertThat(area).hasSize(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(area.get(i).distanceTo(expected[i])).isLessThan(0.001);
+        }
+    }
 }
@@ -4,7 +4,10 @@ import io.github.srcimon.screwbox.core.assets.Asset;
 import io.github.srcimon.screwbox.core.graphics.Color;
 import io.github.srcimon.screwbox.core.graphics.Frame;
 import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.LightAreaAlgorithm;
+import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
 import io.github.srcimon.screwbox.core.graphics.Viewport;
 import io.github.srcimon.screwbox.core.test.TestUtil;
@@ -21,6 +24,9 @@ import java.util.concurrent.Executors;
 import static io.github.srcimon.screwbox.core.Bounds.$$;
 import static io.github.srcimon.screwbox.core.Vector.$;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 
 @Timeout(1)
 @MockitoSettings
@@ -44,7 +50,7 @@ class LightRendererTest {
         viewport = new DefaultViewport(canvas, new DefaultCamera(canvas));
         configuration = new GraphicsConfiguration();
         executor = Executors.newSingleThreadExecutor();
-        lightRenderer = new LightRenderer(lightPhysics, configuration, executor, viewport, postFilter -> postFilter);
+        lightRenderer = new LightRenderer(lightPhysics, configuration, executor, viewport, postFilter -> postFilter, new LightmapBufferPool());
     }
 
     @Test
@@ -83,6 +89,57 @@ class LightRendererTest {
         verifyIsIdenticalWithReferenceImage(sprite, "renderLight_spotLightPresent_createsImage.png");
     }
 
+    @Test
+    void renderLight_angularSweepConfigured_usesConfiguredAlgorithm() {
+        configuration.setLightAreaAlgorithm(LightAreaAlgorithm.ANGULAR_SWEEP);
+        lightRenderer.addPointLight($(60, 20), 40, Color.BLACK);
+
+        lightRenderer.renderLight().get();
+
+        verify(lightPhysics).calculateArea(any(), eq(0.0), eq(360.0), eq(LightAreaAlgorithm.ANGULAR_SWEEP));
+    }
+
+    @Test
+    void renderLight_manyPointLights_resultIsIndependentOfThreadScheduling() {
+        var realLightPhysics = new LightPhysics(new LightAreaCache());
+        realLightPhysics.addShadowCaster($$(40, 30, 20, 10));
+        var first = new LightRenderer(realLightPhysics, configuration, executor, viewport, postFilter -> postFilter, new LightmapBufferPool());
+        var second = new LightRenderer(realLightPhysics, configuration, executor, viewport, postFilter -> postFilter, new LightmapBufferPool());
+        for (int i = 0; i < 20; i++) {
+            first.addPointLight($(i * 8, 20 + i), 30, Color.rgb(i * 10, 0, 0));
+            second.addPointLight($(i * 8, 20 + i), 30, Color.rgb(i * 10, 0, 0));
+        }
+
+        var firstFrame = first.renderLight().get().singleFrame();
+        var secondFrame = second.renderLight().get().singleFrame();
+
+        assertThat(firstFrame.listPixelDifferences(secondFrame)).isEmpty();
+        assertThat(firstFrame.colors()).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void renderLight_rasterLightmapWithoutLights_isBlack() {
+        configuration.setUseRasterLightmap(true);
+        lightRenderer = new LightRenderer(lightPhysics, configuration, executor, viewport, postFilter -> postFilter, new LightmapBufferPool());
+
+        var sprite = lightRenderer.renderLight();
+
+        assertCompletelyBlack(sprite);
+        assertThat(sprite.get().size()).isEqualTo(Size.of(46, 26));
+    }
+
+    @Test
+    void renderLight_rasterLightmapWithSpotLight_lightsCenterAndKeepsBordersDark() {
+        configuration.setUseRasterLightmap(true).setLightmapBlur(0);
+        lightRenderer = new LightRenderer(lightPhysics, configuration, executor, viewport, postFilter -> postFilter, new LightmapBufferPool());
+        lightRenderer.addSpotLight($(60, 20), 40, Color.BLACK);
+
+        var frame = lightRenderer.renderLight().get().singleFrame();
+
+        assertThat(frame.colorAt(Offset.at(36, 16)).opacity().value()).isLessThan(0.1);
+        assertThat(frame.colorAt(Offset.at(4, 4))).isEqualTo(Color.BLACK);
+    }
+
     @AfterEach
     void tearDown() {
         TestUtil.shutdown(executor);
@@ -0,0 +1,62 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LightmapBufferPoolTest {
+
+    LightmapBufferPool bufferPool;
+
+    @BeforeEach
+    void setUp() {
+        bufferPool = new LightmapBufferPool();
+    }
+
+    @Test
+    void acquire_bufferUsedWithinLastFrames_returnsNewBuffer() {
+        var first = bufferPool.acquire(20, 10);
+        bufferPool.nextFrame();
+        bufferPool.nextFrame();
+
+        var second = bufferPool.acquire(20, 10);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(bufferPool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_bufferNotUsedForThreeFrames_reusesBuffer() {
+        var first = bufferPool.acquire(20, 10);
+        bufferPool.nextFrame();
+        bufferPool.nextFrame();
+        bufferPool.nextFrame();
+
+        assertThat(bufferPool.acquire(20, 10)).isSameAs(first);
+    }
+
+    @Test
+    void acquire_differentSize_returnsNewBuffer() {
+        var first = bufferPool.acquire(20, 10);
+        for (int i = 0; i < 3; i++) {
+            bufferPool.nextFrame();
+        }
+
+        var second = bufferPool.acquire(10, 20);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getWidth()).isEqualTo(10);
+    }
+
+    @Test
+    void nextFrame_bufferUnusedForLongTime_dropsBuffer() {
+        bufferPool.acquire(20, 10);
+
+        for (int i = 0; i < 61; i++) {
+            bufferPool.nextFrame();
+        }
+
+        assertThat(bufferPool.size()).isZero();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffscreenSurfaceTest {
+
+    Size size;
+    OffscreenSurface surface;
+
+    @BeforeEach
+    void setUp() {
+        size = Size.of(40, 20);
+        surface = new OffscreenSurface(() -> size);
+    }
+
+    @Test
+    void lastFrame_noFrameCompleted_isEmpty() {
+        surface.nextFrameGraphics();
+
+        assertThat(surface.lastFrame()).isEmpty();
+    }
+
+    @Test
+    void lastFrame_frameCompleted_containsDrawing() {
+        Graphics2D graphics = surface.nextFrameGraphics();
+        graphics.setColor(java.awt.Color.RED);
+        graphics.fillRect(0, 0, 40, 20);
+
+        surface.nextFrameGraphics();
+
+        BufferedImage lastFrame = surface.lastFrame().orElseThrow();
+        assertThat(lastFrame.getWidth()).isEqualTo(40);
+        assertThat(lastFrame.getRGB(10, 10)).isEqualTo(java.awt.Color.RED.getRGB());
+    }
+
+    @Test
+    void nextFrameGraphics_sizeUnchanged_reusesImages() {
+        surface.nextFrameGraphics();
+        surface.nextFrameGraphics();
+        BufferedImage first = surface.lastFrame().orElseThrow();
+        surface.nextFrameGraphics();
+        surface.nextFrameGraphics();
+
+        assertThat(surface.lastFrame()).containsSame(first);
+    }
+
+    @Test
+    void nextFrameGraphics_sizeChanged_createsImageWithNewSize() {
+        surface.nextFrameGraphics();
+        size = Size.of(80, 60);
+
+        surface.nextFrameGraphics();
+        surface.nextFrameGraphics();
+
+        assertThat(surface.lastFrame().orElseThrow().getWidth()).isEqualTo(80);
+    }
+
+    @Test
+    void canvasPosition_isOrigin() {
+        assertThat(surface.canvasPosition()).isEqualTo(Offset.origin());
+        assertThat(surface.isVisible()).isTrue();
+    }
+}
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
+import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -76,6 +78,22 @@ class AsyncRendererTest {
         verify(renderer, timeout(1000)).fillWith(Color.BLUE, CLIP);
     }
 
+    @Test
+    void updateContext_tiledRendering_rendersIntoGraphicsWithoutNextRenderer() {
+        var image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        asyncRenderer.setTiledRendering(true);
+        asyncRenderer.updateContext(() -> graphics);
+        asyncRenderer.fillWith(Color.RED, CLIP);
+
+        asyncRenderer.updateContext(() -> graphics);
+        asyncRenderer.updateContext(() -> graphics);
+
+        assertThat(image.getRGB(5, 5)).isEqualTo(java.awt.Color.RED.getRGB());
+        verify(renderer, never()).updateContext(any());
+        verify(renderer, never()).fillWith(any(Color.class), any());
+    }
+
     @AfterEach
     void afterEach() {
         executor.shutdown();
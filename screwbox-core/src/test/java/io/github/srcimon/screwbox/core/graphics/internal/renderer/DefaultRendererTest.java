@@ -5,6 +5,7 @@ import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
 import io.github.srcimon.screwbox.core.graphics.Size;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteAtlas;
 import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
 import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
 import java.awt.*;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -63,4 +65,27 @@ class DefaultRendererTest {
 
         verify(graphics, times(3)).drawImage(any(), any(), any());
     }
+
+    @Test
+    void drawSprite_spriteFromAtlas_drawsAreaOfAtlasPage() {
+        var large = Sprite.placeholder(Color.BLUE, 16);
+        var small = Sprite.placeholder(Color.RED, 8);
+        var atlas = SpriteAtlas.pack(List.of(large, small));
+        var region = atlas.get(small).singleFrame().atlasRegion().orElseThrow();
+
+        renderer.drawSprite(atlas.get(small), Offset.at(100, 50), SpriteDrawOptions.scaled(2), CLIP);
+
+        verify(graphics).drawImage(region.page(), 100, 50, 116, 66, 17, 0, 25, 8, null);
+    }
+
+    @Test
+    void drawSprite_flippedSpriteFromAtlas_swapsCornersOfTargetArea() {
+        var sprite = Sprite.placeholder(Color.RED, 8);
+        var atlas = SpriteAtlas.pack(List.of(sprite));
+        var region = atlas.get(sprite).singleFrame().atlasRegion().orElseThrow();
+
+        renderer.drawSprite(atlas.get(sprite), Offset.at(10, 20), SpriteDrawOptions.originalSize().flipHorizontal(true), CLIP);
+
+        verify(graphics).drawImage(region.page(), 18, 20, 10, 28, 0, 0, 8, 8, null);
+    }
 }
@@ -0,0 +1,135 @@
+package io.github.srcimon.screwbox.core.graphics.internal.renderer;
+
+import io.github.srcimon.screwbox.core.Rotation;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.CircleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.LineDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteFillOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SystemTextDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.internal.Renderer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@MockitoSettings
+class RenderCommandBufferTest {
+
+    private static final ScreenBounds CLIP = new ScreenBounds(Size.of(640, 480));
+    private static final Sprite SPRITE = Sprite.placeholder(Color.RED, 16);
+
+    @Mock
+    Renderer renderer;
+
+    RenderCommandBuffer commands = new RenderCommandBuffer();
+
+    @Test
+    void replay_allCommandTypes_replaysCommandsInOrder() {
+        Supplier<Sprite> spriteSupplier = () -> SPRITE;
+        var batch = new SpriteBatch();
+        commands.rotate(Rotation.none(), CLIP, Color.BLACK);
+        commands.fillWith(Color.BLUE, CLIP);
+        commands.fillWith(SPRITE, SpriteFillOptions.scale(2), CLIP);
+        commands.drawText(Offset.at(1, 2), "text", SystemTextDrawOptions.systemFont("Arial"), CLIP);
+        commands.drawRectangle(Offset.at(3, 4), Size.of(5, 6), RectangleDrawOptions.filled(Color.RED), CLIP);
+        commands.drawLine(Offset.at(1, 1), Offset.at(9, 9), LineDrawOptions.color(Color.RED), CLIP);
+        commands.drawCircle(Offset.at(20, 30), 12, CircleDrawOptions.filled(Color.RED), CLIP);
+        commands.drawSprite(spriteSupplier, Offset.at(7, 8), SpriteDrawOptions.originalSize(), CLIP);
+        commands.drawSprite(SPRITE, Offset.at(9, 10), SpriteDrawOptions.scaled(2), CLIP);
+        commands.drawSpriteBatch(batch, CLIP);
+
+        commands.replay(renderer);
+
+        InOrder order = inOrder(renderer);
+        order.verify(renderer).rotate(Rotation.none(), CLIP, Color.BLACK);
+        order.verify(renderer).fillWith(Color.BLUE, CLIP);
+        order.verify(renderer).fillWith(SPRITE, SpriteFillOptions.scale(2), CLIP);
+        order.verify(renderer).drawText(Offset.at(1, 2), "text", SystemTextDrawOptions.systemFont("Arial"), CLIP);
+        order.verify(renderer).drawRectangle(Offset.at(3, 4), Size.of(5, 6), RectangleDrawOptions.filled(Color.RED), CLIP);
+        order.verify(renderer).drawLine(Offset.at(1, 1), Offset.at(9, 9), LineDrawOptions.color(Color.RED), CLIP);
+        order.verify(renderer).drawCircle(Offset.at(20, 30), 12, CircleDrawOptions.filled(Color.RED), CLIP);
+        order.verify(renderer).drawSprite(spriteSupplier, Offset.at(7, 8), SpriteDrawOptions.originalSize(), CLIP);
+        order.verify(renderer).drawSprite(SPRITE, Offset.at(9, 10), SpriteDrawOptions.scaled(2), CLIP);
+        order.verify(renderer).drawSpriteBatch(batch, CLIP);
+        assertThat(commands.size()).isEqualTo(10);
+    }
+
+    @Test
+    void replay_areaNotAffectedByCommand_skipsCommand() {
+        commands.drawCircle(Offset.at(20, 30), 10, CircleDrawOptions.filled(Color.RED), CLIP);
+        commands.drawSprite(SPRITE, Offset.at(400, 400), SpriteDrawOptions.originalSize(), CLIP);
+
+        commands.replay(renderer, 380, 380, 100, 100);
+
+        verify(renderer, never()).drawCircle(any(), any(Integer.class), any(), any());
+        verify(renderer).drawSprite(SPRITE, Offset.at(400, 400), SpriteDrawOptions.originalSize(), CLIP);
+    }
+
+    @Test
+    void replay_transformed_replaysAllCommands() {
+        commands.rotate(Rotation.degrees(20), CLIP, Color.BLACK);
+        commands.drawCircle(Offset.at(20, 30), 10, CircleDrawOptions.filled(Color.RED), CLIP);
+
+        commands.replay(renderer, 380, 380, 100, 100);
+
+        assertThat(commands.isTransformed()).isTrue();
+        verify(renderer).drawCircle(Offset.at(20, 30), 10, CircleDrawOptions.filled(Color.RED), CLIP);
+    }
+
+    @Test
+    void maxX_spriteInsideClip_isRightBorderOfSpritePlusMargin() {
+        commands.drawSprite(SPRITE, Offset.at(100, 50), SpriteDrawOptions.scaled(2), CLIP);
+
+        assertThat(commands.maxX()).isEqualTo(133);
+        assertThat(commands.maxY()).isEqualTo(83);
+    }
+
+    @Test
+    void maxX_circleOutsideClip_isLimitedByClip() {
+        commands.drawCircle(Offset.at(630, 470), 40, CircleDrawOptions.filled(Color.RED), CLIP);
+
+        assertThat(commands.maxX()).isEqualTo(640);
+        assertThat(commands.maxY()).isEqualTo(480);
+    }
+
+    @Test
+    void resolveSprites_spriteSupplier_replaysSuppliedSprite() {
+        commands.drawSprite(() -> SPRITE, Offset.at(7, 8), SpriteDrawOptions.originalSize(), CLIP);
+
+        commands.resolveSprites();
+        commands.replay(renderer);
+
+        verify(renderer).drawSprite(SPRITE, Offset.at(7, 8), SpriteDrawOptions.originalSize(), CLIP);
+    }
+
+    @Test
+    void clear_someCommands_removesCommands() {
+        commands.rotate(Rotation.degrees(20), CLIP, Color.BLACK);
+        for (int i = 0; i < 1000; i++) {
+            commands.drawCircle(Offset.at(20, 30), 10, CircleDrawOptions.filled(Color.RED), CLIP);
+        }
+
+        commands.clear();
+        commands.replay(renderer);
+
+        assertThat(commands.size()).isZero();
+        assertThat(commands.isTransformed()).isFalse();
+        verifyNoInteractions(renderer);
+    }
+}
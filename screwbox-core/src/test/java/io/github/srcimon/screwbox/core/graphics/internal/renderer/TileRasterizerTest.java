@@ -0,0 +1,107 @@
+package io.github.srcimon.screwbox.core.graphics.internal.renderer;
+
+import io.github.srcimon.screwbox.core.Time;
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.CircleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TileRasterizerTest {
+
+    private static final ScreenBounds SCREEN = new ScreenBounds(Size.of(600, 300));
+
+    ExecutorService executor;
+    TileRasterizer tileRasterizer;
+    RenderCommandBuffer commands;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        tileRasterizer = new TileRasterizer(executor, 4);
+        commands = new RenderCommandBuffer();
+    }
+
+    @Test
+    void render_noCommands_doesntDrawOnTarget() {
+        var target = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+
+        tileRasterizer.render(commands, target.createGraphics(), Time.now());
+
+        assertThat(target.getRGB(5, 5)).isZero();
+        assertThat(tileRasterizer.tileCount()).isZero();
+    }
+
+    @Test
+    void render_someCommands_createsTilesCoveringAllCommands() {
+        commands.fillWith(Color.BLACK, SCREEN);
+
+        render();
+
+        assertThat(tileRasterizer.tileCount()).isEqualTo(6);
+    }
+
+    @Test
+    void render_overlappingCommands_sameResultAsSequentialRendering() {
+        commands.fillWith(Color.BLUE, SCREEN);
+        commands.drawRectangle(Offset.at(200, 200), Size.of(100, 60), RectangleDrawOptions.filled(Color.RED), SCREEN);
+        commands.drawCircle(Offset.at(256, 256), 40, CircleDrawOptions.filled(Color.YELLOW), SCREEN);
+        var sequential = renderSequential();
+
+        var tiled = render();
+
+        for (int x = 0; x < SCREEN.width(); x += 7) {
+            for (int y = 0; y < SCREEN.height(); y += 7) {
+                assertThat(tiled.getRGB(x, y)).isEqualTo(sequential.getRGB(x, y));
+            }
+        }
+        assertThat(tiled.getRGB(256, 256)).isEqualTo(java.awt.Color.YELLOW.getRGB());
+        assertThat(tiled.getRGB(210, 205)).isEqualTo(java.awt.Color.RED.getRGB());
+    }
+
+    @Test
+    void render_spriteSupplier_resolvesSpriteOnce() {
+        var resolved = new AtomicInteger();
+        commands.drawSprite(() -> {
+            resolved.incrementAndGet();
+            return Sprite.placeholder(Color.RED, 16);
+        }, Offset.at(250, 10), SpriteDrawOptions.originalSize(), SCREEN);
+
+        var tiled = render();
+
+        assertThat(resolved).hasValue(1);
+        assertThat(tiled.getRGB(258, 12)).isNotZero();
+    }
+
+    private BufferedImage render() {
+        var target = new BufferedImage(SCREEN.width(), SCREEN.height(), BufferedImage.TYPE_INT_RGB);
+        tileRasterizer.render(commands, target.createGraphics(), Time.now());
+        return target;
+    }
+
+    private BufferedImage renderSequential() {
+        var target = new BufferedImage(SCREEN.width(), SCREEN.height(), BufferedImage.TYPE_INT_RGB);
+        var renderer = new DefaultRenderer();
+        renderer.updateContext(target::createGraphics);
+        commands.replay(renderer);
+        return target;
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+}
@@ -23,7 +23,7 @@ class DefaultLoopTest {
     @BeforeEach
     void beforeEach() {
         updatables = new ArrayList<>();
-        loop = new DefaultLoop(updatables);
+        loop = new DefaultLoop(updatables, new DefaultProfiler(), new SimulationTimestep());
     }
 
     @Test
@@ -217,6 +217,109 @@ class DefaultLoopTest {
                 .hasMessage("speed cannot exceed 10.0");
     }
 
+    @Test
+    void start_profilerEnabled_recordsTimingOfUpdatables() {
+        updatables.add(new StopAfterOneFrame());
+        loop.profiler().enable();
+
+        loop.start();
+
+        assertThat(loop.profiler().timing("StopAfterOneFrame")).isPresent()
+                .get().matches(timing -> timing.samples() == 1);
+    }
+
+    @Test
+    void start_profilerDisabled_recordsNoTimings() {
+        updatables.add(stopAfterOneFrameUpdatable());
+
+        loop.start();
+
+        assertThat(loop.profiler().timings()).isEmpty();
+    }
+
+    @Test
+    void enableFixedTimestep_updatesPerSecondNotPositive_throwsException() {
+        assertThatThrownBy(() -> loop.enableFixedTimestep(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("updates per second must be positive");
+    }
+
+    @Test
+    void enableFixedTimestep_validUpdatesPerSecond_enablesFixedTimestep() {
+        loop.enableFixedTimestep(60);
+
+        assertThat(loop.isFixedTimestep()).isTrue();
+    }
+
+    @Test
+    void disableFixedTimestep_fixedTimestepEnabled_disablesFixedTimestepAndResetsAlpha() {
+        loop.enableFixedTimestep(60);
+
+        loop.disableFixedTimestep();
+
+        assertThat(loop.isFixedTimestep()).isFalse();
+        assertThat(loop.interpolationAlpha()).isEqualTo(1);
+    }
+
+    @Test
+    void delta_fixedTimestepWhileSimulating_returnsStepLength() {
+        SimulationTimestep timestep = new SimulationTimestep();
+        loop = new DefaultLoop(updatables, new DefaultProfiler(), timestep);
+        loop.enableFixedTimestep(50);
+
+        timestep.setSimulating(true);
+
+        assertThat(loop.delta()).isEqualTo(0.02);
+    }
+
+    @Test
+    void delta_fixedTimestepNotSimulating_returnsFrameDelta() {
+        loop.enableFixedTimestep(50);
+
+        assertThat(loop.delta()).isZero();
+    }
+
+    @Test
+    void awaitTermination_loopRunningInOtherThread_waitsUntilLoopIsStopped() throws Exception {
+        updatables.add(() -> sleep(ofMillis(1)));
+        Thread thread = new Thread(loop::start);
+        thread.start();
+        sleep(ofMillis(20));
+
+        loop.stop();
+        loop.awaitTermination();
+
+        thread.join(1000);
+        assertThat(thread.isAlive()).isFalse();
+    }
+
+    @Test
+    void missedFrameDeadlines_framesTakeLongerThanTarget_countsMissedDeadlines() {
+        updatables.add(() -> sleep(ofMillis(12)));
+        updatables.add(() -> {
+            if (loop.frameNumber() == 2) {
+                loop.stop();
+            }
+        });
+
+        loop.start();
+
+        assertThat(loop.missedFrameDeadlines()).isPositive();
+    }
+
+    @Test
+    void frameTimeDeviation_notStarted_isNone() {
+        assertThat(loop.frameTimeDeviation()).isEqualTo(Duration.none());
+    }
+
+    private class StopAfterOneFrame implements Updatable {
+
+        @Override
+        public void update() {
+            loop.stop();
+        }
+    }
+
     private Updatable stopAfterOneFrameUpdatable() {
         return () -> loop.stop();
     }
@@ -0,0 +1,102 @@
+package io.github.srcimon.screwbox.core.loop.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.loop.PhaseTiming;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultProfilerTest {
+
+    DefaultProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new DefaultProfiler();
+    }
+
+    @Test
+    void isEnabled_newInstance_isFalse() {
+        assertThat(profiler.isEnabled()).isFalse();
+    }
+
+    @Test
+    void record_disabled_recordsNothing() {
+        profiler.record("physics", 400);
+
+        assertThat(profiler.timings()).isEmpty();
+    }
+
+    @Test
+    void timing_hundredSamples_returnsPercentiles() {
+        profiler.enable();
+        for (int i = 1; i <= 100; i++) {
+            profiler.record("physics", i);
+        }
+
+        assertThat(profiler.timing("physics")).contains(
+                new PhaseTiming("physics", Duration.ofNanos(50), Duration.ofNanos(95), Duration.ofNanos(99), 100));
+    }
+
+    @Test
+    void timing_moreSamplesThanCapacity_usesLatestSamples() {
+        profiler.enable();
+        for (int i = 0; i < DefaultProfiler.SAMPLES_PER_PHASE; i++) {
+            profiler.record("physics", 1000);
+        }
+        for (int i = 0; i < DefaultProfiler.SAMPLES_PER_PHASE; i++) {
+            profiler.record("physics", 10);
+        }
+
+        var timing = profiler.timing("physics").orElseThrow();
+
+        assertThat(timing.samples()).isEqualTo(DefaultProfiler.SAMPLES_PER_PHASE);
+        assertThat(timing.p99()).isEqualTo(Duration.ofNanos(10));
+    }
+
+    @Test
+    void timing_unknownPhase_isEmpty() {
+        assertThat(profiler.timing("unknown")).isEmpty();
+    }
+
+    @Test
+    void timing_phaseNull_throwsException() {
+        assertThatThrownBy(() -> profiler.timing(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("phase must not be null");
+    }
+
+    @Test
+    void timings_multiplePhases_slowestPhaseFirst() {
+        profiler.enable();
+        profiler.record("audio", 20);
+        profiler.record("physics", 400);
+        profiler.record("light", 100);
+
+        assertThat(profiler.timings()).extracting(PhaseTiming::phase)
+                .containsExactly("physics", "light", "audio");
+    }
+
+    @Test
+    void record_concurrentWrites_recordsAllSamples() {
+        profiler.enable();
+
+        IntStream.range(0, 200).parallel().forEach(i -> profiler.record("physics", 5));
+
+        assertThat(profiler.timing("physics").orElseThrow().samples()).isEqualTo(200);
+    }
+
+    @Test
+    void reset_timingsPresent_removesTimings() {
+        profiler.enable();
+        profiler.record("physics", 400);
+
+        profiler.reset();
+
+        assertThat(profiler.timings()).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.srcimon.screwbox.core.loop.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.github.srcimon.screwbox.core.Duration.ofMillis;
+import static io.github.srcimon.screwbox.core.test.TestUtil.sleep;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FramePacerTest {
+
+    FramePacer framePacer;
+
+    @BeforeEach
+    void beforeEach() {
+        framePacer = new FramePacer();
+    }
+
+    @Test
+    void awaitNextFrame_firstFrame_doesntWait() {
+        var duration = Duration.ofExecution(() -> framePacer.awaitNextFrame(10));
+
+        assertThat(duration.milliseconds()).isLessThan(50);
+    }
+
+    @Test
+    void awaitNextFrame_secondFrame_waitsForFrameDeadline() {
+        framePacer.awaitNextFrame(20);
+
+        var duration = Duration.ofExecution(() -> framePacer.awaitNextFrame(20));
+
+        assertThat(duration.milliseconds()).isBetween(45L, 150L);
+        assertThat(framePacer.missedDeadlines()).isZero();
+    }
+
+    @Test
+    void awaitNextFrame_frameTookTooLong_countsMissedDeadlineWithoutWaiting() {
+        framePacer.awaitNextFrame(100);
+        sleep(ofMillis(30));
+
+        var duration = Duration.ofExecution(() -> framePacer.awaitNextFrame(100));
+
+        assertThat(duration.milliseconds()).isLessThan(10);
+        assertThat(framePacer.missedDeadlines()).isOne();
+    }
+
+    @Test
+    void awaitNextFrame_unlockedFps_neverCountsMissedDeadlines() {
+        framePacer.awaitNextFrame(Integer.MAX_VALUE);
+        sleep(ofMillis(2));
+        framePacer.awaitNextFrame(Integer.MAX_VALUE);
+
+        assertThat(framePacer.missedDeadlines()).isZero();
+    }
+
+    @Test
+    void frameTimeDeviation_noFrames_isNone() {
+        assertThat(framePacer.frameTimeDeviation()).isEqualTo(Duration.none());
+    }
+
+    @Test
+    void frameTimeDeviation_framesWithDifferentLength_isPositive() {
+        framePacer.awaitNextFrame(Integer.MAX_VALUE);
+        sleep(ofMillis(2));
+        framePacer.awaitNextFrame(Integer.MAX_VALUE);
+        sleep(ofMillis(20));
+        framePacer.awaitNextFrame(Integer.MAX_VALUE);
+
+        assertThat(framePacer.frameTimeDeviation().milliseconds()).isPositive();
+    }
+
+    @Test
+    void reset_afterFrame_nextFrameDoesntWait() {
+        framePacer.awaitNextFrame(10);
+        framePacer.reset();
+
+        var duration = Duration.ofExecution(() -> framePacer.awaitNextFrame(10));
+
+        assertThat(duration.milliseconds()).isLessThan(50);
+    }
+}
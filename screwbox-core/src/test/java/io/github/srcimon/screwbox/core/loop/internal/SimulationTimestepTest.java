@@ -0,0 +1,82 @@
+package io.github.srcimon.screwbox.core.loop.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SimulationTimestepTest {
+
+    private static final long STEP_NANOS = 10_000_000;
+
+    SimulationTimestep timestep;
+
+    @BeforeEach
+    void beforeEach() {
+        timestep = new SimulationTimestep();
+    }
+
+    @Test
+    void simulationSteps_variableTimestep_isAlwaysOne() {
+        timestep.advance(STEP_NANOS * 3);
+
+        assertThat(timestep.simulationSteps()).isOne();
+        assertThat(timestep.alpha()).isEqualTo(1);
+    }
+
+    @Test
+    void advance_lessThanOneStepPassed_noSimulationStep() {
+        timestep.enableFixed(100);
+
+        timestep.advance(STEP_NANOS / 4);
+
+        assertThat(timestep.simulationSteps()).isZero();
+        assertThat(timestep.alpha()).isEqualTo(0.25, within(0.001));
+    }
+
+    @Test
+    void advance_timeAccumulatesOverFrames_consumesWholeSteps() {
+        timestep.enableFixed(100);
+
+        timestep.advance(STEP_NANOS * 3 / 4);
+        timestep.advance(STEP_NANOS * 3 / 4);
+
+        assertThat(timestep.simulationSteps()).isOne();
+        assertThat(timestep.alpha()).isEqualTo(0.5, within(0.001));
+    }
+
+    @Test
+    void advance_veryLongFrame_limitsStepsAndDropsBacklog() {
+        timestep.enableFixed(100);
+
+        timestep.advance(STEP_NANOS * 20 + STEP_NANOS / 2);
+
+        assertThat(timestep.simulationSteps()).isEqualTo(SimulationTimestep.MAX_STEPS_PER_FRAME);
+        assertThat(timestep.alpha()).isEqualTo(0.5, within(0.001));
+
+        timestep.advance(0);
+
+        assertThat(timestep.simulationSteps()).isZero();
+    }
+
+    @Test
+    void stepSeconds_sixtyUpdatesPerSecond_isOneSixtieth() {
+        timestep.enableFixed(60);
+
+        assertThat(timestep.stepSeconds()).isEqualTo(1.0 / 60, within(0.000001));
+        assertThat(timestep.updatesPerSecond()).isEqualTo(60);
+    }
+
+    @Test
+    void disableFixed_afterSimulation_resetsToSingleStep() {
+        timestep.enableFixed(100);
+        timestep.advance(STEP_NANOS / 2);
+
+        timestep.disableFixed();
+
+        assertThat(timestep.isFixed()).isFalse();
+        assertThat(timestep.simulationSteps()).isOne();
+        assertThat(timestep.alpha()).isEqualTo(1);
+    }
+}
@@ -2,6 +2,8 @@ package io.github.srcimon.screwbox.core.particles.internal;
 
 import io.github.srcimon.screwbox.core.Duration;
 import io.github.srcimon.screwbox.core.Ease;
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
@@ -11,7 +13,11 @@ import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import io.github.srcimon.screwbox.core.environment.rendering.RenderComponent;
 import io.github.srcimon.screwbox.core.environment.tweening.TweenComponent;
 import io.github.srcimon.screwbox.core.environment.tweening.TweenDestroyComponent;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.Viewport;
 import io.github.srcimon.screwbox.core.graphics.internal.AttentionFocus;
+import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.particles.ParticleOptions;
 import io.github.srcimon.screwbox.core.scenes.internal.DefaultScenes;
 import org.junit.jupiter.api.Test;
@@ -26,6 +32,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -34,6 +43,9 @@ import static org.mockito.Mockito.when;
 @MockitoSettings
 class DefaultParticlesTest {
 
+    @Mock
+    Engine engine;
+
     @Mock
     DefaultEnvironment environment;
 
@@ -184,4 +196,86 @@ class DefaultParticlesTest {
 
         assertThat(particles.isWithinSpawnArea($(100, 1000))).isTrue();
     }
+
+    @Test
+    void spawn_batchedMode_doesntAddEntity() {
+        Loop loop = mock(Loop.class);
+        when(engine.loop()).thenReturn(loop);
+        when(loop.time()).thenReturn(Time.now());
+        when(attentionFocus.isWithinDistanceToVisibleArea(any(), anyDouble())).thenReturn(true);
+        when(scenes.activeEnvironment()).thenReturn(environment);
+
+        particles.setBatchedMode(true);
+        particles.spawnMultiple(4, $(20, 10), ParticleOptions.unknownSource().animateOpacity().randomRotation(2));
+        particles.update();
+
+        verify(environment, never()).addEntity(any(Entity.class));
+        assertThat(particles.isBatchedMode()).isTrue();
+        assertThat(particles.particleCount()).isEqualTo(4);
+        assertThat(particles.particlesSpawnCount()).isEqualTo(4);
+    }
+
+    @Test
+    void spawn_batchedModeWithUnsupportedOptions_addsEntity() {
+        when(attentionFocus.isWithinDistanceToVisibleArea(any(), anyDouble())).thenReturn(true);
+        when(scenes.activeEnvironment()).thenReturn(environment);
+
+        particles.setBatchedMode(true);
+        particles.spawn($(20, 10), ParticleOptions.unknownSource().chaoticMovement(20, Duration.ofMillis(200)));
+
+        verify(environment).addEntity(any(Entity.class));
+    }
+
+    @Test
+    void spawn_batchedModeWithCustomModifier_addsEntity() {
+        when(attentionFocus.isWithinDistanceToVisibleArea(any(), anyDouble())).thenReturn(true);
+        when(scenes.activeEnvironment()).thenReturn(environment);
+
+        particles.setBatchedMode(true);
+        particles.spawn($(20, 10), ParticleOptions.unknownSource().customize("custom", entity -> entity.name("custom")));
+
+        verify(environment).addEntity(any(Entity.class));
+    }
+
+    @Test
+    void addBatchedParticles_particleVisible_addsParticleToSpriteBatch() {
+        Loop loop = mock(Loop.class);
+        when(engine.loop()).thenReturn(loop);
+        when(loop.time()).thenReturn(Time.now());
+        when(attentionFocus.isWithinDistanceToVisibleArea(any(), anyDouble())).thenReturn(true);
+        when(scenes.activeEnvironment()).thenReturn(environment);
+        Viewport viewport = mock(Viewport.class, RETURNS_DEEP_STUBS);
+        when(viewport.camera().zoom()).thenReturn(2.0);
+        when(viewport.camera().focus()).thenReturn($(20, 10));
+        when(viewport.canvas().width()).thenReturn(640);
+        when(viewport.canvas().height()).thenReturn(480);
+        SpriteBatch spriteBatch = new SpriteBatch();
+
+        particles.setBatchedMode(true);
+        particles.spawn($(20, 10), ParticleOptions.unknownSource().startScale(2).drawOrder(4));
+        particles.spawn($(2000, 10), ParticleOptions.unknownSource());
+        particles.update();
+        particles.addBatchedParticles(viewport, spriteBatch);
+
+        assertThat(spriteBatch.entriesInOrder()).singleElement().satisfies(entry -> {
+            assertThat(entry.drawOrder()).isEqualTo(4);
+            assertThat(entry.options().scale()).isEqualTo(4);
+            assertThat(entry.offset()).isEqualTo(Offset.at(320 - entry.sprite().width() * 2, 240 - entry.sprite().height() * 2));
+        });
+    }
+
+    @Test
+    void update_batchedParticleLifetimeOver_removesParticle() {
+        Loop loop = mock(Loop.class);
+        when(engine.loop()).thenReturn(loop);
+        when(loop.time()).thenReturn(Time.now().addSeconds(2));
+        when(attentionFocus.isWithinDistanceToVisibleArea(any(), anyDouble())).thenReturn(true);
+        when(scenes.activeEnvironment()).thenReturn(environment);
+
+        particles.setBatchedMode(true);
+        particles.spawn($(20, 10), ParticleOptions.unknownSource().lifetimeSeconds(1));
+        particles.update();
+
+        assertThat(particles.particleCount()).isZero();
+    }
 }
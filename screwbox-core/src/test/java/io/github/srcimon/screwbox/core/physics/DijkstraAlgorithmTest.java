@@ -8,6 +8,8 @@ import java.util.List;
 
 import static io.github.srcimon.screwbox.core.Bounds.$$;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
 
 class DijkstraAlgorithmTest {
 
@@ -42,12 +44,93 @@ class DijkstraAlgorithmTest {
         List<Grid.Node> path = algorithm.findPath(grid, start, end);
 
         assertThat(path).containsExactly(
-                grid.nodeAt(0, 1),
-                grid.nodeAt(0, 2),
-                grid.nodeAt(0, 3),
-                grid.nodeAt(1, 4),
-                grid.nodeAt(2, 4),
-                grid.nodeAt(3, 4),
+                grid.nodeAt(1, 0),
+                grid.nodeAt(2, 0),
+                grid.nodeAt(3, 0),
+                grid.nodeAt(4, 1),
+                grid.nodeAt(4, 2),
+                grid.nodeAt(4, 3),
                 grid.nodeAt(4, 4));
     }
+
+    @Test
+    void findPath_straightLine_avoidsDiagonalDetours() {
+        Grid grid = new Grid($$(0, 0, 5, 5), 1);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 0));
+
+        assertThat(path).containsExactly(
+                grid.nodeAt(1, 0),
+                grid.nodeAt(2, 0),
+                grid.nodeAt(3, 0),
+                grid.nodeAt(4, 0));
+    }
+
+    @Test
+    void findPath_multipleTargets_returnsPathToNearestTarget() {
+        Grid grid = new Grid($$(0, 0, 10, 10), 1);
+        grid.blockArea($$(0, 2, 9, 1));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0),
+                List.of(grid.nodeAt(0, 4), grid.nodeAt(6, 0), grid.nodeAt(20, 20)));
+
+        assertThat(path).hasSize(6).last().isEqualTo(grid.nodeAt(6, 0));
+    }
+
+    @Test
+    void findPath_noTargetReachable_returnsEmpty() {
+        Grid grid = new Grid($$(0, 0, 5, 5), 1);
+        grid.blockArea($$(2, 0, 1, 5));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), List.of(grid.nodeAt(4, 4), grid.nodeAt(3, 0)));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_targetsNull_throwsException() {
+        Grid grid = new Grid($$(0, 0, 5, 5), 1);
+        Grid.Node start = grid.nodeAt(0, 0);
+
+        assertThatThrownBy(() -> algorithm.findPath(grid, start, (List<Grid.Node>) null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("targets must not be null");
+    }
+
+    @Test
+    void distanceMap_someNodesBlocked_containsDistancesOfReachableNodes() {
+        Grid grid = new Grid($$(0, 0, 5, 5), 1);
+        grid.blockArea($$(2, 0, 1, 5));
+
+        DistanceMap distanceMap = algorithm.distanceMap(grid, grid.nodeAt(0, 0));
+
+        assertThat(distanceMap.reachableCount()).isEqualTo(10);
+        assertThat(distanceMap.distance(grid.nodeAt(0, 0))).isZero();
+        assertThat(distanceMap.distance(grid.nodeAt(1, 4))).isEqualTo(3 + Math.sqrt(2), offset(0.001));
+        assertThat(distanceMap.isReachable(grid.nodeAt(3, 3))).isFalse();
+        assertThat(distanceMap.distance(grid.nodeAt(3, 3))).isInfinite();
+        assertThat(distanceMap.isReachable(grid.nodeAt(-1, 3))).isFalse();
+    }
+
+    @Test
+    void distanceMap_multipleSourcesAndMaxDistance_containsDistancesToNearestSource() {
+        Grid grid = new Grid($$(0, 0, 10, 1), 1);
+
+        DistanceMap distanceMap = algorithm.distanceMap(grid, List.of(grid.nodeAt(0, 0), grid.nodeAt(9, 0)), 3);
+
+        assertThat(distanceMap.distance(grid.nodeAt(2, 0))).isEqualTo(2);
+        assertThat(distanceMap.distance(grid.nodeAt(7, 0))).isEqualTo(2);
+        assertThat(distanceMap.isReachable(grid.nodeAt(5, 0))).isFalse();
+        assertThat(distanceMap.reachableCount()).isEqualTo(8);
+    }
+
+    @Test
+    void distanceMap_maxDistanceZero_throwsException() {
+        Grid grid = new Grid($$(0, 0, 5, 5), 1);
+        List<Grid.Node> sources = List.of(grid.nodeAt(0, 0));
+
+        assertThatThrownBy(() -> algorithm.distanceMap(grid, sources, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("max distance must be positive");
+    }
 }
@@ -0,0 +1,75 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static io.github.srcimon.screwbox.core.Vector.$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlowFieldTest {
+
+    Grid grid;
+    FlowField flowField;
+
+    @BeforeEach
+    void beforeEach() {
+        grid = new Grid($$(0, 0, 50, 50), 10);
+        grid.blockArea($$(20, 0, 10, 40));
+        grid.blockArea($$(40, 40, 10, 10));
+        flowField = new DijkstraAlgorithm().flowField(grid, grid.nodeAt(4, 0));
+    }
+
+    @Test
+    void nextNode_wallBetweenNodeAndTarget_leadsAroundWall() {
+        Grid.Node node = grid.nodeAt(0, 0);
+        for (int i = 0; i < 20 && !node.equals(flowField.target()); i++) {
+            node = flowField.nextNode(node).orElseThrow();
+            assertThat(grid.isFree(node)).isTrue();
+        }
+
+        assertThat(node).isEqualTo(flowField.target());
+    }
+
+    @Test
+    void nextNode_target_isEmpty() {
+        assertThat(flowField.nextNode(grid.nodeAt(4, 0))).isEmpty();
+    }
+
+    @Test
+    void nextNode_unreachableNode_isEmpty() {
+        assertThat(flowField.nextNode(grid.nodeAt(4, 4))).isEmpty();
+        assertThat(flowField.nextNode(grid.nodeAt(-1, 4))).isEmpty();
+    }
+
+    @Test
+    void nextPosition_positionBelowTarget_returnsCenterOfNextNode() {
+        assertThat(flowField.nextPosition($(41, 12))).contains($(45, 5));
+    }
+
+    @Test
+    void nextPosition_positionWithinTarget_returnsCenterOfTarget() {
+        assertThat(flowField.nextPosition($(41, 2))).contains($(45, 5));
+        assertThat(flowField.isAtTarget($(41, 2))).isTrue();
+    }
+
+    @Test
+    void isReachable_blockedNode_isFalse() {
+        assertThat(flowField.isReachable($(25, 5))).isFalse();
+        assertThat(flowField.isReachable($(5, 5))).isTrue();
+    }
+
+    @Test
+    void distanceMap_containsDistancesToTarget() {
+        assertThat(flowField.distanceMap().distance(grid.nodeAt(4, 3))).isEqualTo(3);
+    }
+
+    @Test
+    void nextPosition_positionNull_throwsException() {
+        assertThatThrownBy(() -> flowField.nextPosition(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("position must not be null");
+    }
+}
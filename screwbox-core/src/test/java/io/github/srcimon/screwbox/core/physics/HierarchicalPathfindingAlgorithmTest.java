@@ -0,0 +1,166 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Grid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalPathfindingAlgorithmTest {
+
+    HierarchicalPathfindingAlgorithm algorithm;
+
+    @BeforeEach
+    void beforeEach() {
+        algorithm = new HierarchicalPathfindingAlgorithm(8);
+    }
+
+    @Test
+    void newInstance_clusterSizeZero_throwsException() {
+        assertThatThrownBy(() -> new HierarchicalPathfindingAlgorithm(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cluster size must be positive");
+    }
+
+    @Test
+    void findPath_noPath_returnsEmpty() {
+        Grid grid = new Grid($$(0, 0, 32, 32), 1);
+        grid.blockArea($$(12, 0, 1, 32));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(31, 31));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_endBlocked_returnsEmpty() {
+        Grid grid = new Grid($$(0, 0, 40, 40), 1);
+        grid.block(30, 30);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(2, 2), grid.nodeAt(30, 30));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_endBlockedInStartCluster_returnsEmpty() {
+        Grid grid = new Grid($$(0, 0, 40, 40), 1);
+        grid.block(6, 6);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(2, 2), grid.nodeAt(6, 6));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_startAndEndInSameCluster_returnsShortestPath() {
+        Grid grid = new Grid($$(0, 0, 32, 32), 1);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(3, 3));
+
+        assertThat(path).containsExactly(grid.nodeAt(1, 1), grid.nodeAt(2, 2), grid.nodeAt(3, 3));
+    }
+
+    @Test
+    void findPath_endBehindWall_leadsAroundWall() {
+        Grid grid = new Grid($$(0, 0, 32, 32), 1);
+        grid.blockArea($$(0, 12, 28, 1));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(2, 2), grid.nodeAt(2, 20));
+
+        assertConnected(grid, grid.nodeAt(2, 2), path);
+        assertThat(path).contains(grid.nodeAt(28, 12)).endsWith(grid.nodeAt(2, 20));
+    }
+
+    @Test
+    void findPath_nodesBlockedAfterFirstSearch_updatesOnlyAffectedClusters() {
+        Grid grid = new Grid($$(0, 0, 64, 64), 1);
+        algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(63, 63));
+        int entrancesBefore = algorithm.entranceCount();
+
+        grid.blockArea($$(26, 26, 4, 4));
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(63, 63));
+
+        assertThat(algorithm.updatedClusterCount()).isEqualTo(5);
+        assertThat(algorithm.entranceCount()).isEqualTo(entrancesBefore);
+        assertConnected(grid, grid.nodeAt(0, 0), path);
+    }
+
+    @Test
+    void findPath_gridReplacedBySameSizedGrid_updatesOnlyChangedClusters() {
+        Grid grid = new Grid($$(0, 0, 64, 64), 1);
+        algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(63, 63));
+
+        Grid newGrid = grid.clearedInstance();
+        newGrid.blockArea($$(0, 30, 60, 1));
+        List<Grid.Node> path = algorithm.findPath(newGrid, newGrid.nodeAt(0, 0), newGrid.nodeAt(0, 63));
+
+        assertThat(algorithm.updatedClusterCount()).isEqualTo(24);
+        assertConnected(newGrid, newGrid.nodeAt(0, 0), path);
+        assertThat(path).endsWith(newGrid.nodeAt(0, 63));
+    }
+
+    @Test
+    void findPath_gridUnchanged_doesntUpdateClusters() {
+        Grid grid = new Grid($$(0, 0, 64, 64), 1);
+        algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(63, 63));
+
+        algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(63, 63));
+
+        assertThat(algorithm.updatedClusterCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void findPath_randomGrids_returnsConnectedPathsNearlyAsShortAsAStar(boolean useDiagonalSearch) {
+        Random random = new Random(11);
+        IndexedAStarAlgorithm reference = new IndexedAStarAlgorithm();
+        for (int i = 0; i < 40; i++) {
+            int size = 10 + random.nextInt(50);
+            Grid grid = new Grid($$(0, 0, size, size), 1, useDiagonalSearch);
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    if (random.nextDouble() < 0.25) {
+                        grid.block(x, y);
+                    }
+                }
+            }
+            Grid.Node start = grid.nodeAt(random.nextInt(size), random.nextInt(size));
+            Grid.Node end = grid.nodeAt(random.nextInt(size), random.nextInt(size));
+            grid.freeArea(grid.worldArea(start));
+            grid.freeArea(grid.worldArea(end));
+
+            List<Grid.Node> path = algorithm.findPath(grid, start, end);
+            List<Grid.Node> expected = reference.findPath(grid, start, end);
+
+            assertThat(path.isEmpty()).isEqualTo(expected.isEmpty());
+            assertConnected(grid, start, path);
+            assertThat(cost(start, path)).isLessThanOrEqualTo(cost(start, expected) * 1.5 + 0.001);
+        }
+    }
+
+    private static void assertConnected(final Grid grid, final Grid.Node start, final List<Grid.Node> path) {
+        Grid.Node last = start;
+        for (var node : path) {
+            assertThat(grid.reachableNeighbors(last)).contains(node);
+            last = node;
+        }
+    }
+
+    private static double cost(final Grid.Node start, final List<Grid.Node> path) {
+        double cost = 0;
+        Grid.Node last = start;
+        for (var node : path) {
+            cost += node.distance(last);
+            last = node;
+        }
+        return cost;
+    }
+}
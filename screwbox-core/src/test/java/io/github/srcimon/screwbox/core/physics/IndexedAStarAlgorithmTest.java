@@ -0,0 +1,115 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Grid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedAStarAlgorithmTest {
+
+    IndexedAStarAlgorithm algorithm;
+
+    @BeforeEach
+    void beforeEach() {
+        algorithm = new IndexedAStarAlgorithm();
+    }
+
+    @Test
+    void findPath_noPath_returnsEmpty() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+        grid.blockArea(Bounds.$$(2, 0, 1, 5));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 4));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_startEqualsEnd_returnsEmpty() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(2, 2), grid.nodeAt(2, 2));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_endOutOfGrid_returnsEmpty() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(2, 2), grid.nodeAt(7, 2));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_pathPresent_returnsShortestPath() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+        grid.blockArea(Bounds.$$(2, 2, 2, 2));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 4));
+
+        assertThat(path).hasSize(7).endsWith(grid.nodeAt(4, 4));
+        assertThat(path).doesNotContain(grid.nodeAt(2, 2), grid.nodeAt(3, 3));
+        assertThat(cost(grid.nodeAt(0, 0), path)).isEqualTo(6 + Math.sqrt(2), withinPrecision());
+    }
+
+    @Test
+    void findPath_diagonalSearchDisabled_returnsPathWithoutDiagonals() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1, false);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 4));
+
+        assertThat(path).hasSize(8);
+        assertThat(cost(grid.nodeAt(0, 0), path)).isEqualTo(8);
+    }
+
+    @Test
+    void findPath_cornerBlocked_doesntCutCorner() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 3, 3), 1);
+        grid.block(1, 0);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(1, 1));
+
+        assertThat(path).containsExactly(grid.nodeAt(0, 1), grid.nodeAt(1, 1));
+    }
+
+    @Test
+    void findPath_multipleGridsOfDifferentSize_returnsPathsOfSameLengthAsDijkstraAlgorithm() {
+        Random random = new Random(42);
+        DijkstraAlgorithm reference = new DijkstraAlgorithm();
+        for (int size : new int[]{12, 30, 8, 30}) {
+            Grid grid = new Grid(Bounds.$$(0, 0, size, size), 1, false);
+            for (int i = 0; i < size * size / 5; i++) {
+                grid.block(random.nextInt(size), random.nextInt(size));
+            }
+            Grid.Node start = grid.nodeAt(0, 0);
+            Grid.Node end = grid.nodeAt(size - 1, size - 1);
+            grid.freeArea(grid.worldArea(start));
+            grid.freeArea(grid.worldArea(end));
+
+            List<Grid.Node> path = algorithm.findPath(grid, start, end);
+
+            assertThat(path).hasSameSizeAs(reference.findPath(grid, start, end));
+        }
+    }
+
+    private static double cost(final Grid.Node start, final List<Grid.Node> path) {
+        double cost = 0;
+        Grid.Node last = start;
+        for (var node : path) {
+            cost += node.distance(last);
+            last = node;
+        }
+        return cost;
+    }
+
+    private static org.assertj.core.data.Offset<Double> withinPrecision() {
+        return org.assertj.core.data.Offset.offset(0.001);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Grid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+class JumpPointSearchAlgorithmTest {
+
+    JumpPointSearchAlgorithm algorithm;
+
+    @BeforeEach
+    void beforeEach() {
+        algorithm = new JumpPointSearchAlgorithm();
+    }
+
+    @Test
+    void findPath_noPath_returnsEmpty() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+        grid.blockArea(Bounds.$$(2, 0, 1, 5));
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 4));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_startEqualsEnd_returnsEmpty() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(2, 2), grid.nodeAt(2, 2));
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void findPath_freeGrid_returnsEveryNodeOnDiagonal() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 4));
+
+        assertThat(path).containsExactly(
+                grid.nodeAt(1, 1),
+                grid.nodeAt(2, 2),
+                grid.nodeAt(3, 3),
+                grid.nodeAt(4, 4));
+    }
+
+    @Test
+    void findPath_cornerBlocked_doesntCutCorner() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 3, 3), 1);
+        grid.block(1, 0);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(1, 1));
+
+        assertThat(path).containsExactly(grid.nodeAt(0, 1), grid.nodeAt(1, 1));
+    }
+
+    @Test
+    void findPath_diagonalSearchDisabled_returnsPathWithoutDiagonals() {
+        Grid grid = new Grid(Bounds.$$(0, 0, 5, 5), 1, false);
+
+        List<Grid.Node> path = algorithm.findPath(grid, grid.nodeAt(0, 0), grid.nodeAt(4, 4));
+
+        assertThat(path).hasSize(8);
+        assertThat(cost(grid.nodeAt(0, 0), path)).isEqualTo(8);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.1, 0.25, 0.4})
+    void findPath_randomGrids_returnsConnectedPathsAsShortAsAStar(double blockedRatio) {
+        Random random = new Random(7);
+        IndexedAStarAlgorithm reference = new IndexedAStarAlgorithm();
+        for (int i = 0; i < 50; i++) {
+            int size = 8 + random.nextInt(40);
+            Grid grid = new Grid(Bounds.$$(0, 0, size, size), 1);
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    if (random.nextDouble() < blockedRatio) {
+                        grid.block(x, y);
+                    }
+                }
+            }
+            Grid.Node start = grid.nodeAt(random.nextInt(size), random.nextInt(size));
+            Grid.Node end = grid.nodeAt(random.nextInt(size), random.nextInt(size));
+            grid.freeArea(grid.worldArea(start));
+            grid.freeArea(grid.worldArea(end));
+
+            List<Grid.Node> path = algorithm.findPath(grid, start, end);
+            List<Grid.Node> expected = reference.findPath(grid, start, end);
+
+            assertThat(path.isEmpty()).isEqualTo(expected.isEmpty());
+            assertThat(cost(start, path)).isEqualTo(cost(start, expected), offset(0.001));
+            Grid.Node last = start;
+            for (var node : path) {
+                assertThat(grid.reachableNeighbors(last)).contains(node);
+                last = node;
+            }
+        }
+    }
+
+    private static double cost(final Grid.Node start, final List<Grid.Node> path) {
+        double cost = 0;
+        Grid.Node last = start;
+        for (var node : path) {
+            cost += node.distance(last);
+            last = node;
+        }
+        return cost;
+    }
+}
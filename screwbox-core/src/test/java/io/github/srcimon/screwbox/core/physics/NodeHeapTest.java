@@ -0,0 +1,82 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NodeHeapTest {
+
+    NodeHeap heap;
+
+    @BeforeEach
+    void beforeEach() {
+        heap = new NodeHeap();
+        heap.reset(1000);
+    }
+
+    @Test
+    void poll_multipleNodes_returnsNodesOrderedByPriority() {
+        heap.push(4, 3.5f);
+        heap.push(7, 1.0f);
+        heap.push(1, 9.0f);
+        heap.push(2, 0.5f);
+
+        assertThat(heap.poll()).isEqualTo(2);
+        assertThat(heap.poll()).isEqualTo(7);
+        assertThat(heap.poll()).isEqualTo(4);
+        assertThat(heap.poll()).isEqualTo(1);
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void push_nodeAlreadyContainedWithLowerPriority_decreasesPriority() {
+        heap.push(4, 3.5f);
+        heap.push(7, 1.0f);
+        heap.push(4, 0.2f);
+
+        assertThat(heap.size()).isEqualTo(2);
+        assertThat(heap.poll()).isEqualTo(4);
+    }
+
+    @Test
+    void push_nodeAlreadyContainedWithHigherPriority_keepsPriority() {
+        heap.push(4, 0.5f);
+        heap.push(7, 1.0f);
+        heap.push(4, 2.0f);
+
+        assertThat(heap.poll()).isEqualTo(4);
+    }
+
+    @Test
+    void contains_nodeRemoved_isFalse() {
+        heap.push(4, 0.5f);
+        heap.push(7, 1.0f);
+
+        heap.poll();
+
+        assertThat(heap.contains(4)).isFalse();
+        assertThat(heap.contains(7)).isTrue();
+    }
+
+    @Test
+    void push_manyNodes_growsAndKeepsOrder() {
+        for (int i = 999; i >= 0; i--) {
+            heap.push(i, i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(heap.poll()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void reset_nodesPresent_removesAllNodes() {
+        heap.push(4, 0.5f);
+
+        heap.reset(10);
+
+        assertThat(heap.isEmpty()).isTrue();
+        assertThat(heap.contains(4)).isFalse();
+    }
+}
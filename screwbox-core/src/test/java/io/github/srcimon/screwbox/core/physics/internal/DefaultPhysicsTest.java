@@ -33,6 +33,27 @@ class DefaultPhysicsTest {
                 .hasMessage("no grid present");
     }
 
+    @Test
+    void flowField_noGrid_throwsException() {
+        Vector target = $(2, 5);
+
+        assertThatThrownBy(() -> physics.flowField(target))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("no grid present");
+    }
+
+    @Test
+    void flowField_gridPresent_returnsCachedFlowFieldToTarget() {
+        Grid grid = new Grid($$(0, 0, 10, 10), 2);
+        physics.setGrid(grid);
+
+        var flowField = physics.flowField($(9, 9));
+
+        assertThat(flowField.target()).isEqualTo(grid.nodeAt(4, 4));
+        assertThat(flowField.grid()).isSameAs(grid);
+        assertThat(physics.flowField($(8.5, 8.5))).isSameAs(flowField);
+    }
+
     @Test
     void findPath_gridPresent_addsStartEndEndPositions() {
         Grid grid = new Grid($$(0, 0, 10, 10), 2, false);
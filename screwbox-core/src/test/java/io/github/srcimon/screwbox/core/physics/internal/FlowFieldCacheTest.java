@@ -0,0 +1,115 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.async.Async;
+import io.github.srcimon.screwbox.core.physics.FlowField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FlowFieldCacheTest {
+
+    @Mock
+    Async async;
+
+    FlowFieldCache cache;
+    Grid grid;
+
+    @BeforeEach
+    void beforeEach() {
+        cache = new FlowFieldCache();
+        grid = new Grid($$(0, 0, 10, 10), 1);
+    }
+
+    @Test
+    void get_sameTargetTwice_returnsCachedFlowField() {
+        FlowField first = cache.get(grid, grid.nodeAt(2, 2));
+        FlowField second = cache.get(grid, grid.nodeAt(2, 2));
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void get_gridReplaced_returnsNewFlowField() {
+        FlowField first = cache.get(grid, grid.nodeAt(2, 2));
+        Grid newGrid = grid.clearedInstance();
+
+        FlowField second = cache.get(newGrid, grid.nodeAt(2, 2));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.grid()).isSameAs(newGrid);
+    }
+
+    @Test
+    void get_manyTargets_keepsOnlyRecentlyUsedFlowFields() {
+        for (int x = 0; x < 10; x++) {
+            cache.get(grid, grid.nodeAt(x, 0));
+        }
+
+        assertThat(cache.size()).isEqualTo(FlowFieldCache.MAX_SIZE);
+    }
+
+    @Test
+    void getAsync_notCached_calculatesFlowFieldUsingAsync() {
+        Optional<FlowField> result = cache.getAsync(grid, grid.nodeAt(2, 2), async);
+
+        assertThat(result).isEmpty();
+
+        var task = ArgumentCaptor.forClass(Runnable.class);
+        verify(async).runExclusive(any(), task.capture());
+        task.getValue().run();
+
+        assertThat(cache.getAsync(grid, grid.nodeAt(2, 2), async)).isPresent();
+    }
+
+    @Test
+    void getAsync_gridReplaced_returnsEmptyWhileCalculating() {
+        cache.get(grid, grid.nodeAt(2, 2));
+        Grid newGrid = grid.clearedInstance();
+
+        Optional<FlowField> result = cache.getAsync(newGrid, grid.nodeAt(2, 2), async);
+
+        assertThat(result).isEmpty();
+
+        var task = ArgumentCaptor.forClass(Runnable.class);
+        verify(async).runExclusive(any(), task.capture());
+        task.getValue().run();
+
+        assertThat(cache.getAsync(newGrid, grid.nodeAt(2, 2), async))
+                .hasValueSatisfying(flowField -> assertThat(flowField.grid()).isSameAs(newGrid));
+    }
+
+    @Test
+    void get_gridChangedInPlace_returnsNewFlowField() {
+        FlowField first = cache.get(grid, grid.nodeAt(2, 2));
+        grid.block(1, 2);
+
+        FlowField second = cache.get(grid, grid.nodeAt(2, 2));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.nextNode(grid.nodeAt(0, 2))).isNotEqualTo(first.nextNode(grid.nodeAt(0, 2)));
+    }
+
+    @Test
+    void getAsync_gridChangedInPlace_returnsFlowFieldOfPreviousVersion() {
+        FlowField previous = cache.get(grid, grid.nodeAt(2, 2));
+        grid.block(1, 2);
+
+        Optional<FlowField> result = cache.getAsync(grid, grid.nodeAt(2, 2), async);
+
+        assertThat(result).contains(previous);
+        verify(async).runExclusive(any(), any());
+    }
+}
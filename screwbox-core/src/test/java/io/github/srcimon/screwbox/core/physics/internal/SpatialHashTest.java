@@ -0,0 +1,109 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpatialHashTest {
+
+    SpatialHash spatialHash;
+
+    @BeforeEach
+    void setUp() {
+        spatialHash = new SpatialHash(16);
+    }
+
+    @Test
+    void newInstance_invalidCellSize_throwsException() {
+        assertThatThrownBy(() -> new SpatialHash(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cell size must be positive");
+    }
+
+    @Test
+    void query_entityInRange_returnsEntityOnlyOnce() {
+        Entity entity = new Entity().bounds(Bounds.atOrigin(0, 0, 40, 40));
+        spatialHash.update(entity);
+
+        assertThat(query(Bounds.atOrigin(-10, -10, 80, 80))).containsExactly(entity);
+    }
+
+    @Test
+    void query_entityOutOfRange_isEmpty() {
+        spatialHash.update(new Entity().bounds(Bounds.atOrigin(0, 0, 10, 10)));
+
+        assertThat(query(Bounds.atOrigin(100, 100, 10, 10))).isEmpty();
+    }
+
+    @Test
+    void query_entityMovedAfterUpdate_returnsEntityAtNewPosition() {
+        Entity entity = new Entity().bounds(Bounds.atOrigin(0, 0, 10, 10));
+        spatialHash.update(entity);
+
+        entity.moveTo(Vector.of(200, 200));
+        spatialHash.update(entity);
+
+        assertThat(query(Bounds.atOrigin(0, 0, 10, 10))).isEmpty();
+        assertThat(query(Bounds.atPosition(200, 200, 10, 10))).containsExactly(entity);
+    }
+
+    @Test
+    void query_entityMovedAfterKeep_returnsEntityAtOldPosition() {
+        Entity entity = new Entity().bounds(Bounds.atOrigin(0, 0, 10, 10));
+        spatialHash.keep(entity);
+
+        entity.moveTo(Vector.of(200, 200));
+        spatialHash.keep(entity);
+
+        assertThat(query(Bounds.atOrigin(0, 0, 10, 10))).containsExactly(entity);
+    }
+
+    @Test
+    void query_oversizedEntity_alwaysReturnsEntity() {
+        Entity entity = new Entity().bounds(Bounds.max());
+        spatialHash.update(entity);
+
+        assertThat(query(Bounds.atPosition(5000, -3000, 1, 1))).containsExactly(entity);
+    }
+
+    @Test
+    void finishSync_entityNotSynced_removesEntity() {
+        Entity kept = new Entity().bounds(Bounds.atOrigin(0, 0, 10, 10));
+        Entity removed = new Entity().bounds(Bounds.atOrigin(0, 0, 10, 10));
+        spatialHash.update(kept);
+        spatialHash.update(removed);
+
+        spatialHash.startSync();
+        spatialHash.update(kept);
+        spatialHash.finishSync();
+
+        assertThat(spatialHash.size()).isEqualTo(1);
+        assertThat(spatialHash.contains(removed)).isFalse();
+        assertThat(query(Bounds.atOrigin(0, 0, 10, 10))).containsExactly(kept);
+    }
+
+    @Test
+    void remove_entityPresent_removesEntity() {
+        Entity entity = new Entity().bounds(Bounds.atOrigin(0, 0, 10, 10));
+        spatialHash.update(entity);
+
+        spatialHash.remove(entity);
+
+        assertThat(spatialHash.size()).isZero();
+        assertThat(query(Bounds.atOrigin(0, 0, 10, 10))).isEmpty();
+    }
+
+    private List<Entity> query(final Bounds bounds) {
+        final List<Entity> result = new ArrayList<>();
+        spatialHash.query(bounds, result);
+        return result;
+    }
+}
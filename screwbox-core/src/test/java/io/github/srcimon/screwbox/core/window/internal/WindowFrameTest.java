@@ -0,0 +1,56 @@
+package io.github.srcimon.screwbox.core.window.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class WindowFrameTest {
+
+    WindowFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        frame = mock(WindowFrame.class, CALLS_REAL_METHODS);
+    }
+
+    @Test
+    void canvasPosition_returnsPositionOfCanvasOnScreen() {
+        doReturn(new Rectangle(40, 30, 1024, 768)).when(frame).getBounds();
+        doReturn(600).when(frame).canvasHeight();
+
+        assertThat(frame.canvasPosition()).isEqualTo(Offset.at(40, 198));
+    }
+
+    @Test
+    void captureArea_noMenuBar_returnsAreaOfCanvas() {
+        doReturn(120).when(frame).getX();
+        doReturn(200).when(frame).getY();
+        doReturn(new Insets(40, 0, 0, 0)).when(frame).getInsets();
+        doReturn(null).when(frame).getJMenuBar();
+        doReturn(Size.of(640, 480)).when(frame).getCanvasSize();
+
+        assertThat(frame.captureArea()).isEqualTo(new Rectangle(120, 240, 640, 480));
+    }
+
+    @Test
+    void captureArea_withMenuBar_returnsAreaWithoutMenuBar() {
+        JMenuBar menuBar = mock(JMenuBar.class);
+        doReturn(20).when(menuBar).getHeight();
+        doReturn(120).when(frame).getX();
+        doReturn(200).when(frame).getY();
+        doReturn(new Insets(40, 0, 0, 0)).when(frame).getInsets();
+        doReturn(menuBar).when(frame).getJMenuBar();
+        doReturn(Size.of(640, 480)).when(frame).getCanvasSize();
+
+        assertThat(frame.captureArea()).isEqualTo(new Rectangle(120, 260, 640, 480));
+    }
+}
@@ -6,6 +6,7 @@ import io.github.srcimon.screwbox.core.graphics.Frame;
 import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.Size;
 import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteAtlas;
 import io.github.srcimon.screwbox.tiled.internal.FrameEntity;
 import io.github.srcimon.screwbox.tiled.internal.TileEntity;
 import io.github.srcimon.screwbox.tiled.internal.TilesetEntity;
@@ -190,6 +191,21 @@ public class Tileset {
         return allSprites.getFirst();
     }
 
+    /**
+     * Packs all {@link Sprite}s of this {@link Tileset} into a {@link SpriteAtlas} and replaces them with their packed
+     * versions. Should be called once after loading the {@link Tileset}.
+     *
+     * @return the {@link SpriteAtlas} containing all {@link Sprite}s
+     * @since 2.15.0
+     */
+    public SpriteAtlas packIntoAtlas() {
+        final SpriteAtlas atlas = SpriteAtlas.pack(allSprites);
+        spritesById.replaceAll((id, sprite) -> atlas.get(sprite));
+        spritesByName.replaceAll((name, sprite) -> atlas.get(sprite));
+        allSprites.replaceAll(atlas::get);
+        return atlas;
+    }
+
     /**
      * Removes all {@link Sprite}s from the {@link Tileset}.
      */
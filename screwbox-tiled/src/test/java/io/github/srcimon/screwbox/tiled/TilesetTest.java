@@ -49,6 +49,16 @@ class TilesetTest {
                 .isInstanceOf(IllegalArgumentException.class).hasMessage("sprite not found: under");
     }
 
+    @Test
+    void packIntoAtlas_spritesPresent_replacesSpritesWithPackedSprites() {
+        var atlas = tileset.packIntoAtlas();
+
+        assertThat(atlas.pageCount()).isEqualTo(1);
+        assertThat(tileset.findById(4)).isSameAs(tileset.findByName("underworld")).isNotSameAs(SPRITE);
+        assertThat(tileset.findById(4).singleFrame().atlasRegion()).isPresent();
+        assertThat(tileset.findById(4).singleFrame().listPixelDifferences(SPRITE.singleFrame())).isEmpty();
+    }
+
     @Test
     void all_returnsAllSprites() {
         tileset.addSprite(9, SPRITE);